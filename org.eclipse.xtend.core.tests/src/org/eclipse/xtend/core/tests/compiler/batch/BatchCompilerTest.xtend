@@ -11,12 +11,15 @@ package org.eclipse.xtend.core.tests.compiler.batch
 import com.google.common.base.Charsets
 import com.google.common.io.Files
 import com.google.inject.Inject
+import com.google.inject.Provider
 import java.io.File
 import java.io.IOException
+import java.util.Map
 import java.util.Set
 import org.apache.log4j.Level
 import org.eclipse.xtend.core.compiler.batch.XtendBatchCompiler
 import org.eclipse.xtend.core.tests.RuntimeInjectorProvider
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet
 import org.eclipse.xtext.testing.InjectWith
 import org.eclipse.xtext.testing.XtextRunner
 import org.eclipse.xtext.testing.logging.LoggingTester
@@ -43,6 +46,9 @@ class BatchCompilerTest {
 	@Inject
 	XtendBatchCompiler batchCompiler
 
+	@Inject
+	Provider<SynchronizedXtextResourceSet> synchronizedResourceSetProvider
+
 	static String OUTPUT_DIRECTORY_WITH_SPACES = "./test result"
 	static String OUTPUT_DIRECTORY = "./test-result"
 	static String XTEND_SRC_DIRECTORY = "./batch-compiler-data/test data"
@@ -412,6 +418,46 @@ class BatchCompilerTest {
 		assertEquals(0, new File(OUTPUT_DIRECTORY + "/test").list[dir, name|name.endsWith(".xtendbin")].size)
 	}
 
+	@Test
+	def void testIncrementalCompilation() {
+		batchCompiler.incrementalStateFile = TEMP_DIRECTORY + "/xtend-state.bin"
+		assertTrue(batchCompiler.compile)
+		val output = new File(OUTPUT_DIRECTORY + "/test")
+		assertEquals(7, output.list[dir, name|name.endsWith(".java")].size)
+		output.listFiles.forEach[lastModified = 0]
+		val log = LoggingTester.captureLogging(Level.INFO, XtendBatchCompiler) [
+			assertTrue(batchCompiler.compile)
+		]
+		log.assertLogEntry("up to date")
+		assertTrue(new File(output, "C.java").delete)
+		assertTrue(batchCompiler.compile)
+		assertTrue(new File(output, "C.java").exists)
+		assertNotEquals(0, new File(output, "B.java").lastModified)
+		assertEquals(0, new File(output, "XtendA.java").lastModified)
+		assertEquals(0, new File(output, "Enum.java").lastModified)
+	}
+
+	@Test
+	def void testParallelGeneration() {
+		batchCompiler.writeTraceFiles = true
+		assertTrue(batchCompiler.compile)
+		val expected = generatedFiles
+		assertEquals(14, expected.size)
+		cleanFolder(new File(OUTPUT_DIRECTORY), null, true, false)
+		batchCompiler.generationThreads = 4
+		batchCompiler.resourceSetProvider = [synchronizedResourceSetProvider.get]
+		assertTrue(batchCompiler.compile)
+		assertEquals(expected, generatedFiles)
+	}
+
+	def private Map<String, String> getGeneratedFiles() {
+		val result = newHashMap
+		for (file : new File(OUTPUT_DIRECTORY + "/test").listFiles) {
+			result.put(file.name, Files.asCharSource(file, Charsets.UTF_8).read)
+		}
+		return result
+	}
+
 	@Test
     def void testCompileSymlinkedResource() {
         val tstResources = new File("./batch-compiler-data/test-resources/").toURI().normalize().getPath()
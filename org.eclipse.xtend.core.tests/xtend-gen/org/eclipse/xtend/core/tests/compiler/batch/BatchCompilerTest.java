@@ -10,17 +10,22 @@ package org.eclipse.xtend.core.tests.compiler.batch;
 
 import com.google.common.base.Charsets;
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import org.apache.log4j.Level;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtend.core.compiler.batch.XtendBatchCompiler;
 import org.eclipse.xtend.core.tests.RuntimeInjectorProvider;
 import org.eclipse.xtend2.lib.StringConcatenation;
 import org.eclipse.xtext.generator.OutputConfiguration;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.testing.InjectWith;
 import org.eclipse.xtext.testing.XtextRunner;
 import org.eclipse.xtext.testing.logging.LoggingTester;
@@ -56,6 +61,9 @@ public class BatchCompilerTest {
   @Inject
   private XtendBatchCompiler batchCompiler;
 
+  @Inject
+  private Provider<SynchronizedXtextResourceSet> synchronizedResourceSetProvider;
+
   private static String OUTPUT_DIRECTORY_WITH_SPACES = "./test result";
 
   private static String OUTPUT_DIRECTORY = "./test-result";
@@ -607,6 +615,66 @@ public class BatchCompilerTest {
     Assert.assertEquals(0, ((List<String>)Conversions.doWrapArray(new File((BatchCompilerTest.OUTPUT_DIRECTORY + "/test")).list(_function_1))).size());
   }
 
+  @Test
+  public void testIncrementalCompilation() {
+    this.batchCompiler.setIncrementalStateFile((BatchCompilerTest.TEMP_DIRECTORY + "/xtend-state.bin"));
+    Assert.assertTrue(this.batchCompiler.compile());
+    final File output = new File((BatchCompilerTest.OUTPUT_DIRECTORY + "/test"));
+    final FilenameFilter _function = (File dir, String name) -> {
+      return name.endsWith(".java");
+    };
+    Assert.assertEquals(7, ((List<String>)Conversions.doWrapArray(output.list(_function))).size());
+    final Consumer<File> _function_1 = (File it) -> {
+      it.setLastModified(0);
+    };
+    ((List<File>)Conversions.doWrapArray(output.listFiles())).forEach(_function_1);
+    final Runnable _function_2 = () -> {
+      Assert.assertTrue(this.batchCompiler.compile());
+    };
+    final LoggingTester.LogCapture log = LoggingTester.captureLogging(Level.INFO, XtendBatchCompiler.class, _function_2);
+    log.assertLogEntry("up to date");
+    Assert.assertTrue(new File(output, "C.java").delete());
+    Assert.assertTrue(this.batchCompiler.compile());
+    Assert.assertTrue(new File(output, "C.java").exists());
+    Assert.assertNotEquals(0, new File(output, "B.java").lastModified());
+    Assert.assertEquals(0, new File(output, "XtendA.java").lastModified());
+    Assert.assertEquals(0, new File(output, "Enum.java").lastModified());
+  }
+
+  @Test
+  public void testParallelGeneration() {
+    try {
+      this.batchCompiler.setWriteTraceFiles(true);
+      Assert.assertTrue(this.batchCompiler.compile());
+      final Map<String, String> expected = this.getGeneratedFiles();
+      Assert.assertEquals(14, expected.size());
+      File _file = new File(BatchCompilerTest.OUTPUT_DIRECTORY);
+      Files.cleanFolder(_file, null, true, false);
+      this.batchCompiler.setGenerationThreads(4);
+      final Provider<ResourceSet> _function = () -> {
+        return this.synchronizedResourceSetProvider.get();
+      };
+      this.batchCompiler.setResourceSetProvider(_function);
+      Assert.assertTrue(this.batchCompiler.compile());
+      Assert.assertEquals(expected, this.getGeneratedFiles());
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+
+  private Map<String, String> getGeneratedFiles() {
+    try {
+      final HashMap<String, String> result = CollectionLiterals.<String, String>newHashMap();
+      File[] _listFiles = new File((BatchCompilerTest.OUTPUT_DIRECTORY + "/test")).listFiles();
+      for (final File file : _listFiles) {
+        result.put(file.getName(), com.google.common.io.Files.asCharSource(file, Charsets.UTF_8).read());
+      }
+      return result;
+    } catch (Throwable _e) {
+      throw Exceptions.sneakyThrow(_e);
+    }
+  }
+
   @Test
   public void testCompileSymlinkedResource() {
     final String tstResources = new File("./batch-compiler-data/test-resources/").toURI().normalize().getPath();
@@ -19,6 +19,7 @@ import java.util.stream.Collectors;
 import org.apache.log4j.BasicConfigurator;
 import org.eclipse.xtend.core.XtendInjectorSingleton;
 import org.eclipse.xtend.core.macro.AnnotationProcessor.CancellationObserver;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.util.JavaVersion;
 
 import com.google.common.base.Joiner;
@@ -60,6 +61,14 @@ public class Main {
 				compiler.setGeneratedAnnotationComment(arguments.next().trim());
 			} else if ("-useCurrentClassLoader".equals(argument)) {
 				compiler.setUseCurrentClassLoaderAsParent(true);
+			} else if ("-incremental".equals(argument)) {
+				compiler.setIncrementalStateFile(arguments.next().trim());
+			} else if ("-generationThreads".equals(argument)) {
+				int generationThreads = Integer.parseInt(arguments.next().trim());
+				compiler.setGenerationThreads(generationThreads);
+				if (generationThreads > 1) {
+					compiler.setResourceSetProvider(() -> injector.getInstance(SynchronizedXtextResourceSet.class));
+				}
 			} else if ("-writeTraceFiles".equals(argument)) {
 				compiler.setWriteTraceFiles(true);
 			}  else if ("-verbose".equals(argument)) {
@@ -94,6 +103,8 @@ public class Main {
 		out.println("-includeDateInGeneratedAnnnotation  If -generateGeneratedAnnotation is used, add the current date/time.");
 		out.println("-generateAnnotationComment <string> If -generateGeneratedAnnotation is used, add a comment.");
 		out.println("-useCurrentClassLoader              Use current classloader as parent classloader");
+		out.println("-incremental <file>                 Only compile changed files and keep the state in the given file");
+		out.println("-generationThreads <number>         Generate the Java files on the given number of threads");
 		out.println("-writeTraceFiles                    Write Trace-Files");
 		out.println("-verbose                            Run compiler in verbose mode");
 	}
@@ -24,21 +24,34 @@ import static org.eclipse.xtext.util.Strings.*;
 import static org.eclipse.xtext.util.Strings.concat;
 import static org.eclipse.xtext.util.Strings.isEmpty;
 
+import java.io.BufferedInputStream;
 import java.io.CharArrayWriter;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileFilter;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
@@ -47,6 +60,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.jdt.core.compiler.batch.BatchCompiler;
+import org.eclipse.xtend.core.macro.ActiveAnnotationContexts;
 import org.eclipse.xtend.core.macro.ProcessorInstanceForJvmTypeProvider;
 import org.eclipse.xtend.core.xtend.XtendFile;
 import org.eclipse.xtext.Constants;
@@ -62,17 +76,24 @@ import org.eclipse.xtext.generator.OutputConfiguration;
 import org.eclipse.xtext.generator.OutputConfigurationAdapter;
 import org.eclipse.xtext.mwe.NameBasedFilter;
 import org.eclipse.xtext.mwe.PathTraverser;
+import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.parser.IEncodingProvider;
 import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.resource.CompilerPhases;
 import org.eclipse.xtext.resource.FileExtensionProvider;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.ISynchronizable;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.impl.ResourceSetBasedResourceDescriptions;
+import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.ResourceStorageProviderAdapter;
+import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.Exceptions;
 import org.eclipse.xtext.util.Files;
 import org.eclipse.xtext.util.JavaVersion;
 import org.eclipse.xtext.util.Strings;
@@ -94,6 +115,8 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.name.Named;
@@ -194,6 +217,16 @@ public class XtendBatchCompiler {
 
 	private OutputConfiguration outputConfiguration;
 
+	private String incrementalStateFile;
+
+	private XtendBatchCompilerState state;
+
+	private Map<URI, HashCode> sourceHashes;
+
+	private Map<URI, List<String>> generatedFiles;
+
+	private int generationThreads = 1;
+
 	public void setCurrentClassLoader(ClassLoader currentClassLoader) {
 		this.currentClassLoader = currentClassLoader;
 	}
@@ -216,6 +249,7 @@ public class XtendBatchCompiler {
 
 	public void setWriteTraceFiles(boolean writeTraceFiles) {
 		this.writeTraceFiles = writeTraceFiles;
+		generatorConfig.setGenerateTraces(writeTraceFiles);
 	}
 	
 	/**
@@ -232,6 +266,45 @@ public class XtendBatchCompiler {
 		this.writeStorageFiles = writeStorageFiles;
 	}
 	
+	/**
+	 * Enables the incremental mode if a file is given. The compiler stores its state in the file and only resolves,
+	 * validates and generates the Xtend files that were changed since the last successful compilation, and the files
+	 * that depend on them. The unaffected files are loaded from their storage files which are written to the output
+	 * folder in incremental mode. All files are compiled again if the settings, the class path or the Java sources
+	 * changed.
+	 * 
+	 * @since 2.35
+	 */
+	public void setIncrementalStateFile(String incrementalStateFile) {
+		this.incrementalStateFile = incrementalStateFile;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public String getIncrementalStateFile() {
+		return incrementalStateFile;
+	}
+
+	/**
+	 * Sets the number of threads that generate the Java files of different Xtend files concurrently. Values greater
+	 * than <code>1</code> require a {@link #setResourceSetProvider(Provider) resource set} that can be accessed by
+	 * multiple threads, e.g. a {@link SynchronizedXtextResourceSet}. The generated files are the same as with the
+	 * default of <code>1</code>.
+	 * 
+	 * @since 2.35
+	 */
+	public void setGenerationThreads(int generationThreads) {
+		this.generationThreads = generationThreads;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public int getGenerationThreads() {
+		return generationThreads;
+	}
+
 	/**
 	 * @since 2.22
 	 */
@@ -517,11 +590,18 @@ public class XtendBatchCompiler {
 				return false;
 			}
 			generatorConfigProvider.install(resourceSet, generatorConfig);
+			if (incrementalStateFile != null && !prepareIncrementalCompilation()) {
+				log.info("Xtend sources are up to date.");
+				return true;
+			}
 			File classDirectory = createTempDir("classes");
 			try {
 				compilerPhases.setIndexing(resourceSet, true);
 				// install a type provider without index lookup for the first phase
 				installJvmTypeProvider(resourceSet, classDirectory, true);
+				if (state != null) {
+					installAffectedXtendFiles(resourceSet);
+				}
 				loadXtendFiles(resourceSet);
 				File sourceDirectory = createStubs(resourceSet);
 				if (!preCompileStubs(sourceDirectory, classDirectory)) {
@@ -552,7 +632,13 @@ public class XtendBatchCompiler {
 				return false;
 			}
 			generateJavaFiles(resourceSet);
+			if (state != null) {
+				updateState(resourceSet);
+			}
 		} finally {
+			state = null;
+			sourceHashes = null;
+			generatedFiles = null;
 			destroyClassLoader(jvmTypesClassLoader);
 			destroyClassLoader(annotationProcessingClassLoader);
 			if (isDeleteTempDirectory()) {
@@ -564,6 +650,175 @@ public class XtendBatchCompiler {
 	
 	
 
+	/**
+	 * Reads the state of the last compilation and hashes the Xtend files and the environment.
+	 * 
+	 * @return <code>false</code> if nothing changed since the last compilation.
+	 */
+	private boolean prepareIncrementalCompilation() {
+		state = XtendBatchCompilerState.from(new File(incrementalStateFile));
+		state.updateEnvironmentHash(computeEnvironmentHash());
+		sourceHashes = new LinkedHashMap<>();
+		for (URI source : getXtendFileURIs()) {
+			sourceHashes.put(source, XtendBatchCompilerState.hash(source));
+		}
+		generatedFiles = new ConcurrentHashMap<>();
+		return !state.getChangedSources(sourceHashes).isEmpty() || !state.getDeletedSources(sourceHashes).isEmpty();
+	}
+
+	/**
+	 * Hashes everything besides the Xtend files that influences the compilation result: the settings, the class path
+	 * and the Java files in the source folders. Files are hashed by their size and modification time.
+	 */
+	private HashCode computeEnvironmentHash() {
+		Hasher hasher = XtendBatchCompilerState.newHasher();
+		for (Object setting : asList(outputPath, sourcePath, getJavaSourceVersion(), fileEncoding, writeTraceFiles,
+				isGenerateSyntheticSuppressWarnings(), isGenerateGeneratedAnnotation(),
+				isIncludeDateInGeneratedAnnotation(), getGeneratedAnnotationComment(), additionalPreCompileArgs,
+				useCurrentClassLoaderAsParent)) {
+			hasher.putString(String.valueOf(setting), StandardCharsets.UTF_8);
+		}
+		List<String> sourceDirectories = getSourcePathDirectories();
+		for (String classPathEntry : getClassPathEntries()) {
+			if (!sourceDirectories.contains(classPathEntry)) {
+				hashFiles(new File(classPathEntry), null, hasher);
+			}
+		}
+		for (String sourceDirectory : sourceDirectories) {
+			hashFiles(new File(sourceDirectory), ".java", hasher);
+		}
+		return hasher.hash();
+	}
+
+	private void hashFiles(File file, String extension, Hasher hasher) {
+		if (file.isDirectory()) {
+			File[] children = file.listFiles();
+			if (children != null) {
+				Arrays.sort(children);
+				for (File child : children) {
+					hashFiles(child, extension, hasher);
+				}
+			}
+		} else if (extension == null || file.getName().endsWith(extension)) {
+			hasher.putString(file.getPath(), StandardCharsets.UTF_8).putLong(file.length()).putLong(file.lastModified());
+		}
+	}
+
+	/**
+	 * Marks the changed Xtend files and the files that depend on them as source level URIs. The remaining files are
+	 * loaded from their storage files if possible. The outputs of deleted files are removed.
+	 */
+	private void installAffectedXtendFiles(ResourceSet resourceSet) {
+		Set<URI> changed = state.getChangedSources(sourceHashes);
+		Set<QualifiedName> changedNames = newHashSet();
+		for (URI deleted : state.getDeletedSources(sourceHashes)) {
+			changedNames.addAll(state.getExportedNames(deleted));
+			state.removeSource(deleted);
+		}
+		for (URI uri : changed) {
+			changedNames.addAll(state.getExportedNames(uri));
+		}
+		Set<URI> affected;
+		if (changed.size() == sourceHashes.size()) {
+			affected = changed;
+		} else {
+			changedNames.addAll(getExportedNames(changed));
+			affected = state.getAffectedSources(changed, changedNames);
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("compiling " + affected.size() + " of " + sourceHashes.size() + " xtend files");
+		}
+		SourceLevelURIsAdapter.setSourceLevelUris(resourceSet, affected);
+		resourceSet.eAdapters().add(new ResourceStorageProviderAdapter() {
+			@Override
+			public ResourceStorageLoadable getResourceStorageLoadable(StorageAwareResource resource) {
+				File storageFile = state.getStorageFile(resource.getURI());
+				if (storageFile == null) {
+					return null;
+				}
+				return resource.getResourceStorageFacade().createResourceStorageLoadable(new LazyFileInputStream(storageFile));
+			}
+		});
+	}
+
+	/**
+	 * Computes the names that the given files export now. The files are loaded into a separate resource set, since they
+	 * are linked without the other files here.
+	 */
+	private Set<QualifiedName> getExportedNames(Set<URI> sources) {
+		Set<QualifiedName> result = newHashSet();
+		if (sources.isEmpty()) {
+			return result;
+		}
+		ResourceSet resourceSet = resourceSetProvider.get();
+		configureWorkspace(resourceSet);
+		generatorConfigProvider.install(resourceSet, generatorConfig);
+		compilerPhases.setIndexing(resourceSet, true);
+		SourceLevelURIsAdapter.setSourceLevelUris(resourceSet, sources);
+		encodingProvider.setDefaultEncoding(getFileEncoding());
+		List<Resource> resources = newArrayList();
+		for (URI uri : sources) {
+			resources.add(resourceSet.getResource(uri, true));
+		}
+		for (Resource resource : resources) {
+			XtendBatchCompilerState.addExportedNames(resourceDescriptionManager.getResourceDescription(resource), result);
+		}
+		return result;
+	}
+
+	/**
+	 * Opens the file on first access. The storage facade asks for a loadable to check whether a storage exists, which
+	 * must not leave a file open.
+	 */
+	private static class LazyFileInputStream extends InputStream {
+		private final File file;
+
+		private InputStream delegate;
+
+		LazyFileInputStream(File file) {
+			this.file = file;
+		}
+
+		private InputStream getDelegate() throws IOException {
+			if (delegate == null) {
+				delegate = new BufferedInputStream(new FileInputStream(file));
+			}
+			return delegate;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return getDelegate().read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return getDelegate().read(b, off, len);
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (delegate != null) {
+				delegate.close();
+			}
+		}
+	}
+
+	private void updateState(ResourceSet resourceSet) {
+		for (Map.Entry<URI, HashCode> entry : sourceHashes.entrySet()) {
+			URI uri = entry.getKey();
+			List<String> outputs = generatedFiles.get(uri);
+			Resource resource = resourceSet.getResource(uri, false);
+			if (outputs != null && resource != null) {
+				state.updateSource(uri, entry.getValue(), resourceDescriptionManager.getResourceDescription(resource),
+						outputs);
+			} else {
+				state.updateSource(uri, entry.getValue());
+			}
+		}
+		state.to(new File(incrementalStateFile));
+	}
+
 	/**
 	 * @since 2.8
 	 */
@@ -609,6 +864,16 @@ public class XtendBatchCompiler {
 
 	protected ResourceSet loadXtendFiles(final ResourceSet resourceSet) {
 		encodingProvider.setDefaultEncoding(getFileEncoding());
+		for (URI uri : getXtendFileURIs()) {
+			if (log.isDebugEnabled()) {
+				log.debug("load xtend file '" + uri + "'");
+			}
+			resourceSet.getResource(uri, true);
+		}
+		return resourceSet;
+	}
+
+	private List<URI> getXtendFileURIs() {
 		final NameBasedFilter nameBasedFilter = new NameBasedFilter();
 		nameBasedFilter.setExtension(fileExtensionProvider.getPrimaryFileExtension());
 		PathTraverser pathTraverser = new PathTraverser();
@@ -620,15 +885,11 @@ public class XtendBatchCompiler {
 				return matches;
 			}
 		});
+		List<URI> result = newArrayList();
 		for (String src : pathes.keySet()) {
-			for (URI uri : pathes.get(src)) {
-				if (log.isDebugEnabled()) {
-					log.debug("load xtend file '" + uri + "'");
-				}
-				resourceSet.getResource(uri, true);
-			}
+			result.addAll(pathes.get(src));
 		}
-		return resourceSet;
+		return result;
 	}
 
 	@Deprecated
@@ -860,21 +1121,148 @@ public class XtendBatchCompiler {
 	}
 
 	protected void generateJavaFiles(ResourceSet resourceSet) {
+		List<Resource> sourceResources = newArrayList();
+		for (Resource resource : newArrayList(resourceSet.getResources())) {
+			if (isSourceFile(resource)) {
+				sourceResources.add(resource);
+			}
+		}
+		if (generationThreads > 1 && sourceResources.size() > 1) {
+			if (resourceSet instanceof ISynchronizable<?>) {
+				generateJavaFilesConcurrently(sourceResources);
+				return;
+			}
+			log.debug("Generating Java files sequentially since the resource set is not synchronizable.");
+		}
+		JavaIoFileSystemAccess javaIoFileSystemAccess = createJavaIoFileSystemAccess();
+		GeneratorContext context = new GeneratorContext();
+		context.setCancelIndicator(CancelIndicator.NullImpl);
+		for (Resource resource : sourceResources) {
+			generateJavaFiles(resource, javaIoFileSystemAccess, context);
+		}
+	}
+
+	/**
+	 * Generates the Java files of the given resources on {@link #getGenerationThreads() multiple threads}. Each thread
+	 * takes the next resource that is not yet generated and writes its files through its own file system access.
+	 * Resources that may not be generated concurrently are generated on the calling thread.
+	 */
+	private void generateJavaFilesConcurrently(List<Resource> sourceResources) {
+		List<Resource> concurrent = newArrayList();
+		List<Resource> sequential = newArrayList();
+		for (Resource resource : sourceResources) {
+			if (canGenerateConcurrently(resource)) {
+				concurrent.add(resource);
+			} else {
+				sequential.add(resource);
+			}
+		}
+		int workers = Math.min(generationThreads, concurrent.size());
+		if (workers == 0) {
+			workers = 1;
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(workers, (Runnable runnable) -> {
+			Thread thread = new Thread(runnable, "XtendBatchCompiler generation " + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			AtomicInteger next = new AtomicInteger();
+			AtomicBoolean failed = new AtomicBoolean();
+			List<CompletableFuture<?>> futures = newArrayList();
+			for (int i = 0; i < workers && !concurrent.isEmpty(); i++) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					JavaIoFileSystemAccess javaIoFileSystemAccess = createJavaIoFileSystemAccess();
+					GeneratorContext context = new GeneratorContext();
+					context.setCancelIndicator(CancelIndicator.NullImpl);
+					int current;
+					while (!failed.get() && (current = next.getAndIncrement()) < concurrent.size()) {
+						try {
+							generateJavaFiles(concurrent.get(current), javaIoFileSystemAccess, context);
+						} catch (RuntimeException | Error e) {
+							failed.set(true);
+							throw e;
+						}
+					}
+				}, executor));
+			}
+			CompletableFuture<Void> concurrentGeneration = CompletableFuture
+					.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+			try {
+				JavaIoFileSystemAccess javaIoFileSystemAccess = createJavaIoFileSystemAccess();
+				GeneratorContext context = new GeneratorContext();
+				context.setCancelIndicator(CancelIndicator.NullImpl);
+				for (Resource resource : sequential) {
+					generateJavaFiles(resource, javaIoFileSystemAccess, context);
+				}
+			} catch (RuntimeException | Error e) {
+				failed.set(true);
+				try {
+					concurrentGeneration.join();
+				} catch (CompletionException ignored) {
+					// report the first failure
+				}
+				throw e;
+			}
+			try {
+				concurrentGeneration.join();
+			} catch (CompletionException e) {
+				Exceptions.throwUncheckedException(e.getCause());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Whether the Java files of the given resource may be generated concurrently to other resources. Resources with
+	 * active annotations are generated on the calling thread since their code generation participants are not
+	 * required to be thread safe.
+	 * 
+	 * @since 2.35
+	 */
+	protected boolean canGenerateConcurrently(Resource resource) {
+		ActiveAnnotationContexts contexts = ActiveAnnotationContexts.find(resource);
+		return contexts == null || contexts.getContexts().isEmpty();
+	}
+
+	private JavaIoFileSystemAccess createJavaIoFileSystemAccess() {
 		JavaIoFileSystemAccess javaIoFileSystemAccess = javaIoFileSystemAccessProvider.get();
 		javaIoFileSystemAccess.setOutputPath(outputPath);
 		javaIoFileSystemAccess.setWriteTrace(writeTraceFiles);
+		return javaIoFileSystemAccess;
+	}
 
-		GeneratorContext context = new GeneratorContext();
-		context.setCancelIndicator(CancelIndicator.NullImpl);
-		for (Resource resource : newArrayList(resourceSet.getResources())) {
-			if (isSourceFile(resource)) {
-				if (isWriteStorageFiles()) {
-					StorageAwareResource storageAwareResource = (StorageAwareResource)resource;
-					storageAwareResource.getResourceStorageFacade().saveResource(storageAwareResource, javaIoFileSystemAccess);
+	/**
+	 * Generates the Java files of a single resource.
+	 * 
+	 * @since 2.35
+	 */
+	protected void generateJavaFiles(Resource resource, JavaIoFileSystemAccess javaIoFileSystemAccess,
+			GeneratorContext context) {
+		List<String> outputs = newArrayList();
+		if (generatedFiles != null) {
+			// remember the generated files to clean them up when the source changes
+			generatedFiles.put(resource.getURI(), outputs);
+			javaIoFileSystemAccess.setCallBack(new JavaIoFileSystemAccess.IFileCallback() {
+				@Override
+				public void fileAdded(File file) {
+					outputs.add(file.getAbsolutePath());
 				}
-				generator.generate(resource, javaIoFileSystemAccess, context);
-			}
+
+				@Override
+				public void fileDeleted(File file) {
+					outputs.remove(file.getAbsolutePath());
+				}
+			});
+		}
+		// the storage files are needed to load unchanged files in incremental mode
+		if (isWriteStorageFiles() || generatedFiles != null) {
+			StorageAwareResource storageAwareResource = (StorageAwareResource)resource;
+			storageAwareResource.getResourceStorageFacade().saveResource(storageAwareResource, javaIoFileSystemAccess);
 		}
+		generator.generate(resource, javaIoFileSystemAccess, context);
 	}
 
 	protected ResourceSetBasedResourceDescriptions getResourceDescriptions(ResourceSet resourceSet) {
@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtend.core.compiler.batch;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+
+/**
+ * The state of an incremental {@link XtendBatchCompiler} that is kept between two runs: the content hashes of the
+ * Xtend files, their resource descriptions and the files that were generated from them, and a hash of everything else
+ * that influences the compilation, i.e. the settings, the class path and the Java sources.
+ */
+class XtendBatchCompilerState {
+
+	private static final Logger LOG = Logger.getLogger(XtendBatchCompiler.class);
+
+	private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128(0);
+
+	private static final int SERIALIZATION_VERSION = 1;
+
+	private HashCode environmentHash = HashCode.fromInt(0);
+
+	private final Map<URI, HashCode> sourceFiles = new HashMap<>();
+
+	private final Map<URI, SerializableResourceDescription> descriptions = new HashMap<>();
+
+	private final Map<URI, List<String>> outputFiles = new HashMap<>();
+
+	/**
+	 * Forget about all source files if the environment changed, such that all of them are compiled again. The output
+	 * files are kept to clean them up if their source was deleted.
+	 */
+	boolean updateEnvironmentHash(HashCode environmentHash) {
+		if (environmentHash.equals(this.environmentHash)) {
+			return false;
+		}
+		this.environmentHash = environmentHash;
+		sourceFiles.clear();
+		descriptions.clear();
+		return true;
+	}
+
+	/**
+	 * Returns the source files that are new, have a different content or lost one of their output files.
+	 */
+	Set<URI> getChangedSources(Map<URI, HashCode> newSourceFiles) {
+		Set<URI> result = new LinkedHashSet<>();
+		for (Map.Entry<URI, HashCode> entry : newSourceFiles.entrySet()) {
+			URI source = entry.getKey();
+			if (!entry.getValue().equals(sourceFiles.get(source)) || !outputFilesExist(source)) {
+				result.add(source);
+			}
+		}
+		return result;
+	}
+
+	private boolean outputFilesExist(URI source) {
+		List<String> outputs = outputFiles.get(source);
+		if (outputs == null) {
+			return false;
+		}
+		for (String output : outputs) {
+			if (!new File(output).exists()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	Set<URI> getDeletedSources(Map<URI, HashCode> newSourceFiles) {
+		Set<URI> result = new LinkedHashSet<>();
+		for (URI source : outputFiles.keySet()) {
+			if (!newSourceFiles.containsKey(source)) {
+				result.add(source);
+			}
+		}
+		for (URI source : sourceFiles.keySet()) {
+			if (!newSourceFiles.containsKey(source)) {
+				result.add(source);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The lower case names that the given source file exported when it was compiled last time.
+	 */
+	Set<QualifiedName> getExportedNames(URI source) {
+		Set<QualifiedName> result = new HashSet<>();
+		addExportedNames(descriptions.get(source), result);
+		return result;
+	}
+
+	static void addExportedNames(IResourceDescription description, Collection<QualifiedName> result) {
+		if (description != null) {
+			for (IEObjectDescription exported : description.getExportedObjects()) {
+				result.add(exported.getName().toLowerCase());
+			}
+		}
+	}
+
+	/**
+	 * Returns the given changed source files plus all source files that import one of the given names or one of the
+	 * names that was exported by another affected file. The importers of a name are looked up in a reverse index of
+	 * the imported names of the last compilation.
+	 */
+	Set<URI> getAffectedSources(Set<URI> changed, Set<QualifiedName> changedNames) {
+		Multimap<QualifiedName, URI> importers = HashMultimap.create();
+		for (SerializableResourceDescription description : descriptions.values()) {
+			for (QualifiedName importedName : description.getImportedNames()) {
+				importers.put(importedName, description.getURI());
+			}
+		}
+		Set<URI> result = new LinkedHashSet<>(changed);
+		Set<QualifiedName> seen = new HashSet<>(changedNames);
+		Deque<QualifiedName> queue = new ArrayDeque<>(changedNames);
+		while (!queue.isEmpty()) {
+			for (URI importer : importers.get(queue.poll())) {
+				if (result.add(importer)) {
+					for (QualifiedName exported : getExportedNames(importer)) {
+						if (seen.add(exported)) {
+							queue.add(exported);
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The storage file that was written for the given source file, or <code>null</code> if there is none.
+	 */
+	File getStorageFile(URI source) {
+		List<String> outputs = outputFiles.get(source);
+		if (outputs != null) {
+			String storageFileName = "." + source.lastSegment() + "bin";
+			for (String output : outputs) {
+				File file = new File(output);
+				if (storageFileName.equals(file.getName()) && file.exists()) {
+					return file;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Deletes the files that were generated from the given source file and forgets about it.
+	 */
+	void removeSource(URI source) {
+		deleteOutputFiles(outputFiles.remove(source), null);
+		sourceFiles.remove(source);
+		descriptions.remove(source);
+	}
+
+	/**
+	 * Records the compilation result of the given source file. Files that were generated from it last time but not this
+	 * time are deleted.
+	 */
+	void updateSource(URI source, HashCode hash, IResourceDescription description, List<String> outputs) {
+		deleteOutputFiles(outputFiles.put(source, outputs), outputs);
+		sourceFiles.put(source, hash);
+		descriptions.put(source, SerializableResourceDescription.createCopy(description));
+	}
+
+	/**
+	 * Records the hash of a source file that was not compiled since it was not affected by the changes.
+	 */
+	void updateSource(URI source, HashCode hash) {
+		sourceFiles.put(source, hash);
+	}
+
+	private void deleteOutputFiles(List<String> outputs, List<String> keep) {
+		if (outputs != null) {
+			for (String output : outputs) {
+				if (keep == null || !keep.contains(output)) {
+					new File(output).delete();
+				}
+			}
+		}
+	}
+
+	static HashCode hash(URI source) {
+		Hasher hasher = newHasher();
+		try (InputStream in = new BufferedInputStream(URIConverter.INSTANCE.createInputStream(source), 16384)) {
+			ByteStreams.copy(in, Funnels.asOutputStream(hasher));
+		} catch (IOException e) {
+			hasher.putBoolean(false);
+		}
+		return hasher.hash();
+	}
+
+	static Hasher newHasher() {
+		return HASH_FUNCTION.newHasher();
+	}
+
+	static XtendBatchCompilerState from(File file) {
+		XtendBatchCompilerState result = new XtendBatchCompilerState();
+		if (file.exists()) {
+			try (ObjectInputStream in = new StateInputStream(
+					new BufferedInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(file)))))) {
+				result.read(in);
+			} catch (IOException | ClassNotFoundException | RuntimeException e) {
+				LOG.warn("Failed to read compiler state, compiling all files.", e);
+				return new XtendBatchCompilerState();
+			}
+		}
+		return result;
+	}
+
+	private void read(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		if (in.readInt() != SERIALIZATION_VERSION) {
+			return;
+		}
+		environmentHash = readHashCode(in);
+		int size = in.readInt();
+		for (int i = 0; i < size; i++) {
+			URI source = URI.createURI(in.readUTF());
+			if (in.readBoolean()) {
+				sourceFiles.put(source, readHashCode(in));
+			}
+			if (in.readBoolean()) {
+				descriptions.put(source, (SerializableResourceDescription) in.readObject());
+			}
+			int outputs = in.readInt();
+			List<String> outputList = new ArrayList<>(outputs);
+			for (int j = 0; j < outputs; j++) {
+				outputList.add(in.readUTF());
+			}
+			outputFiles.put(source, outputList);
+		}
+	}
+
+	void to(File file) {
+		try {
+			Files.createParentDirs(file);
+			try (ObjectOutputStream out = new ObjectOutputStream(
+					new BufferedOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(file)))))) {
+				out.writeInt(SERIALIZATION_VERSION);
+				writeHashCode(out, environmentHash);
+				Set<URI> sources = new LinkedHashSet<>(sourceFiles.keySet());
+				sources.addAll(outputFiles.keySet());
+				out.writeInt(sources.size());
+				for (URI source : sources) {
+					out.writeUTF(source.toString());
+					HashCode hash = sourceFiles.get(source);
+					out.writeBoolean(hash != null);
+					if (hash != null) {
+						writeHashCode(out, hash);
+					}
+					SerializableResourceDescription description = descriptions.get(source);
+					out.writeBoolean(description != null);
+					if (description != null) {
+						out.writeObject(description);
+					}
+					List<String> outputs = outputFiles.getOrDefault(source, new ArrayList<>());
+					out.writeInt(outputs.size());
+					for (String output : outputs) {
+						out.writeUTF(output);
+					}
+				}
+			}
+		} catch (IOException e) {
+			LOG.error("Failed to store compiler state.", e);
+			file.delete();
+		}
+	}
+
+	private static HashCode readHashCode(ObjectInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return HashCode.fromBytes(bytes);
+	}
+
+	private static void writeHashCode(ObjectOutputStream out, HashCode hash) throws IOException {
+		byte[] bytes = hash.asBytes();
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Resolves the classes of the serialized descriptions with the class loader of the compiler instead of the
+	 * application class loader.
+	 */
+	private static class StateInputStream extends ObjectInputStream {
+
+		StateInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(desc.getName(), false, XtendBatchCompilerState.class.getClassLoader());
+			} catch (ClassNotFoundException e) {
+				return super.resolveClass(desc);
+			}
+		}
+	}
+
+}
@@ -107,6 +107,21 @@ public abstract class AbstractXtendCompilerMojo extends AbstractXtendMojo {
 	@Parameter(defaultValue="-proc:none")
 	private String additionalPreCompileArgs;
 
+	/**
+	 * Set this to true to only compile the Xtend files that changed since the last build and the files that depend on
+	 * them. The state of the last build is kept in the temp directory. All files are compiled if the class path, the
+	 * Java sources or the settings changed.
+	 */
+	@Parameter(property="xtend.incremental", defaultValue="false")
+	private boolean incremental;
+
+	/**
+	 * The number of threads that generate the Java files concurrently. With the default of <code>1</code>, the files
+	 * are generated one after another.
+	 */
+	@Parameter(property="xtend.generationThreads", defaultValue="1")
+	private int generationThreads;
+
 	@Inject
 	private Provider<XtendBatchCompiler> xtendBatchCompilerProvider;
 
@@ -117,7 +132,7 @@ public abstract class AbstractXtendCompilerMojo extends AbstractXtendMojo {
 	protected void compile(String classPath, List<String> sourcePaths, String outputPath) throws MojoExecutionException {
 		XtendBatchCompiler compiler = getBatchCompiler();
 		Log log = getLog();
-		compiler.setResourceSetProvider(new MavenProjectResourceSetProvider(project));
+		compiler.setResourceSetProvider(new MavenProjectResourceSetProvider(project, generationThreads > 1));
 		Iterable<String> filtered = filter(sourcePaths, FILE_EXISTS);
 		if (Iterables.isEmpty(filtered)) {
 			String dir = Iterables.toString(sourcePaths);
@@ -153,6 +168,13 @@ public abstract class AbstractXtendCompilerMojo extends AbstractXtendMojo {
 		compiler.setWriteTraceFiles(writeTraceFiles);
 		log.debug("Set additional precompile args: " + additionalPreCompileArgs);
 		compiler.setAdditionalPreCompileArgs(additionalPreCompileArgs);
+		log.debug("Set generationThreads: " + generationThreads);
+		compiler.setGenerationThreads(generationThreads);
+		if (incremental) {
+			String stateFile = new File(getTempDirectory(), "xtend-state.bin").getPath();
+			log.debug("Set incremental state file: " + stateFile);
+			compiler.setIncrementalStateFile(stateFile);
+		}
 		if (!compiler.compile()) {
 			String dir = concat(File.pathSeparator, newArrayList(filtered));
 			throw new MojoExecutionException("Error compiling xtend sources in '" + dir + "'.");
@@ -10,6 +10,7 @@ package org.eclipse.xtend.maven;
 
 import org.apache.maven.project.MavenProject;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.resource.XtextResourceSet;
 
 import com.google.inject.Provider;
@@ -21,13 +22,24 @@ public class MavenProjectResourceSetProvider implements Provider<ResourceSet> {
 
 	private MavenProject project;
 
+	private boolean synchronizedResourceSet;
+
 	public MavenProjectResourceSetProvider(MavenProject project) {
+		this(project, false);
+	}
+
+	/**
+	 * @param synchronizedResourceSet
+	 *            whether the resource sets have to be accessed by multiple threads.
+	 */
+	public MavenProjectResourceSetProvider(MavenProject project, boolean synchronizedResourceSet) {
 		super();
 		this.project = project;
+		this.synchronizedResourceSet = synchronizedResourceSet;
 	}
 
 	public ResourceSet get() {
-		ResourceSet rs = new XtextResourceSet();
+		ResourceSet rs = synchronizedResourceSet ? new SynchronizedXtextResourceSet() : new XtextResourceSet();
 		MavenProjectAdapter.install(rs, project);
 		return rs;
 	}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtend.core.tests.performance;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * A minimal micro benchmark harness. Each benchmark is warmed up before the measured iterations are executed. The
+ * harness records the time and, if the JVM supports it, the number of bytes that are allocated by the current thread
+ * per operation.
+ *
+ * The results of a run can be {@link #store(File) stored} and used as the baseline for a later run. A result is
+ * considered a {@link #getRegressions(File, double) regression} if it is slower or allocates more than the baseline
+ * plus the tolerance.
+ */
+public class Benchmark {
+
+	public static class Result {
+		private final String name;
+		private final long[] nanos;
+		private final long bytesPerOp;
+
+		public Result(String name, long[] nanos, long bytesPerOp) {
+			this.name = name;
+			this.nanos = nanos.clone();
+			Arrays.sort(this.nanos);
+			this.bytesPerOp = bytesPerOp;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getMedianNanos() {
+			return nanos[nanos.length / 2];
+		}
+
+		public long getMinNanos() {
+			return nanos[0];
+		}
+
+		public long getMaxNanos() {
+			return nanos[nanos.length - 1];
+		}
+
+		/**
+		 * The number of allocated bytes per operation or <code>-1</code> if allocations cannot be measured.
+		 */
+		public long getBytesPerOp() {
+			return bytesPerOp;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Benchmark '%s': median %.3fms, min %.3fms, max %.3fms, %s (%d iterations)", name,
+					getMedianNanos() / 1e6, getMinNanos() / 1e6, getMaxNanos() / 1e6,
+					bytesPerOp < 0 ? "allocations n/a" : (bytesPerOp / 1024) + "KB allocated/op", nanos.length);
+		}
+	}
+
+	private final int warmupIterations;
+
+	private final int measurementIterations;
+
+	private final Map<String, Result> results = new LinkedHashMap<>();
+
+	public Benchmark(int warmupIterations, int measurementIterations) {
+		if (measurementIterations <= 0) {
+			throw new IllegalArgumentException("measurementIterations must be positive.");
+		}
+		this.warmupIterations = warmupIterations;
+		this.measurementIterations = measurementIterations;
+	}
+
+	public Result run(String name, Runnable operation) {
+		for (int i = 0; i < warmupIterations; i++) {
+			operation.run();
+		}
+		long[] nanos = new long[measurementIterations];
+		long allocatedBefore = getAllocatedBytes();
+		for (int i = 0; i < measurementIterations; i++) {
+			long start = System.nanoTime();
+			operation.run();
+			nanos[i] = System.nanoTime() - start;
+		}
+		long allocatedAfter = getAllocatedBytes();
+		long bytesPerOp = allocatedBefore < 0 || allocatedAfter < 0 ? -1
+				: (allocatedAfter - allocatedBefore) / measurementIterations;
+		Result result = new Result(name, nanos, bytesPerOp);
+		results.put(name, result);
+		return result;
+	}
+
+	public List<Result> getResults() {
+		return Collections.unmodifiableList(new ArrayList<>(results.values()));
+	}
+
+	protected long getAllocatedBytes() {
+		try {
+			java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+			if (bean instanceof com.sun.management.ThreadMXBean) {
+				com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+				if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+					return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+				}
+			}
+		} catch (LinkageError e) {
+			// the JVM does not provide the extended thread bean
+		}
+		return -1;
+	}
+
+	/**
+	 * Stores the results of this benchmark such that they can be used as a baseline.
+	 */
+	public void store(File file) throws IOException {
+		Properties properties = new Properties();
+		for (Result result : results.values()) {
+			properties.setProperty(result.getName() + ".nanos", Long.toString(result.getMedianNanos()));
+			properties.setProperty(result.getName() + ".bytes", Long.toString(result.getBytesPerOp()));
+		}
+		try (OutputStream out = new FileOutputStream(file)) {
+			properties.store(out, "Benchmark baseline");
+		}
+	}
+
+	/**
+	 * Compares the results with the given baseline and returns a description of each result that is slower or
+	 * allocates more than the baseline plus the given tolerance, e.g. {@code 0.2} for 20%. Results without a
+	 * baseline are ignored.
+	 */
+	public List<String> getRegressions(File baseline, double tolerance) throws IOException {
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(baseline)) {
+			properties.load(in);
+		}
+		List<String> regressions = new ArrayList<>();
+		for (Result result : results.values()) {
+			String nanos = properties.getProperty(result.getName() + ".nanos");
+			if (nanos != null && result.getMedianNanos() > Long.parseLong(nanos) * (1 + tolerance)) {
+				regressions.add(result.getName() + " took " + result.getMedianNanos() + "ns, baseline was " + nanos
+						+ "ns");
+			}
+			String bytes = properties.getProperty(result.getName() + ".bytes");
+			if (bytes != null && Long.parseLong(bytes) >= 0 && result.getBytesPerOp() >= 0
+					&& result.getBytesPerOp() > Long.parseLong(bytes) * (1 + tolerance)) {
+				regressions.add(result.getName() + " allocated " + result.getBytesPerOp() + " bytes, baseline was "
+						+ bytes + " bytes");
+			}
+		}
+		return regressions;
+	}
+
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtend.core.tests.performance;
+
+import java.io.File;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtend.core.tests.AbstractXtendTestCase;
+import org.eclipse.xtend.core.xtend.XtendFile;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.xbase.typesystem.IResolvedTypes;
+import org.eclipse.xtext.xbase.typesystem.internal.DefaultBatchTypeResolver;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.inject.Inject;
+
+/**
+ * Measures the {@link DefaultBatchTypeResolver} for workloads that are known to be expensive for the type system.
+ * Each operation resolves the types of a complete file from scratch, the cached types of the resource are not used.
+ *
+ * The benchmark is configured with system properties:
+ * <ul>
+ * <li>{@value #WARMUP} and {@value #ITERATIONS}: the number of warmup and measured iterations.</li>
+ * <li>{@value #RESULTS}: a file that the results are written to. It can be used as a baseline for later runs.</li>
+ * <li>{@value #BASELINE} and {@value #TOLERANCE}: a file with the results of a previous run. The test fails if a
+ * workload is slower or allocates more than the baseline plus the tolerance.</li>
+ * </ul>
+ */
+public class TypeResolverBenchmark extends AbstractXtendTestCase {
+
+	public static final String WARMUP = "org.eclipse.xtend.benchmark.warmup";
+
+	public static final String ITERATIONS = "org.eclipse.xtend.benchmark.iterations";
+
+	public static final String RESULTS = "org.eclipse.xtend.benchmark.results";
+
+	public static final String BASELINE = "org.eclipse.xtend.benchmark.baseline";
+
+	public static final String TOLERANCE = "org.eclipse.xtend.benchmark.tolerance";
+
+	private static Benchmark benchmark;
+
+	@Inject
+	private DefaultBatchTypeResolver typeResolver;
+
+	@BeforeClass
+	public static void createBenchmark() {
+		benchmark = new Benchmark(Integer.getInteger(WARMUP, 10), Integer.getInteger(ITERATIONS, 20));
+	}
+
+	@AfterClass
+	public static void reportResults() throws Exception {
+		for (Benchmark.Result result : benchmark.getResults()) {
+			System.out.println(result);
+		}
+		String results = System.getProperty(RESULTS);
+		if (results != null) {
+			benchmark.store(new File(results));
+		}
+		String baseline = System.getProperty(BASELINE);
+		if (baseline != null) {
+			double tolerance = Double.parseDouble(System.getProperty(TOLERANCE, "0.2"));
+			List<String> regressions = benchmark.getRegressions(new File(baseline), tolerance);
+			assertTrue(String.join("\n", regressions), regressions.isEmpty());
+		}
+	}
+
+	@Test
+	public void deepClosureChains() throws Exception {
+		measure("deepClosureChains", TypeResolverWorkloads.closureChains(10, 12, 3));
+	}
+
+	@Test
+	public void overloadedExtensionMethods() throws Exception {
+		measure("overloadedExtensionMethods", TypeResolverWorkloads.overloadedExtensions(10, 30));
+	}
+
+	@Test
+	public void largeSwitchExpressions() throws Exception {
+		measure("largeSwitchExpressions", TypeResolverWorkloads.largeSwitches(5, 100));
+	}
+
+	@Test
+	public void longBuilderChains() throws Exception {
+		measure("longBuilderChains", TypeResolverWorkloads.builderChains(10, 40));
+	}
+
+	protected void measure(String name, String source) throws Exception {
+		XtendFile file = file(source, true);
+		Resource resource = file.eResource();
+		Benchmark.Result result = benchmark.run(name, () -> {
+			IResolvedTypes resolvedTypes = typeResolver.resolveTypes(resource, CancelIndicator.NullImpl);
+			assertNotNull(resolvedTypes);
+		});
+		assertTrue(result.getMedianNanos() > 0);
+	}
+
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtend.core.tests.performance;
+
+/**
+ * Generates Xtend sources that stress particular parts of the type resolver.
+ */
+public class TypeResolverWorkloads {
+
+	/**
+	 * Methods with long chains of higher order functions whose closures are nested into each other.
+	 */
+	public static String closureChains(int methods, int chainLength, int nesting) {
+		StringBuilder result = new StringBuilder();
+		result.append("import java.util.List\n\n");
+		result.append("class ClosureChains {\n");
+		for (int m = 0; m < methods; m++) {
+			result.append("\tdef chain").append(m).append("(List<String> list) {\n");
+			result.append("\t\tlist");
+			for (int i = 0; i < chainLength; i++) {
+				switch (i % 4) {
+					case 0:
+						result.append(".map[ it + ").append(nested(nesting)).append(" ]");
+						break;
+					case 1:
+						result.append(".filter[ length > ").append(i).append(" ]");
+						break;
+					case 2:
+						result.append(".map[ s | s.toUpperCase ]");
+						break;
+					default:
+						result.append(".sortBy[ hashCode ]");
+				}
+			}
+			result.append(".toList\n");
+			result.append("\t}\n");
+		}
+		result.append("}\n");
+		return result.toString();
+	}
+
+	private static String nested(int depth) {
+		StringBuilder result = new StringBuilder("'x'");
+		for (int i = 0; i < depth; i++) {
+			result.insert(0, "#[" + i + "].map[ n" + i + " | ");
+			result.append(" + n").append(i).append(" ].head");
+		}
+		return result.toString();
+	}
+
+	/**
+	 * Many calls to heavily overloaded extension methods. The arguments require boxing, widening and generic type
+	 * inference to pick the best overload.
+	 */
+	public static String overloadedExtensions(int methods, int callsPerMethod) {
+		StringBuilder result = new StringBuilder();
+		result.append("import java.util.List\n");
+		result.append("import java.util.Collection\n\n");
+		result.append("class OverloadedExtensions {\n");
+		result.append("\tdef String ext(Object o, Object p) { 'Object' }\n");
+		result.append("\tdef String ext(CharSequence o, Object p) { 'CharSequence' }\n");
+		result.append("\tdef String ext(String o, Object p) { 'String' }\n");
+		result.append("\tdef String ext(String o, int p) { 'String,int' }\n");
+		result.append("\tdef String ext(String o, long p) { 'String,long' }\n");
+		result.append("\tdef String ext(String o, Integer p) { 'String,Integer' }\n");
+		result.append("\tdef String ext(Number o, Number p) { 'Number' }\n");
+		result.append("\tdef String ext(int o, int p) { 'int' }\n");
+		result.append("\tdef String ext(double o, double p) { 'double' }\n");
+		result.append("\tdef <T> String ext(Collection<? extends T> o, T p) { 'Collection' }\n");
+		result.append("\tdef <T extends CharSequence> String ext(List<T> o, T p) { 'List' }\n");
+		String[] calls = {
+				"'a'.ext(1)",
+				"'a'.ext(1L)",
+				"'a'.ext(Integer.valueOf(1))",
+				"'a'.ext(new Object)",
+				"new StringBuilder().ext('b')",
+				"1.ext(2)",
+				"1.ext(2.0)",
+				"1.0f.ext(2)",
+				"Long.valueOf(1).ext(Short.valueOf(2 as short))",
+				"#['a', 'b'].ext('c')",
+				"#[new StringBuilder].ext(new StringBuilder)",
+				"#{1, 2}.ext(3)",
+				"'a'.ext(ext(1, 2.0))",
+				"ext(ext('a', 1), ext(1, 2))"
+		};
+		for (int m = 0; m < methods; m++) {
+			result.append("\tdef calls").append(m).append("() {\n");
+			for (int i = 0; i < callsPerMethod; i++) {
+				result.append("\t\tval v").append(i).append(" = ").append(calls[(m + i) % calls.length]).append("\n");
+			}
+			result.append("\t\tv0\n");
+			result.append("\t}\n");
+		}
+		result.append("}\n");
+		return result.toString();
+	}
+
+	/**
+	 * Methods with large switch expressions that mix type guards, case expressions and fall through.
+	 */
+	public static String largeSwitches(int methods, int cases) {
+		StringBuilder result = new StringBuilder();
+		result.append("class LargeSwitches {\n");
+		String[] guards = { "String", "Integer", "Long", "CharSequence", "Number", "Iterable<?>", "Boolean" };
+		for (int m = 0; m < methods; m++) {
+			result.append("\tdef switch").append(m).append("(Object o) {\n");
+			result.append("\t\tswitch o {\n");
+			for (int i = 0; i < cases; i++) {
+				switch (i % 4) {
+					case 0:
+						result.append("\t\t\t").append(guards[i % guards.length]).append(" case o.hashCode == ")
+								.append(i).append(": ").append(i).append("\n");
+						break;
+					case 1:
+						result.append("\t\t\tcase ").append(i).append(": 'case").append(i).append("'.length\n");
+						break;
+					case 2:
+						result.append("\t\t\tcase 'text").append(i).append("',\n");
+						break;
+					default:
+						result.append("\t\t\tcase ").append(i).append("L: o.toString.length + ").append(i)
+								.append("\n");
+				}
+			}
+			result.append("\t\t\tdefault: -1\n");
+			result.append("\t\t}\n");
+			result.append("\t}\n");
+		}
+		result.append("}\n");
+		return result.toString();
+	}
+
+	/**
+	 * Long fluent builder chains and nested with-operator blocks.
+	 */
+	public static String builderChains(int methods, int chainLength) {
+		StringBuilder result = new StringBuilder();
+		result.append("import java.util.ArrayList\n");
+		result.append("import java.util.HashMap\n\n");
+		result.append("class BuilderChains {\n");
+		for (int m = 0; m < methods; m++) {
+			result.append("\tdef builder").append(m).append("() {\n");
+			result.append("\t\tval text = new StringBuilder()");
+			for (int i = 0; i < chainLength; i++) {
+				switch (i % 4) {
+					case 0:
+						result.append(".append('s").append(i).append("')");
+						break;
+					case 1:
+						result.append(".append(").append(i).append(")");
+						break;
+					case 2:
+						result.append(".append(").append(i).append(".0)");
+						break;
+					default:
+						result.append(".append(").append(i).append(" > 1)");
+				}
+			}
+			result.append(".toString\n");
+			result.append("\t\tval list = new ArrayList<HashMap<String, Integer>> => [\n");
+			for (int i = 0; i < chainLength; i++) {
+				result.append("\t\t\tadd(new HashMap => [ put(text, ").append(i).append(") ])\n");
+			}
+			result.append("\t\t]\n");
+			result.append("\t\tlist.size\n");
+			result.append("\t}\n");
+		}
+		result.append("}\n");
+		return result.toString();
+	}
+
+}
@@ -38,10 +38,14 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -82,6 +86,7 @@ import org.eclipse.xtext.resource.IResourceDescription.Event;
 import org.eclipse.xtext.resource.IResourceDescription.Manager;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.IResourceServiceProviderExtension;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.clustering.DisabledClusteringPolicy;
@@ -99,6 +104,7 @@ import org.eclipse.xtext.util.UriUtil;
 import org.eclipse.xtext.validation.CheckMode;
 import org.eclipse.xtext.validation.IResourceValidator;
 import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.validation.ParallelResourceValidator;
 import org.eclipse.xtext.xbase.lib.Exceptions;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 
@@ -163,12 +169,24 @@ public class StandaloneBuilder {
 
 	private ClusteringConfig clusteringConfig = null;
 
+	/**
+	 * The number of threads that validate the resources of a cluster. Default is <code>1</code>, which validates each
+	 * resource right after it was loaded.
+	 */
+	private int validationThreads = 1;
+
 	@Inject
 	private IndexedJvmTypeAccess jvmTypeAccess;
 
 	@Inject
 	private Provider<XtextResourceSet> resourceSetProvider;
 
+	@Inject
+	private Provider<SynchronizedXtextResourceSet> synchronizedResourceSetProvider;
+
+	@Inject
+	private ParallelResourceValidator parallelResourceValidator;
+
 	@Inject
 	private AbstractFileSystemAccess commonFileAccess;
 
@@ -240,6 +258,7 @@ public class StandaloneBuilder {
 		Iterable<String> rootsToTravers = rootsToTraverse();
 		List<URI> sourceResourceURIs = collectResources(sourceDirs);
 		File stateFile;
+		ExecutorService validationExecutor = createValidationExecutor();
 		try {
 			stateFile = readOrCreateBuilderState(stubsDirectory);
 
@@ -262,7 +281,7 @@ public class StandaloneBuilder {
 				writeClassPathConfiguration(rootsToTravers, stubsDirectory != null);
 			}
 			
-			XtextResourceSet resourceSet = resourceSetProvider.get();
+			XtextResourceSet resourceSet = createResourceSet();
 			Iterable<String> allClassPathEntries = Iterables.concat(sourceDirs, classPathEntries);
 			if (stubsDirectory != null) {
 				LOG.info("Installing type provider.");
@@ -301,13 +320,18 @@ public class StandaloneBuilder {
 						index.addDescription(uri, newDescription);
 						aggregateDelta(manager.createDelta(oldDescription, newDescription), allDeltas);
 
-						// TODO adjust to handle validations that need an up-to-date index
-						hasValidationErrors = validate(resource) || hasValidationErrors;
+						if (validationExecutor == null) {
+							// TODO adjust to handle validations that need an up-to-date index
+							hasValidationErrors = validate(resource) || hasValidationErrors;
+						}
 						clusterIndex++;
 						if (!strategy.continueProcessing(resourceSet, null, clusterIndex)) {
 							canContinue = false;
 						}
 					}
+					if (validationExecutor != null) {
+						hasValidationErrors = validate(resources, validationExecutor) || hasValidationErrors;
+					}
 					if (failOnValidationError && hasValidationErrors) {
 						if (incremental) {
 							// since we didn't generate anything yet, we don't want to persist the builder state
@@ -337,6 +361,9 @@ public class StandaloneBuilder {
 			}
 			return commitBuilderState(stateFile, hasValidationErrors);
 		} finally {
+			if (validationExecutor != null) {
+				validationExecutor.shutdown();
+			}
 			builderState = null;
 			configuredFsas.clear();
 
@@ -767,9 +794,36 @@ public class StandaloneBuilder {
 	 */
 	protected boolean validate(Resource resource) {
 		LOG.info("Validating: '" + resource.getURI().lastSegment() + "'");
-		IIssueHandler issueHandler;
+		IIssueHandler issueHandler = getIssueHandler(resource);
+		IResourceValidator resourceValidator = languageAccess(resource.getURI()).getResourceValidator();
+		List<Issue> validationResult = resourceValidator.validate(resource, CheckMode.ALL, null);
+		return !issueHandler.handleIssue(validationResult);
+	}
+
+	/**
+	 * Validates the resources of a cluster concurrently. The issues are handled in the order of the resources.
+	 * Returns true if there was an error.
+	 * 
+	 * @since 2.35
+	 */
+	protected boolean validate(List<Resource> resources, Executor executor) {
+		for (Resource resource : resources) {
+			LOG.info("Validating: '" + resource.getURI().lastSegment() + "'");
+		}
+		Map<Resource, List<Issue>> validationResults = parallelResourceValidator.validate(resources,
+				(Resource resource) -> languageAccess(resource.getURI()).getResourceValidator(), CheckMode.ALL,
+				CancelIndicator.NullImpl, executor);
+		boolean hasErrors = false;
+		for (Map.Entry<Resource, List<Issue>> validationResult : validationResults.entrySet()) {
+			hasErrors = !getIssueHandler(validationResult.getKey()).handleIssue(validationResult.getValue())
+					|| hasErrors;
+		}
+		return hasErrors;
+	}
+
+	private IIssueHandler getIssueHandler(Resource resource) {
 		if (incremental) {
-			issueHandler = (issues) -> {
+			return (issues) -> {
 				builderState.setIssues(resource.getURI(), issues);
 				for (Issue issue : issues) {
 					if (issue.getSeverity() == Severity.ERROR) {
@@ -778,12 +832,36 @@ public class StandaloneBuilder {
 				}
 				return true;
 			};
-		} else {
-			issueHandler = this.issueHandler;
 		}
-		IResourceValidator resourceValidator = languageAccess(resource.getURI()).getResourceValidator();
-		List<Issue> validationResult = resourceValidator.validate(resource, CheckMode.ALL, null);
-		return !issueHandler.handleIssue(validationResult);
+		return this.issueHandler;
+	}
+
+	/**
+	 * Creates the resource set for the build. Validating resources concurrently requires a resource set that can be
+	 * accessed by multiple threads.
+	 * 
+	 * @since 2.35
+	 */
+	protected XtextResourceSet createResourceSet() {
+		if (validationThreads > 1) {
+			return synchronizedResourceSetProvider.get();
+		}
+		return resourceSetProvider.get();
+	}
+
+	/**
+	 * Returns <code>null</code> if resources are validated one after another.
+	 */
+	private ExecutorService createValidationExecutor() {
+		if (validationThreads <= 1) {
+			return null;
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		return Executors.newFixedThreadPool(validationThreads, (Runnable runnable) -> {
+			Thread thread = new Thread(runnable, "StandaloneBuilder validation " + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
 	}
 
 	protected void generate(List<Resource> sourceResources) {
@@ -1067,6 +1145,23 @@ public class StandaloneBuilder {
 		this.writeStorageResources = writeStorageResources;
 	}
 
+	/**
+	 * @since 2.35
+	 */
+	public int getValidationThreads() {
+		return validationThreads;
+	}
+
+	/**
+	 * Sets the number of threads that validate the resources of a cluster concurrently. Values greater than
+	 * <code>1</code> require validators that can be used by multiple threads at the same time.
+	 * 
+	 * @since 2.35
+	 */
+	public void setValidationThreads(int validationThreads) {
+		this.validationThreads = validationThreads;
+	}
+
 	public ClusteringConfig getClusteringConfig() {
 		return clusteringConfig;
 	}
@@ -20,6 +20,7 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectInputStream;
 import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.naming.QualifiedNameInterning;
 import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
 import org.eclipse.xtext.resource.persistence.SerializableReferenceDescription;
 import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
@@ -105,7 +106,7 @@ public class ExtendedEObjectInputStream extends EObjectInputStream {
 			SerializableEObjectDescription object = new SerializableEObjectDescription();
 			object.setEObjectURI(readURI());
 			object.setEClass(readEClass().eClass);
-			object.setQualifiedName(QualifiedName.createFromStream(this));
+			object.setQualifiedName(QualifiedNameInterning.intern(QualifiedName.createFromStream(this)));
 			int userDataSize = readCompressedInt();
 			HashMap<String, String> userData = new HashMap<>(userDataSize);
 			while (userDataSize > 0) {
@@ -147,7 +148,7 @@ public class ExtendedEObjectInputStream extends EObjectInputStream {
 		List<QualifiedName> result = new ArrayList<>(size);
 		while (size > 0) {
 			size--;
-			result.add(QualifiedName.createFromStream(this));
+			result.add(QualifiedNameInterning.intern(QualifiedName.createFromStream(this)));
 		}
 		return result;
 	}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.impl;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.access.ClassLoaderFromJar;
+import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
+import org.eclipse.xtext.common.types.testSetups.AbstractMethods;
+import org.eclipse.xtext.common.types.xtext.ui.tests.RefactoringTestLanguageInjectorProvider;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.cache.CacheStats;
+
+@RunWith(XtextRunner.class)
+@InjectWith(RefactoringTestLanguageInjectorProvider.class)
+public class SharedClasspathTypeProviderTest extends ClasspathTypeProviderTest {
+
+	private SharedJvmTypeCache cache;
+
+	private ClassLoader classLoader;
+
+	@Override
+	protected ClasspathTypeProvider createTypeProvider() {
+		return createTypeProvider(getResourceSet());
+	}
+
+	protected ClasspathTypeProvider createTypeProvider(ResourceSet resourceSet) {
+		if (cache == null) {
+			cache = new SharedJvmTypeCache(100);
+			classLoader = new ClassLoaderFromJar();
+		}
+		DeclaredTypeFactory delegate = new DeclaredTypeFactory(new ClassFileBytesAccess(), classLoader);
+		return new CachingClasspathTypeProvider(classLoader, resourceSet, getIndexedJvmTypeAccess(),
+				new SharedDeclaredTypeFactory(delegate, cache), null);
+	}
+
+	@Test
+	public void testSharedAcrossResourceSets() {
+		String typeName = AbstractMethods.class.getName();
+		JvmDeclaredType first = (JvmDeclaredType) getTypeProvider().findTypeByName(typeName);
+		CacheStats before = cache.getStats();
+		ClasspathTypeProvider otherProvider = createTypeProvider(new ResourceSetImpl());
+		JvmDeclaredType second = (JvmDeclaredType) otherProvider.findTypeByName(typeName);
+		CacheStats delta = cache.getStats().minus(before);
+		assertEquals(1, delta.hitCount());
+		assertEquals(0, delta.missCount());
+		assertNotSame(first, second);
+		assertEquals(first.getIdentifier(), second.getIdentifier());
+		assertEquals(first.getMembers().size(), second.getMembers().size());
+		assertNotSame(first.eResource().getResourceSet(), second.eResource().getResourceSet());
+	}
+
+	@Test
+	public void testJdkTypesAreShared() {
+		getTypeProvider().findTypeByName(String.class.getName());
+		CacheStats before = cache.getStats();
+		createTypeProvider(new ResourceSetImpl()).findTypeByName(String.class.getName());
+		assertEquals(1, cache.getStats().minus(before).hitCount());
+	}
+
+	@Test
+	public void testBoundedSize() {
+		SharedJvmTypeCache smallCache = new SharedJvmTypeCache(2);
+		DeclaredTypeFactory delegate = new DeclaredTypeFactory(new ClassFileBytesAccess(), classLoader);
+		ClasspathTypeProvider provider = new CachingClasspathTypeProvider(classLoader, new ResourceSetImpl(),
+				getIndexedJvmTypeAccess(), new SharedDeclaredTypeFactory(delegate, smallCache), null);
+		provider.findTypeByName(String.class.getName());
+		provider.findTypeByName(Integer.class.getName());
+		provider.findTypeByName(Long.class.getName());
+		provider.findTypeByName(AbstractMethods.class.getName());
+		assertTrue(smallCache.size() <= 2);
+		assertTrue(smallCache.getStats().evictionCount() >= 2);
+	}
+
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
+import org.eclipse.xtext.common.types.access.impl.CachingClasspathTypeProvider;
+import org.eclipse.xtext.common.types.access.impl.ClasspathTypeProvider;
+import org.eclipse.xtext.common.types.access.impl.DeclaredTypeFactory;
+import org.eclipse.xtext.common.types.access.impl.SharedDeclaredTypeFactory;
+import org.eclipse.xtext.common.types.access.impl.SharedJvmTypeCache;
+import org.eclipse.xtext.common.types.access.impl.TypeResourceServices;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * A type provider factory whose providers share the types that are read from the JDK and from archives via the
+ * {@link SharedJvmTypeCache}. Clients that work with many resource sets at the same time, e.g. a language server with
+ * multiple projects, may bind this factory instead of the {@link ClasspathTypeProviderFactory}.
+ *
+ * @since 2.35
+ */
+@Singleton
+public class SharedClasspathTypeProviderFactory extends ClasspathTypeProviderFactory {
+
+	private final SharedDeclaredTypeFactory reusedFactory;
+
+	@Inject
+	public SharedClasspathTypeProviderFactory(ClassLoader classLoader, TypeResourceServices services) {
+		super(classLoader, services);
+		reusedFactory = newClassReaderTypeFactory(classLoader);
+	}
+
+	protected SharedJvmTypeCache getSharedCache() {
+		return SharedJvmTypeCache.getInstance();
+	}
+
+	private SharedDeclaredTypeFactory newClassReaderTypeFactory(ClassLoader classLoader) {
+		DeclaredTypeFactory factoryDelegate = new DeclaredTypeFactory(new ClassFileBytesAccess(), classLoader);
+		return new SharedDeclaredTypeFactory(factoryDelegate, getSharedCache());
+	}
+
+	@Override
+	protected ClasspathTypeProvider createClasspathTypeProvider(ResourceSet resourceSet) {
+		ClassLoader classLoader = getClassLoader(resourceSet);
+		SharedDeclaredTypeFactory actualFactoryToUse = reusedFactory;
+		if (!isDefaultClassLoader(classLoader)) {
+			actualFactoryToUse = newClassReaderTypeFactory(classLoader);
+		}
+		return new CachingClasspathTypeProvider(
+				classLoader,
+				resourceSet,
+				getIndexedJvmTypeAccess(),
+				actualFactoryToUse, services);
+	}
+
+}
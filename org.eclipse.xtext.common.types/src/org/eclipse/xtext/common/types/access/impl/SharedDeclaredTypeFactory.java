@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.impl;
+
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+
+/**
+ * A type factory that obtains the types from a {@link SharedJvmTypeCache}.
+ *
+ * @since 2.35
+ */
+public class SharedDeclaredTypeFactory implements ITypeFactory<BinaryClass, JvmDeclaredType> {
+
+	private final DeclaredTypeFactory delegate;
+
+	private final SharedJvmTypeCache cache;
+
+	public SharedDeclaredTypeFactory(DeclaredTypeFactory delegate, SharedJvmTypeCache cache) {
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	@Override
+	public JvmDeclaredType createType(BinaryClass clazz) {
+		return cache.getOrCreate(clazz, delegate);
+	}
+
+	public SharedJvmTypeCache getCache() {
+		return cache;
+	}
+
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.common.types.access.impl;
+
+import java.io.File;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * A process wide cache for {@link JvmDeclaredType types} that are read from class files. In contrast to the
+ * {@link CachingDeclaredTypeFactory}, the cache is shared by all type providers regardless of their class loader and
+ * its size is bounded. Only types that are read from immutable locations are shared, that is classes of the JDK
+ * runtime image and classes in archives. An entry is identified by the location of the class file, the key of an
+ * archive entry includes the time stamp and size of the archive.
+ *
+ * The cached types are not contained in a resource and contain proxies. Clients obtain a copy of the cached instance.
+ *
+ * The maximum number of cached types can be configured with the system property
+ * {@value #MAXIMUM_SIZE_PROPERTY}.
+ *
+ * @since 2.35
+ */
+public class SharedJvmTypeCache {
+
+	private static final Logger log = Logger.getLogger(SharedJvmTypeCache.class);
+
+	public static final String MAXIMUM_SIZE_PROPERTY = "org.eclipse.xtext.common.types.access.impl.SharedJvmTypeCache.MAXIMUM_SIZE";
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 5000;
+
+	private static final SharedJvmTypeCache INSTANCE = new SharedJvmTypeCache(
+			Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+
+	public static SharedJvmTypeCache getInstance() {
+		return INSTANCE;
+	}
+
+	private final Cache<String, Optional<JvmDeclaredType>> cache;
+
+	public SharedJvmTypeCache(long maximumSize) {
+		this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+	}
+
+	/**
+	 * Returns a copy of the cached type for the given class. If the class is not yet cached, it is created by the
+	 * given factory. Classes that are not read from an immutable location are always created by the factory.
+	 */
+	public JvmDeclaredType getOrCreate(BinaryClass clazz, DeclaredTypeFactory factory) {
+		String key = getKey(clazz);
+		if (key == null) {
+			return factory.createType(clazz);
+		}
+		try {
+			Optional<JvmDeclaredType> cachedResult = cache.get(key, () -> Optional.ofNullable(factory.createType(clazz)));
+			// the cached result contains proxies and is not contained in a resource set,
+			// each client gets its own copy since it will be added to a resource
+			return EcoreUtil2.cloneWithProxies(cachedResult.orElse(null));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			if (log.isDebugEnabled()) {
+				log.debug(e.getMessage(), e);
+			}
+			return factory.createType(clazz);
+		}
+	}
+
+	/**
+	 * Computes the key of the given class or returns <code>null</code> if the class is not read from an immutable
+	 * location.
+	 */
+	protected String getKey(BinaryClass clazz) {
+		URI location = clazz.getLocationURI();
+		if (location == null) {
+			return null;
+		}
+		if ("jrt".equals(location.scheme())) {
+			return location.toString();
+		}
+		if (location.isArchive()) {
+			String authority = location.authority();
+			if (authority == null || !authority.startsWith("file:") || !authority.endsWith("!")) {
+				return null;
+			}
+			URI archiveURI = URI.createURI(authority.substring(0, authority.length() - 1));
+			File archive = new File(archiveURI.toFileString());
+			if (!archive.isFile()) {
+				return null;
+			}
+			return location.toString() + '#' + archive.lastModified() + '#' + archive.length();
+		}
+		return null;
+	}
+
+	public CacheStats getStats() {
+		return cache.stats();
+	}
+
+	public long size() {
+		return cache.size();
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+}
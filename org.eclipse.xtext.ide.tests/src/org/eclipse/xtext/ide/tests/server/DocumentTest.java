@@ -8,6 +8,8 @@
  */
 package org.eclipse.xtext.ide.tests.server;
 
+import java.util.Random;
+
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
@@ -181,6 +183,86 @@ public class DocumentTest {
 		Assert.assertEquals(3, new Document(1, model).getLineCount());
 	}
 
+	@Test
+	public void testGetPosition() {
+		String model =
+				"hello world\n" +
+				"\n" +
+				"foo\r\n" +
+				"bar";
+		Document document = new Document(1, model);
+		Assert.assertEquals(position(0, 0), document.getPosition(0));
+		Assert.assertEquals(position(0, 11), document.getPosition(11));
+		Assert.assertEquals(position(1, 0), document.getPosition(12));
+		Assert.assertEquals(position(2, 0), document.getPosition(13));
+		Assert.assertEquals(position(2, 4), document.getPosition(17));
+		Assert.assertEquals(position(3, 3), document.getPosition(model.length()));
+		for (int i = 0; i <= model.length(); i++) {
+			Assert.assertEquals(i, document.getOffSet(document.getPosition(i)));
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetPosition_exceeds() {
+		new Document(1, "foo").getPosition(4);
+	}
+
+	@Test
+	public void testApplyTextDocumentChanges_lines() {
+		String model =
+				"aaa\n" +
+				"bbb\n" +
+				"ccc\n" +
+				"ddd";
+		Document changedDocument = new Document(1, model)
+				.applyTextDocumentChanges(Lists.newArrayList(
+						change(position(0, 1), position(2, 1), "x\ny\nz\nw"),
+						change(position(4, 2), position(4, 3), "\n"),
+						change(position(1, 0), position(2, 0), "")));
+		String expectedModelAfterChange =
+				"ax\n" +
+				"z\n" +
+				"wcc\n" +
+				"dd\n";
+		Assert.assertEquals(expectedModelAfterChange, changedDocument.getContents());
+		Assert.assertEquals(5, changedDocument.getLineCount());
+		Assert.assertEquals("wcc", changedDocument.getLineContent(2));
+		Assert.assertEquals(position(3, 0), changedDocument.getPosition(9));
+		Assert.assertEquals(11, changedDocument.getOffSet(position(3, 2)));
+		Assert.assertEquals(12, changedDocument.getOffSet(position(4, 0)));
+	}
+
+	@Test
+	public void testApplyTextDocumentChanges_random() {
+		Random random = new Random(4711);
+		String text = "first line\nsecond line\n\nlast line";
+		Document document = new Document(1, text);
+		for (int i = 0; i < 500; i++) {
+			int start = random.nextInt(text.length() + 1);
+			int end = start + random.nextInt(text.length() - start + 1);
+			String replacement = random.nextInt(3) == 0 ? "" : "ab\ncd\n\ne".substring(random.nextInt(9));
+			Document expected = new Document(1, text);
+			Position startPos = expected.getPosition(start);
+			Position endPos = expected.getPosition(end);
+			document = document.applyTextDocumentChanges(Lists.newArrayList(change(startPos, endPos, replacement)));
+			text = text.substring(0, start) + replacement + text.substring(end);
+			Assert.assertEquals(text, document.getContents());
+			int line = 0;
+			int column = 0;
+			for (int offset = 0; offset <= text.length(); offset++) {
+				Assert.assertEquals(position(line, column), document.getPosition(offset));
+				Assert.assertEquals(offset, document.getOffSet(position(line, column)));
+				if (offset < text.length() && text.charAt(offset) == '\n') {
+					line++;
+					column = 0;
+				} else {
+					column++;
+				}
+			}
+			Assert.assertEquals(line + 1, document.getLineCount());
+		}
+	}
+
 	private TextDocumentContentChangeEvent change(Position startPos, Position endPos, String newText) {
 		TextDocumentContentChangeEvent textDocumentContentChangeEvent = new TextDocumentContentChangeEvent();
 		if (startPos != null) {
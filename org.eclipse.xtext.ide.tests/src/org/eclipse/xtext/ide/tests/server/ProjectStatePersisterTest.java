@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.ide.tests.server;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.ide.server.IProjectStatePersister;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.ide.server.UriExtensions;
+import org.eclipse.xtext.ide.server.WorkspaceManager;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.util.Files;
+import org.eclipse.xtext.util.Modules2;
+import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.xbase.lib.IterableExtensions;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+/**
+ * Tests the warm start of the workspace based on a persisted project state.
+ */
+public class ProjectStatePersisterTest {
+
+	private final UriExtensions uriExtensions = new UriExtensions();
+
+	private File root;
+
+	private Map<URI, List<Issue>> diagnostics;
+
+	private List<IResourceDescription.Delta> deltas;
+
+	@Before
+	public void setup() throws IOException {
+		root = new File("./test-data/test-project").getCanonicalFile();
+		if (!root.mkdirs()) {
+			Files.cleanFolder(root, null, true, false);
+		}
+		root.deleteOnExit();
+	}
+
+	@After
+	public void cleanup() throws FileNotFoundException {
+		if (root.exists()) {
+			Files.cleanFolder(root, null, true, true);
+		}
+	}
+
+	@Test
+	public void testWarmStart() throws IOException {
+		URI a = writeFile("A.testlang", "type A { NonExisting foo }");
+		URI b = writeFile("B.testlang", "type B {}");
+		WorkspaceManager first = startWorkspace();
+		Assert.assertEquals(2, deltas.size());
+		Assert.assertEquals(1, diagnostics.get(a).size());
+		Assert.assertTrue(diagnostics.get(b).isEmpty());
+		first.persistProjectStates();
+
+		writeFile("B.testlang", "type B { A a }");
+		startWorkspace();
+		Assert.assertEquals(1, deltas.size());
+		Assert.assertEquals(b, deltas.get(0).getUri());
+		Assert.assertEquals(1, diagnostics.get(a).size());
+		Assert.assertTrue(diagnostics.get(b).isEmpty());
+	}
+
+	@Test
+	public void testWarmStartWithDeletedFile() throws IOException {
+		writeFile("A.testlang", "type A {}");
+		URI b = writeFile("B.testlang", "type B { A a }");
+		startWorkspace().persistProjectStates();
+
+		new File(root, "A.testlang").delete();
+		startWorkspace();
+		Assert.assertEquals(2, deltas.size());
+		Assert.assertEquals(1, diagnostics.get(b).size());
+	}
+
+	private WorkspaceManager startWorkspace() {
+		Injector injector = Guice.createInjector(Modules2.mixin(new ServerModule(),
+				binder -> binder.bind(IProjectStatePersister.class).to(IProjectStatePersister.FileBased.class)));
+		WorkspaceManager workspaceManager = injector.getInstance(WorkspaceManager.class);
+		diagnostics = new HashMap<>();
+		deltas = new ArrayList<>();
+		workspaceManager.addBuildListener(deltas::addAll);
+		URI rootURI = uriExtensions.withEmptyAuthority(URI.createFileURI(root.getAbsolutePath()));
+		workspaceManager.initialize(rootURI,
+				(URI uri, Iterable<Issue> issues) -> diagnostics.put(uri, IterableExtensions.toList(issues)), null);
+		return workspaceManager;
+	}
+
+	private URI writeFile(String path, String contents) throws IOException {
+		File file = new File(root, path);
+		try (FileWriter fileWriter = new FileWriter(file)) {
+			fileWriter.write(contents);
+		}
+		return uriExtensions.withEmptyAuthority(URI.createFileURI(file.getAbsolutePath()));
+	}
+}
@@ -12,10 +12,25 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensEdit;
+import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.xtext.testing.SemanticTokensFullConfiguration;
+import org.junit.Assert;
 import org.junit.Test;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 
 /**
  * @author Rubn Porras Campo - Initial test
@@ -44,4 +59,68 @@ public class SemanticTokensTest extends AbstractTestLangLanguageServerTest {
 		it.setExpected(expectedTokens.stream().flatMap(List::stream).collect(Collectors.toList()));
 		});
 	}
+
+	@Test
+	public void testSemanticTokensFullDelta() throws Exception {
+		String model =
+				"type foo {\n" +
+				"}\n" +
+				"type bar extends foo {\n" +
+				"}\n";
+		String uri = writeFile("MyModel.testlang", model);
+		initialize();
+		open(uri, model);
+		SemanticTokens full = languageServer.semanticTokensFull(new SemanticTokensParams(new TextDocumentIdentifier(uri))).get();
+		Assert.assertNotNull(full.getResultId());
+
+		DidChangeTextDocumentParams change = new DidChangeTextDocumentParams();
+		change.setTextDocument(new VersionedTextDocumentIdentifier(uri, 2));
+		TextDocumentContentChangeEvent event = new TextDocumentContentChangeEvent("baz");
+		event.setRange(new Range(new Position(2, 5), new Position(2, 8)));
+		change.setContentChanges(Lists.newArrayList(event));
+		languageServer.didChange(change);
+
+		Either<SemanticTokens, SemanticTokensDelta> result = languageServer
+				.semanticTokensFullDelta(new SemanticTokensDeltaParams(new TextDocumentIdentifier(uri), full.getResultId()))
+				.get();
+		Assert.assertTrue(result.isRight());
+		SemanticTokensDelta delta = result.getRight();
+		Assert.assertNotEquals(full.getResultId(), delta.getResultId());
+		Assert.assertEquals(apply(full.getData(), delta.getEdits()), languageServer
+				.semanticTokensFull(new SemanticTokensParams(new TextDocumentIdentifier(uri))).get().getData());
+
+		Either<SemanticTokens, SemanticTokensDelta> unchanged = languageServer
+				.semanticTokensFullDelta(new SemanticTokensDeltaParams(new TextDocumentIdentifier(uri), "unknown"))
+				.get();
+		Assert.assertTrue(unchanged.isLeft());
+		Assert.assertEquals(full.getData().size(), unchanged.getLeft().getData().size());
+	}
+
+	@Test
+	public void testSemanticTokensRange() throws Exception {
+		String model =
+				"type foo {\n" +
+				"}\n" +
+				"type bar extends foo {\n" +
+				"}\n";
+		String uri = writeFile("MyModel.testlang", model);
+		initialize();
+		open(uri, model);
+		SemanticTokens range = languageServer.semanticTokensRange(new SemanticTokensRangeParams(
+				new TextDocumentIdentifier(uri), new Range(new Position(2, 0), new Position(3, 0)))).get();
+		List<List<Integer>> expectedTokens = new ArrayList<>();
+		expectedTokens.add(ImmutableList.of(2,0,4,15,0));
+		expectedTokens.add(ImmutableList.of(0,5,3,1,16));
+		expectedTokens.add(ImmutableList.of(0,4,7,15,0));
+		Assert.assertEquals(expectedTokens.stream().flatMap(List::stream).collect(Collectors.toList()), range.getData());
+	}
+
+	private List<Integer> apply(List<Integer> data, List<SemanticTokensEdit> edits) {
+		List<Integer> result = new ArrayList<>(data);
+		for (SemanticTokensEdit edit : Lists.reverse(edits)) {
+			result.subList(edit.getStart(), edit.getStart() + edit.getDeleteCount()).clear();
+			result.addAll(edit.getStart(), edit.getData());
+		}
+		return result;
+	}
 }
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.ide.tests.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.ide.server.symbol.WorkspaceSymbolIndex;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Measures the {@link WorkspaceSymbolIndex} for a workspace with a large number of exported symbols. The benchmark is
+ * not part of the regular test suites, it is run explicitly, e.g. with
+ * <code>-Dorg.eclipse.xtext.ide.benchmark.symbols=1000000</code> and a heap of at least 2GB.
+ */
+public class WorkspaceSymbolIndexBenchmark {
+
+	public static final String SYMBOLS = "org.eclipse.xtext.ide.benchmark.symbols";
+
+	public static final String ITERATIONS = "org.eclipse.xtext.ide.benchmark.iterations";
+
+	private static final int SYMBOLS_PER_RESOURCE = 100;
+
+	private static final String[] WORDS = { "Customer", "Order", "Invoice", "Service", "Repository", "Factory",
+			"Handler", "Item", "Payment", "Address", "Account", "Builder", "Listener", "Provider", "Manager", "Util" };
+
+	@Test
+	public void measureQueries() {
+		int symbols = Integer.getInteger(SYMBOLS, 1000000);
+		int iterations = Integer.getInteger(ITERATIONS, 20);
+		List<IResourceDescription> resources = createResources(symbols);
+		WorkspaceSymbolIndex index = new WorkspaceSymbolIndex();
+
+		long start = System.nanoTime();
+		index.initialize(resources, null);
+		report("initialize", new long[] { System.nanoTime() - start });
+		Assert.assertEquals(symbols, index.size());
+
+		for (String query : Arrays.asList("", "s", "ord", "invoiceservice", "customerorderfactory7", "Payment42.item",
+				"handler99", "xyz")) {
+			long[] nanos = new long[iterations];
+			for (int i = 0; i < iterations; i++) {
+				long queryStart = System.nanoTime();
+				List<IEObjectDescription> result = index.query(query, 100, d -> true, null);
+				nanos[i] = System.nanoTime() - queryStart;
+				Assert.assertTrue(result.size() <= 100);
+			}
+			report("query '" + query + "'", nanos);
+		}
+
+		long[] nanos = new long[iterations];
+		for (int i = 0; i < iterations; i++) {
+			IResourceDescription old = resources.get(i);
+			IResourceDescription changed = createResource(old.getURI(), i + symbols);
+			long updateStart = System.nanoTime();
+			index.update(Arrays.asList(new DefaultResourceDescriptionDelta(old, changed)));
+			nanos[i] = System.nanoTime() - updateStart;
+		}
+		report("update", nanos);
+	}
+
+	private void report(String name, long[] nanos) {
+		Arrays.sort(nanos);
+		System.out.println(String.format("WorkspaceSymbolIndex %s: median %.3fms, min %.3fms, max %.3fms", name,
+				nanos[nanos.length / 2] / 1e6, nanos[0] / 1e6, nanos[nanos.length - 1] / 1e6));
+	}
+
+	private List<IResourceDescription> createResources(int symbols) {
+		List<IResourceDescription> result = new ArrayList<>();
+		for (int i = 0; i * SYMBOLS_PER_RESOURCE < symbols; i++) {
+			result.add(createResource(URI.createURI("inmemory:/project/pkg" + (i % 500) + "/File" + i + ".testlang"),
+					i));
+		}
+		return result;
+	}
+
+	private IResourceDescription createResource(URI uri, int seed) {
+		List<SerializableEObjectDescription> descriptions = new ArrayList<>(SYMBOLS_PER_RESOURCE);
+		String typeName = WORDS[seed % WORDS.length] + WORDS[(seed / WORDS.length) % WORDS.length]
+				+ WORDS[(seed / 7) % WORDS.length] + seed;
+		for (int i = 0; i < SYMBOLS_PER_RESOURCE; i++) {
+			QualifiedName name = QualifiedName.create("org", "example", "pkg" + (seed % 500), typeName,
+					WORDS[(seed + i) % WORDS.length].toLowerCase() + i);
+			SerializableEObjectDescription description = new SerializableEObjectDescription();
+			description.setQualifiedName(name);
+			description.setEObjectURI(uri.appendFragment("//@elements." + i));
+			description.setEClass(EcorePackage.Literals.EOBJECT);
+			descriptions.add(description);
+		}
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		result.setURI(uri);
+		result.setDescriptions(descriptions);
+		return result;
+	}
+
+}
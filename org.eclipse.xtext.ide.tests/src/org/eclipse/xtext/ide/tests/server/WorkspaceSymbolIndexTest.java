@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.ide.tests.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.ide.server.symbol.WorkspaceSymbolIndex;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.service.OperationCanceledError;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+
+public class WorkspaceSymbolIndexTest {
+
+	private final WorkspaceSymbolIndex index = new WorkspaceSymbolIndex();
+
+	@Test
+	public void testRanking() {
+		index.initialize(Collections.singletonList(
+				resource("a", "a.xfooy", "foo.y.Z", "foo.Bar", "x.MyFoo", "x.FooBar", "Foo", "Bar")), null);
+		Assert.assertEquals("Foo, x.FooBar, x.MyFoo, foo.y.Z, foo.Bar, a.xfooy", query("foo"));
+		Assert.assertEquals("Foo, x.FooBar, x.MyFoo, foo.y.Z, foo.Bar, a.xfooy", query("FOO"));
+		Assert.assertEquals("foo.Bar, Bar, x.FooBar", query("bar"));
+	}
+
+	@Test
+	public void testShortQueries() {
+		index.initialize(Collections.singletonList(resource("a", "foo.Bar", "x.Baz", "Zap")), null);
+		Assert.assertEquals("foo.Bar, x.Baz, Zap", query(""));
+		Assert.assertEquals("foo.Bar, x.Baz", query("ba"));
+		Assert.assertEquals("x.Baz", query("x."));
+	}
+
+	@Test
+	public void testQueryWithDelimiter() {
+		index.initialize(Collections.singletonList(resource("a", "foo.bar.Baz", "bar.Foo", "foobar")), null);
+		Assert.assertEquals("foo.bar.Baz", query("oo.bar"));
+		Assert.assertEquals("foo.bar.Baz", query("foo.bar.baz"));
+		Assert.assertEquals("", query("foo.bar.baz.qux"));
+	}
+
+	@Test
+	public void testUpdate() {
+		IResourceDescription a = resource("a", "a.First", "a.Second");
+		IResourceDescription b = resource("b", "b.First");
+		index.initialize(Lists.newArrayList(a, b), null);
+		Assert.assertEquals("a.First, b.First", query("first"));
+
+		IResourceDescription newA = resource("a", "a.Third");
+		IResourceDescription c = resource("c", "c.First");
+		index.update(Lists.newArrayList(new DefaultResourceDescriptionDelta(a, newA), new DefaultResourceDescriptionDelta(b, null),
+				new DefaultResourceDescriptionDelta(null, c)));
+		Assert.assertEquals("c.First", query("first"));
+		Assert.assertEquals("a.Third", query("third"));
+		Assert.assertEquals("", query("second"));
+		Assert.assertEquals(2, index.size());
+	}
+
+	@Test
+	public void testCompaction() {
+		List<IResourceDescription> resources = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			String[] names = new String[30];
+			for (int j = 0; j < names.length; j++) {
+				names[j] = "pkg" + i + ".Element" + j;
+			}
+			resources.add(resource("r" + i, names));
+		}
+		index.initialize(resources, null);
+		Assert.assertEquals(3000, index.size());
+		for (int i = 0; i < 99; i++) {
+			index.update(Lists.newArrayList(new DefaultResourceDescriptionDelta(resources.get(i), null)));
+		}
+		Assert.assertEquals(30, index.size());
+		Assert.assertEquals("pkg99.Element7", query("element7"));
+		Assert.assertEquals("pkg99.Element29", query("pkg99.element29"));
+	}
+
+	@Test
+	public void testMaxResultsAndFilter() {
+		index.initialize(Collections.singletonList(resource("a", "x.Foo1", "x.Foo2", "x.Foo3", "x.Foo", "y.Foo4")),
+				null);
+		List<IEObjectDescription> result = index.query("foo", 2, d -> true, null);
+		Assert.assertEquals("x.Foo, x.Foo1", names(result));
+		result = index.query("foo", 10, d -> d.getQualifiedName().getFirstSegment().equals("y"), null);
+		Assert.assertEquals("y.Foo4", names(result));
+	}
+
+	@Test(expected = OperationCanceledError.class)
+	public void testCancellation() {
+		String[] names = new String[1000];
+		for (int i = 0; i < names.length; i++) {
+			names[i] = "Element" + i;
+		}
+		index.initialize(Collections.singletonList(resource("a", names)), null);
+		index.query("element", 10, d -> true, () -> true);
+	}
+
+	private String query(String query) {
+		return names(index.query(query, 100, d -> true, null));
+	}
+
+	private String names(List<IEObjectDescription> descriptions) {
+		List<String> names = new ArrayList<>();
+		for (IEObjectDescription description : descriptions) {
+			names.add(description.getQualifiedName().toString());
+		}
+		return Joiner.on(", ").join(names);
+	}
+
+	private IResourceDescription resource(String name, String... qualifiedNames) {
+		URI uri = URI.createURI("inmemory:/" + name + ".testlang");
+		List<SerializableEObjectDescription> descriptions = new ArrayList<>();
+		for (String qualifiedName : qualifiedNames) {
+			SerializableEObjectDescription description = new SerializableEObjectDescription();
+			description.setQualifiedName(QualifiedName.create(qualifiedName.split("\\.")));
+			description.setEObjectURI(uri.appendFragment(qualifiedName));
+			description.setEClass(EcorePackage.Literals.EOBJECT);
+			descriptions.add(description);
+		}
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		result.setURI(uri);
+		result.setDescriptions(descriptions);
+		return result;
+	}
+
+}
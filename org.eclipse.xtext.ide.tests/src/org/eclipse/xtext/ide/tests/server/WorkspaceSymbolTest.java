@@ -32,6 +32,10 @@ public class WorkspaceSymbolTest extends AbstractTestLangLanguageServerTest {
 					"	kind: 7\n" +
 					"	location: MyModel.testlang [[0, 5] .. [0, 8]]\n" +
 					"}\n" +
+					"symbol \"Bar.foo\" {\n" +
+					"	kind: 7\n" +
+					"	location: MyModel.testlang [[4, 5] .. [4, 8]]\n" +
+					"}\n" +
 					"symbol \"Foo.bar\" {\n" +
 					"	kind: 7\n" +
 					"	location: MyModel.testlang [[1, 5] .. [1, 8]]\n" +
@@ -39,10 +43,6 @@ public class WorkspaceSymbolTest extends AbstractTestLangLanguageServerTest {
 					"symbol \"Foo.bar.int\" {\n" +
 					"	kind: 7\n" +
 					"	location: MyModel.testlang [[1, 1] .. [1, 4]]\n" +
-					"}\n" +
-					"symbol \"Bar.foo\" {\n" +
-					"	kind: 7\n" +
-					"	location: MyModel.testlang [[4, 5] .. [4, 8]]\n" +
 					"}\n";
 			it.setExpectedSymbols(expectedSymbols);
 		});
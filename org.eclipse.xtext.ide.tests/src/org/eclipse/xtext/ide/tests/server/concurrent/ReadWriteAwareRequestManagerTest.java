@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.ide.tests.server.concurrent;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.ide.server.concurrent.ReadWriteAwareRequestManager;
+import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.Modules2;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+
+/**
+ * Tests for the {@link ReadWriteAwareRequestManager}.
+ */
+public class ReadWriteAwareRequestManagerTest {
+
+	@Inject
+	private RequestManager requestManager;
+
+	@Before
+	public void setUp() {
+		Guice.createInjector(Modules2.mixin(new ServerModule(),
+				binder -> binder.bind(RequestManager.class).to(ReadWriteAwareRequestManager.class)))
+				.injectMembers(this);
+	}
+
+	@After
+	public void tearDown() {
+		requestManager.shutdown();
+	}
+
+	@Test(timeout = 1000)
+	public void testWriteDoesNotCancelReadOnConsistentSnapshot() throws Exception {
+		Assert.assertTrue(requestManager instanceof ReadWriteAwareRequestManager);
+		CountDownLatch readStarted = new CountDownLatch(1);
+		CountDownLatch proceedWithRead = new CountDownLatch(1);
+		AtomicLong writeVersion = new AtomicLong(-1);
+		CompletableFuture<Boolean> reader = requestManager.runRead((CancelIndicator cancelIndicator) -> {
+			readStarted.countDown();
+			Uninterruptibles.awaitUninterruptibly(proceedWithRead);
+			return cancelIndicator.isCanceled();
+		});
+		Uninterruptibles.awaitUninterruptibly(readStarted);
+		CompletableFuture<Object> writer = requestManager.runWrite(() -> null,
+				(CancelIndicator cancelIndicator, Object ignored) -> {
+					writeVersion.set(requestManager.getSnapshotVersion());
+					return null;
+				});
+		try {
+			Uninterruptibles.getUninterruptibly(writer, 100, TimeUnit.MILLISECONDS);
+			Assert.fail("Expected timeout");
+		} catch (TimeoutException e) {
+			Assert.assertFalse(reader.isDone());
+		}
+		proceedWithRead.countDown();
+		Assert.assertEquals(Boolean.FALSE, reader.get());
+		writer.get();
+		Assert.assertEquals(1, writeVersion.get());
+	}
+
+	@Test(timeout = 1000)
+	public void testWriteCancelsReadOnInconsistentSnapshot() throws Exception {
+		CountDownLatch firstWriteStarted = new CountDownLatch(1);
+		CompletableFuture<Object> firstWrite = requestManager.runWrite(() -> null,
+				(CancelIndicator cancelIndicator, Object ignored) -> {
+					firstWriteStarted.countDown();
+					while (!cancelIndicator.isCanceled()) {
+						Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+					}
+					throw new CancellationException();
+				});
+		Uninterruptibles.awaitUninterruptibly(firstWriteStarted);
+		CompletableFuture<Object> reader = requestManager.runRead((CancelIndicator cancelIndicator) -> null);
+		requestManager.runWrite(() -> null, (CancelIndicator cancelIndicator, Object ignored) -> null).get();
+		Assert.assertTrue(firstWrite.isCancelled());
+		Assert.assertTrue(reader.isCancelled());
+		Assert.assertEquals(2, requestManager.getSnapshotVersion());
+		Assert.assertTrue(requestManager.isSnapshotConsistent());
+	}
+
+}
@@ -25,6 +25,7 @@ import org.eclipse.xtext.ide.server.ServerModule;
 import org.eclipse.xtext.ide.server.concurrent.AbstractRequest;
 import org.eclipse.xtext.ide.server.concurrent.ReadRequest;
 import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+import org.eclipse.xtext.ide.server.concurrent.RequestMetrics;
 import org.eclipse.xtext.ide.server.concurrent.WriteRequest;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.testing.RepeatedTest;
@@ -408,4 +409,36 @@ public class RequestManagerTest {
 			Assert.assertTrue(writeFromReader.isCancelled() != writeResult.isCancelled());
 		}
 	}
+
+	@Test(timeout = 1000)
+	public void testMetrics() throws Exception {
+		requestManager.runRead((CancelIndicator it) -> "Foo").join();
+		requestManager.runWrite(() -> null, (CancelIndicator $0, Object $1) -> "Bar").join();
+		CountDownLatch readStarted = new CountDownLatch(1);
+		CompletableFuture<Object> cancelled = requestManager.runRead((CancelIndicator cancelIndicator) -> {
+			readStarted.countDown();
+			while (!cancelIndicator.isCanceled()) {
+				Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+			}
+			throw new CancellationException();
+		});
+		Uninterruptibles.awaitUninterruptibly(readStarted);
+		requestManager.runWrite(() -> null, (CancelIndicator $0, Object $1) -> null).join();
+		Assert.assertTrue(cancelled.isCancelled());
+		RequestMetrics.Statistics reads = requestManager.getMetrics().getReadStatistics();
+		RequestMetrics.Statistics writes = requestManager.getMetrics().getWriteStatistics();
+		// the metrics are recorded asynchronously when the futures complete
+		while (reads.getFinished() < 2 || writes.getFinished() < 2) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(2, reads.getSubmitted());
+		Assert.assertEquals(1, reads.getCompleted());
+		Assert.assertEquals(1, reads.getCancelled());
+		Assert.assertEquals(0.5, reads.getCancellationRate(), 0.0);
+		Assert.assertEquals(2, writes.getSubmitted());
+		Assert.assertEquals(2, writes.getCompleted());
+		Assert.assertEquals(0, writes.getCancellationRate(), 0.0);
+		Assert.assertEquals(2, requestManager.getSnapshotVersion());
+		Assert.assertTrue(requestManager.isSnapshotConsistent());
+	}
 }
@@ -85,12 +85,29 @@ public class DefaultSemanticHighlightingCalculator implements ISemanticHighlight
 		TreeIterator<EObject> iterator = EcoreUtil2.eAll(element);
 		while (iterator.hasNext()) {
 			EObject object = iterator.next();
-			if (highlightElement(object, acceptor, cancelIndicator)) {
+			if (isOutsideOfRegion(object, acceptor) || highlightElement(object, acceptor, cancelIndicator)) {
 				iterator.prune();
 			}
 		}
 	}
 
+	/**
+	 * Whether the given element and its children can be skipped since the acceptor is only interested in a region
+	 * that does not intersect with the element's text.
+	 * 
+	 * @since 2.35
+	 */
+	protected boolean isOutsideOfRegion(EObject object, IHighlightedPositionAcceptor acceptor) {
+		if (acceptor instanceof RegionFilteringHighlightedPositionAcceptor) {
+			INode node = NodeModelUtils.findActualNodeFor(object);
+			if (node != null) {
+				return !((RegionFilteringHighlightedPositionAcceptor) acceptor).intersects(node.getTotalOffset(),
+						node.getTotalLength());
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @return true to skip the children of this element, false otherwise
 	 */
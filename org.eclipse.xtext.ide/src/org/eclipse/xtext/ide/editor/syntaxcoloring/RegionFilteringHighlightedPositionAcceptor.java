@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.editor.syntaxcoloring;
+
+import org.eclipse.xtext.util.ITextRegion;
+
+/**
+ * An acceptor that only forwards the positions that intersect with a region of interest, e.g. the visible part of a
+ * document.
+ * 
+ * The {@link DefaultSemanticHighlightingCalculator} does not visit the elements outside of the region if it is
+ * passed an acceptor of this type.
+ * 
+ * @since 2.35
+ */
+public class RegionFilteringHighlightedPositionAcceptor implements IHighlightedPositionAcceptor {
+
+	private final ITextRegion region;
+
+	private final IHighlightedPositionAcceptor delegate;
+
+	public RegionFilteringHighlightedPositionAcceptor(ITextRegion region, IHighlightedPositionAcceptor delegate) {
+		this.region = region;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void addPosition(int offset, int length, String... id) {
+		if (intersects(offset, length)) {
+			delegate.addPosition(offset, length, id);
+		}
+	}
+
+	/**
+	 * Whether the given range touches the region of interest.
+	 */
+	public boolean intersects(int offset, int length) {
+		return offset <= region.getOffset() + region.getLength() && offset + length >= region.getOffset();
+	}
+
+	public ITextRegion getRegion() {
+		return region;
+	}
+
+}
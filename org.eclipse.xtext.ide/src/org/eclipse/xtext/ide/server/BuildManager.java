@@ -160,8 +160,9 @@ public class BuildManager {
 		List<ProjectDescription> sortedDescriptions = sortByDependencies(projects);
 		List<IResourceDescription.Delta> result = new ArrayList<>();
 		for (ProjectDescription description : sortedDescriptions) {
-			IncrementalBuilder.Result partialresult = workspaceManager.getProjectManager(description.getName())
-					.doInitialBuild(indicator);
+			ProjectManager projectManager = workspaceManager.getProjectManager(description.getName());
+			projectManager.setInitialBuildDeltas(new ArrayList<>(result));
+			IncrementalBuilder.Result partialresult = projectManager.doInitialBuild(indicator);
 			result.addAll(partialresult.getAffectedResources());
 		}
 		return result;
@@ -8,6 +8,8 @@
  */
 package org.eclipse.xtext.ide.server;
 
+import java.util.Arrays;
+
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
@@ -16,16 +18,28 @@ import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
 /**
+ * A text document of the language server. Only the line feed character is considered a line delimiter.
+ * 
+ * The conversion between offsets and positions is backed by a table of line start offsets that is computed once
+ * per document, so an offset is found in constant time and a position in logarithmic time.
+ * 
  * @author Sven Efftinge - Initial contribution and API
  * @since 2.11
  */
 public class Document {
+	private static final char NL = '\n';
+
 	private final Integer version;
 
 	private final String contents;
 
 	private final boolean printSourceOnError;
 
+	/**
+	 * The offsets of the first character of each line, computed lazily.
+	 */
+	private volatile int[] lineStarts;
+
 	public Document(Integer version, String contents) {
 		this(version, contents, true);
 	}
@@ -39,27 +53,65 @@ public class Document {
 		this.printSourceOnError = printSourceOnError;
 	}
 
-	public int getOffSet(Position position) throws IndexOutOfBoundsException {
-		int l = contents.length();
-		char NL = '\n';
-		int line = 0;
-		int column = 0;
+	private Document(Integer version, String contents, boolean printSourceOnError, int[] lineStarts) {
+		this(version, contents, printSourceOnError);
+		this.lineStarts = lineStarts;
+	}
+
+	private int[] getLineStarts() {
+		int[] result = lineStarts;
+		if (result == null) {
+			result = computeLineStarts(contents);
+			lineStarts = result;
+		}
+		return result;
+	}
+
+	private static int[] computeLineStarts(CharSequence text) {
+		int[] result = new int[16];
+		int count = 1;
+		int l = text.length();
 		for (int i = 0; i < l; i++) {
-			char ch = contents.charAt(i);
-			if (position.getLine() == line && position.getCharacter() == column) {
-				return i;
-			}
-			if (ch == NL) {
-				line++;
-				column = 0;
-			} else {
-				column++;
+			if (text.charAt(i) == NL) {
+				if (count == result.length) {
+					result = Arrays.copyOf(result, count * 2);
+				}
+				result[count++] = i + 1;
 			}
 		}
-		if (position.getLine() == line && position.getCharacter() == column) {
-			return l;
+		return Arrays.copyOf(result, count);
+	}
+
+	/**
+	 * Returns the offset of the line delimiter of the given line or the length of the text for the last line.
+	 */
+	private static int getLineEnd(int[] lineStarts, int lineCount, int line, int length) {
+		if (line + 1 < lineCount) {
+			return lineStarts[line + 1] - 1;
+		}
+		return length;
+	}
+
+	private static int getOffset(int[] lineStarts, int lineCount, Position position, int length) {
+		int line = position.getLine();
+		int character = position.getCharacter();
+		if (line < 0 || line >= lineCount || character < 0) {
+			return -1;
+		}
+		int offset = lineStarts[line] + character;
+		if (offset > getLineEnd(lineStarts, lineCount, line, length)) {
+			return -1;
+		}
+		return offset;
+	}
+
+	public int getOffSet(Position position) throws IndexOutOfBoundsException {
+		int[] starts = getLineStarts();
+		int offset = getOffset(starts, starts.length, position, contents.length());
+		if (offset < 0) {
+			throw new IndexOutOfBoundsException(position.toString() + getSourceOnError());
 		}
-		throw new IndexOutOfBoundsException(position.toString() + getSourceOnError());
+		return offset;
 	}
 
 	public Position getPosition(int offset) throws IndexOutOfBoundsException {
@@ -67,22 +119,12 @@ public class Document {
 		if (offset < 0 || offset > l) {
 			throw new IndexOutOfBoundsException(offset + getSourceOnError());
 		}
-		char NL = '\n';
-		int line = 0;
-		int column = 0;
-		for (int i = 0; i < l; i++) {
-			char ch = contents.charAt(i);
-			if (i == offset) {
-				return new Position(line, column);
-			}
-			if (ch == NL) {
-				line++;
-				column = 0;
-			} else {
-				column++;
-			}
+		int[] starts = getLineStarts();
+		int line = Arrays.binarySearch(starts, offset);
+		if (line < 0) {
+			line = -line - 2;
 		}
-		return new Position(line, column);
+		return new Position(line, offset - starts[line]);
 	}
 
 	/**
@@ -91,30 +133,15 @@ public class Document {
 	 * of lines in the document.
 	 */
 	public String getLineContent(int lineNumber) throws IndexOutOfBoundsException {
-		if (lineNumber < 0) {
+		int[] starts = getLineStarts();
+		if (lineNumber < 0 || lineNumber >= starts.length) {
 			throw new IndexOutOfBoundsException(lineNumber + getSourceOnError());
 		}
-		char NL = '\n';
-		char LF = '\r';
-		int l = contents.length();
-		StringBuilder lineContent = new StringBuilder();
-		int line = 0;
-		for (int i = 0; i < l; i++) {
-			if (line > lineNumber) {
-				return lineContent.toString();
-			}
-			char ch = contents.charAt(i);
-			if (line == lineNumber && ch != NL && ch != LF) {
-				lineContent.append(ch);
-			}
-			if (ch == NL) {
-				line++;
-			}
-		}
-		if (line < lineNumber) {
-			throw new IndexOutOfBoundsException(lineNumber + getSourceOnError());
+		String line = contents.substring(starts[lineNumber], getLineEnd(starts, starts.length, lineNumber, contents.length()));
+		if (line.indexOf('\r') != -1) {
+			return line.replace("\r", "");
 		}
-		return lineContent.toString();
+		return line;
 	}
 	
 	/**
@@ -132,7 +159,7 @@ public class Document {
 	 * Get the number of lines in the document. Empty document has line count: {@code 1}.
 	 */
 	public int getLineCount() {
-		return getPosition(contents.length()).getLine() + 1;
+		return getLineStarts().length;
 	}
 
 	public String getSubstring(Range range) {
@@ -151,24 +178,27 @@ public class Document {
 	 * @since 2.18
 	 */
 	public Document applyTextDocumentChanges(Iterable<? extends TextDocumentContentChangeEvent> changes) {
-		Document currentDocument = this;
 		Integer newVersion = null;
-		if (currentDocument.version != null) {
-			newVersion = Integer.valueOf(currentDocument.version.intValue() + 1);
+		if (version != null) {
+			newVersion = Integer.valueOf(version.intValue() + 1);
 		}
+		TextBuffer buffer = null;
 		for (TextDocumentContentChangeEvent change : changes) {
-			final String newContent;
 			if (change.getRange() == null) {
-				newContent = change.getText();
+				buffer = new TextBuffer(change.getText(), null);
 			} else {
-				int start = currentDocument.getOffSet(change.getRange().getStart());
-				int end = currentDocument.getOffSet(change.getRange().getEnd());
-				newContent = currentDocument.contents.substring(0, start) + change.getText()
-						+ currentDocument.contents.substring(end);
+				if (buffer == null) {
+					buffer = new TextBuffer(contents, getLineStarts());
+				}
+				int start = buffer.getOffset(change.getRange().getStart());
+				int end = buffer.getOffset(change.getRange().getEnd());
+				buffer.replace(start, end, change.getText());
 			}
-			currentDocument = new Document(newVersion, newContent, printSourceOnError);
 		}
-		return currentDocument;
+		if (buffer == null) {
+			return this;
+		}
+		return buffer.toDocument(newVersion, printSourceOnError);
 	}
 
 	/**
@@ -251,4 +281,75 @@ public class Document {
 	public String getContents() {
 		return contents;
 	}
+
+	/**
+	 * A mutable text with its line start table that is updated in place for each edit, such that a sequence of
+	 * incremental changes neither rescans the text nor creates intermediate strings.
+	 */
+	private class TextBuffer {
+		private final StringBuilder text;
+
+		/**
+		 * The line starts, only the first {@link #lineCount} entries are valid.
+		 */
+		private int[] lineStarts;
+
+		private int lineCount;
+
+		TextBuffer(String text, int[] lineStarts) {
+			this.text = new StringBuilder(text);
+			this.lineStarts = lineStarts != null ? lineStarts.clone() : computeLineStarts(text);
+			this.lineCount = this.lineStarts.length;
+		}
+
+		int getOffset(Position position) {
+			int offset = Document.getOffset(lineStarts, lineCount, position, text.length());
+			if (offset < 0) {
+				throw new IndexOutOfBoundsException(position.toString() + getSourceOnError());
+			}
+			return offset;
+		}
+
+		void replace(int start, int end, String replacement) {
+			// the lines that start within the replaced region are removed
+			int firstRemoved = Arrays.binarySearch(lineStarts, 0, lineCount, start + 1);
+			if (firstRemoved < 0) {
+				firstRemoved = -firstRemoved - 1;
+			}
+			int firstKept = Arrays.binarySearch(lineStarts, 0, lineCount, end + 1);
+			if (firstKept < 0) {
+				firstKept = -firstKept - 1;
+			}
+			int added = 0;
+			for (int i = 0; i < replacement.length(); i++) {
+				if (replacement.charAt(i) == NL) {
+					added++;
+				}
+			}
+			int newCount = lineCount - (firstKept - firstRemoved) + added;
+			int[] result = lineStarts;
+			if (newCount > lineStarts.length) {
+				result = new int[Math.max(newCount, lineStarts.length * 2)];
+				System.arraycopy(lineStarts, 0, result, 0, firstRemoved);
+			}
+			System.arraycopy(lineStarts, firstKept, result, firstRemoved + added, lineCount - firstKept);
+			int delta = replacement.length() - (end - start);
+			for (int i = firstRemoved + added; i < newCount; i++) {
+				result[i] += delta;
+			}
+			int line = firstRemoved;
+			for (int i = 0; i < replacement.length(); i++) {
+				if (replacement.charAt(i) == NL) {
+					result[line++] = start + i + 1;
+				}
+			}
+			text.replace(start, end, replacement);
+			lineStarts = result;
+			lineCount = newCount;
+		}
+
+		Document toDocument(Integer version, boolean printSourceOnError) {
+			return new Document(version, text.toString(), printSourceOnError, Arrays.copyOf(lineStarts, lineCount));
+		}
+	}
 }
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.URIConverter;
+
+import com.google.inject.ImplementedBy;
+
+/**
+ * Stores and restores the {@link ProjectStateSnapshot state} of a project, such that the language server can skip the
+ * unchanged resources in the initial build after a restart.
+ *
+ * By default, no state is persisted. Bind this interface to {@link FileBased} to enable warm starts.
+ *
+ * @since 2.35
+ */
+@ImplementedBy(IProjectStatePersister.NullImpl.class)
+public interface IProjectStatePersister {
+
+	/**
+	 * @return {@code true} if this persister stores the project state.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Read the last persisted state of the given project.
+	 *
+	 * @return the state or {@code null} if there is no usable state.
+	 */
+	ProjectStateSnapshot readProjectState(ProjectManager projectManager);
+
+	/**
+	 * Persist the given state of the project.
+	 */
+	void writeProjectState(ProjectManager projectManager, ProjectStateSnapshot state);
+
+	/**
+	 * Implementation for {@link IProjectStatePersister} that does nothing.
+	 */
+	public static class NullImpl implements IProjectStatePersister {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public ProjectStateSnapshot readProjectState(ProjectManager projectManager) {
+			return null;
+		}
+
+		@Override
+		public void writeProjectState(ProjectManager projectManager, ProjectStateSnapshot state) {
+			// do nothing
+		}
+
+	}
+
+	/**
+	 * Stores the project state as a compressed file in the folder {@code .xtext} below the base directory of the
+	 * project.
+	 */
+	public static class FileBased implements IProjectStatePersister {
+
+		private static final Logger LOG = Logger.getLogger(FileBased.class);
+
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+
+		/**
+		 * The location of the persisted state of the given project or {@code null} if the project has no location.
+		 */
+		protected URI getStateURI(ProjectManager projectManager) {
+			URI baseDir = projectManager.getBaseDir();
+			if (baseDir == null) {
+				return null;
+			}
+			return baseDir.appendSegments(new String[] { ".xtext", "project.state" });
+		}
+
+		@Override
+		public ProjectStateSnapshot readProjectState(ProjectManager projectManager) {
+			URI uri = getStateURI(projectManager);
+			URIConverter converter = URIConverter.INSTANCE;
+			if (uri == null || !converter.exists(uri, Collections.emptyMap())) {
+				return null;
+			}
+			try (InputStream stream = converter.createInputStream(uri, Collections.emptyMap());
+					ObjectInputStream in = new ObjectInputStream(
+							new BufferedInputStream(new GZIPInputStream(stream)))) {
+				ProjectStateSnapshot result = new ProjectStateSnapshot();
+				result.readExternal(in);
+				return result;
+			} catch (IOException | ClassNotFoundException | RuntimeException e) {
+				LOG.warn("Discarding the persisted state of project " + projectManager.getBaseDir(), e);
+				return null;
+			}
+		}
+
+		@Override
+		public void writeProjectState(ProjectManager projectManager, ProjectStateSnapshot state) {
+			URI uri = getStateURI(projectManager);
+			if (uri == null) {
+				return;
+			}
+			try (OutputStream stream = URIConverter.INSTANCE.createOutputStream(uri, Collections.emptyMap());
+					ObjectOutputStream out = new ObjectOutputStream(
+							new BufferedOutputStream(new GZIPOutputStream(stream)))) {
+				state.writeExternal(out);
+			} catch (IOException e) {
+				LOG.error("Failed to persist the state of project " + projectManager.getBaseDir(), e);
+			}
+		}
+	}
+}
@@ -83,7 +83,11 @@ import org.eclipse.lsp4j.RenameOptions;
 import org.eclipse.lsp4j.RenameParams;
 import org.eclipse.lsp4j.SemanticTokens;
 import org.eclipse.lsp4j.SemanticTokensLegend;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
+import org.eclipse.lsp4j.SemanticTokensServerFull;
 import org.eclipse.lsp4j.SemanticTokensWithRegistrationOptions;
 import org.eclipse.lsp4j.ServerCapabilities;
 import org.eclipse.lsp4j.SignatureHelp;
@@ -184,6 +188,9 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Inject
 	private SemanticTokensService semanticTokensService;
+
+	@Inject
+	private IProjectStatePersister projectStatePersister;
 	
 	private WorkspaceManager workspaceManager;
 
@@ -231,6 +238,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 		result.setCapabilities(createServerCapabilities(params));
 		access.addBuildListener(this);
+		access.addBuildListener(workspaceSymbolService);
 		return requestManager.runWrite(() -> {
 			if (clientSupportsWorkspaceFolders() && workspaceManager.isSupportsWorkspaceFolders()) {
 				List<WorkspaceFolder> workspaceFolders = params.getWorkspaceFolders();
@@ -280,8 +288,8 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 		serverCapabilities.setTextDocumentSync(TextDocumentSyncKind.Incremental);
 		SemanticTokensLegend legend = new SemanticTokensLegend(semanticTokensService.getTokenTypes(), semanticTokensService.getTokenModifiers());
 		SemanticTokensWithRegistrationOptions semanticTokensWithRegistrationOptions = new SemanticTokensWithRegistrationOptions(legend);
-		semanticTokensWithRegistrationOptions.setFull(true);
-		semanticTokensWithRegistrationOptions.setRange(false);		
+		semanticTokensWithRegistrationOptions.setFull(new SemanticTokensServerFull(true));
+		semanticTokensWithRegistrationOptions.setRange(true);
 		serverCapabilities.setSemanticTokensProvider(semanticTokensWithRegistrationOptions);
 		CompletionOptions completionOptions = new CompletionOptions();
 		completionOptions.setResolveProvider(false);
@@ -391,7 +399,13 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	@Override
 	public CompletableFuture<Object> shutdown() {
 		shutdownAndExitHandler.shutdown();
-		return CompletableFuture.completedFuture(new Object());
+		if (initializeParams == null || !projectStatePersister.isEnabled()) {
+			return CompletableFuture.completedFuture(new Object());
+		}
+		return requestManager.runWrite(() -> {
+			workspaceManager.persistProjectStates();
+			return new Object();
+		}, (cancelIndicator, it) -> it);
 	}
 
 	@Override
@@ -439,6 +453,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public void didClose(DidCloseTextDocumentParams params) {
+		semanticTokensService.discardPreviousResult(getURI(params.getTextDocument()));
 		runBuildable(() -> toBuildable(params));
 	}
 
@@ -1303,4 +1318,43 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 		return getWorkspaceManager().doRead(uri,
 				(doc, res) -> semanticTokensService.semanticTokensFull(doc, res, params, cancelIndicator));
 	}
+
+	/**
+	 * @since 2.35
+	 */
+	@Override
+	public CompletableFuture<Either<SemanticTokens, SemanticTokensDelta>> semanticTokensFullDelta(
+			final SemanticTokensDeltaParams params) {
+		return getRequestManager().runRead((cancelIndicator) -> semanticTokensFullDelta(params, cancelIndicator));
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	@Beta
+	protected Either<SemanticTokens, SemanticTokensDelta> semanticTokensFullDelta(
+			final SemanticTokensDeltaParams params, final CancelIndicator cancelIndicator) {
+		URI uri = getURI(params.getTextDocument());
+		return getWorkspaceManager().doRead(uri,
+				(doc, res) -> semanticTokensService.semanticTokensFullDelta(doc, res, params, cancelIndicator));
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	@Override
+	public CompletableFuture<SemanticTokens> semanticTokensRange(final SemanticTokensRangeParams params) {
+		return getRequestManager().runRead((cancelIndicator) -> semanticTokensRange(params, cancelIndicator));
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	@Beta
+	protected SemanticTokens semanticTokensRange(final SemanticTokensRangeParams params,
+			final CancelIndicator cancelIndicator) {
+		URI uri = getURI(params.getTextDocument());
+		return getWorkspaceManager().doRead(uri,
+				(doc, res) -> semanticTokensService.semanticTokensRange(doc, res, params, cancelIndicator));
+	}
 }
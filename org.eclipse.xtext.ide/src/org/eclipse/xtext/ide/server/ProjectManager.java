@@ -8,10 +8,17 @@
  *******************************************************************************/
 package org.eclipse.xtext.ide.server;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -36,6 +43,11 @@ import org.eclipse.xtext.workspace.ProjectConfigAdapter;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 
@@ -59,6 +71,12 @@ public class ProjectManager {
 	@Inject
 	protected IExternalContentSupport externalContentSupport;
 
+	/**
+	 * @since 2.35
+	 */
+	@Inject
+	protected IProjectStatePersister projectStatePersister;
+
 	private IndexState indexState = new IndexState();
 
 	private URI baseDir;
@@ -75,6 +93,12 @@ public class ProjectManager {
 
 	private IProjectConfig projectConfig;
 
+	private final Map<URI, HashCode> contentHashes = new HashMap<>();
+
+	private final Map<URI, List<Issue>> reportedIssues = new HashMap<>();
+
+	private List<IResourceDescription.Delta> initialBuildDeltas = Collections.emptyList();
+
 	public void initialize(ProjectDescription description, IProjectConfig projectConfig,
 			Procedure2<? super URI, ? super Iterable<Issue>> acceptor,
 			IExternalContentSupport.IExternalContentProvider openedDocumentsContentProvider,
@@ -91,11 +115,76 @@ public class ProjectManager {
 	 * Initial build of this project.
 	 */
 	public IncrementalBuilder.Result doInitialBuild(CancelIndicator cancelIndicator) {
+		List<IResourceDescription.Delta> externalDeltas = initialBuildDeltas;
+		initialBuildDeltas = Collections.emptyList();
+		return doInitialBuild(externalDeltas, cancelIndicator);
+	}
+
+	/**
+	 * Set the deltas of the projects that were built before this project in the same initial build. They are passed to
+	 * the next {@link #doInitialBuild(CancelIndicator) initial build} of this project, such that resources that are
+	 * restored from a persisted state are rebuilt if they are affected by changes in their upstream projects.
+	 *
+	 * @since 2.35
+	 */
+	public void setInitialBuildDeltas(List<IResourceDescription.Delta> initialBuildDeltas) {
+		this.initialBuildDeltas = initialBuildDeltas;
+	}
+
+	/**
+	 * Initial build of this project. If a persisted state of the project is available, only the resources that were
+	 * changed, added or deleted since the state was written are built, together with the resources that are affected
+	 * by these changes or by the given external deltas.
+	 *
+	 * @since 2.35
+	 */
+	public IncrementalBuilder.Result doInitialBuild(List<IResourceDescription.Delta> externalDeltas,
+			CancelIndicator cancelIndicator) {
 		List<URI> allUris = new ArrayList<>();
 		for (ISourceFolder srcFolder : projectConfig.getSourceFolders()) {
 			allUris.addAll(srcFolder.getAllResources(fileSystemScanner));
 		}
-		return doBuild(allUris, Collections.emptyList(), Collections.emptyList(), cancelIndicator);
+		IncrementalBuilder.Result result = null;
+		if (projectStatePersister.isEnabled()) {
+			ProjectStateSnapshot snapshot = projectStatePersister.readProjectState(this);
+			if (snapshot != null) {
+				result = doWarmStartBuild(snapshot, allUris, externalDeltas, cancelIndicator);
+			}
+		}
+		if (result == null) {
+			result = doBuild(allUris, Collections.emptyList(), externalDeltas, cancelIndicator);
+		}
+		persistProjectState();
+		return result;
+	}
+
+	/**
+	 * Restore the given persisted state and build the resources that differ from it.
+	 *
+	 * @since 2.35
+	 */
+	protected IncrementalBuilder.Result doWarmStartBuild(ProjectStateSnapshot snapshot, List<URI> allUris,
+			List<IResourceDescription.Delta> externalDeltas, CancelIndicator cancelIndicator) {
+		indexState = snapshot.getIndexState();
+		indexProvider.get().put(projectDescription.getName(), indexState.getResourceDescriptions());
+		createFreshResourceSet(indexState.getResourceDescriptions());
+		Set<URI> deleted = new LinkedHashSet<>(indexState.getResourceDescriptions().getAllURIs());
+		List<URI> dirty = new ArrayList<>();
+		for (URI uri : allUris) {
+			deleted.remove(uri);
+			HashCode previousHash = snapshot.getContentHashes().get(uri);
+			if (previousHash != null && previousHash.equals(hashContent(uri))) {
+				contentHashes.put(uri, previousHash);
+				List<Issue> issues = snapshot.getIssues().get(uri);
+				if (issues != null) {
+					reportedIssues.put(uri, issues);
+					issueAcceptor.apply(uri, issues);
+				}
+			} else {
+				dirty.add(uri);
+			}
+		}
+		return doBuild(dirty, new ArrayList<>(deleted), externalDeltas, cancelIndicator);
 	}
 
 	/**
@@ -109,9 +198,59 @@ public class ProjectManager {
 		indexState = result.getIndexState();
 		resourceSet = request.getResourceSet();
 		indexProvider.get().put(projectDescription.getName(), indexState.getResourceDescriptions());
+		if (projectStatePersister.isEnabled()) {
+			updateContentHashes(dirtyFiles, deletedFiles);
+		}
 		return result;
 	}
 
+	/**
+	 * Remember the hashes of the contents that were used to build the given files.
+	 */
+	private void updateContentHashes(List<URI> dirtyFiles, List<URI> deletedFiles) {
+		for (URI deleted : deletedFiles) {
+			contentHashes.remove(deleted);
+			reportedIssues.remove(deleted);
+		}
+		for (URI dirty : dirtyFiles) {
+			if (openedDocumentsContentProvider.hasContent(dirty)) {
+				// the index reflects the unsaved contents of the editor
+				contentHashes.remove(dirty);
+			} else {
+				contentHashes.put(dirty, hashContent(dirty));
+			}
+		}
+	}
+
+	/**
+	 * Compute the hash of the persisted contents of the resource with the given URI.
+	 *
+	 * @since 2.35
+	 */
+	protected HashCode hashContent(URI uri) {
+		Hasher hasher = Hashing.murmur3_128(0).newHasher();
+		try (OutputStream hasherAsStream = Funnels.asOutputStream(hasher);
+				InputStream in = new BufferedInputStream(
+						resourceSet.getURIConverter().createInputStream(uri, Collections.emptyMap()))) {
+			ByteStreams.copy(in, hasherAsStream);
+		} catch (IOException e) {
+			hasher.putBoolean(false);
+		}
+		return hasher.hash();
+	}
+
+	/**
+	 * Write the current state of this project, if an {@link IProjectStatePersister} is enabled.
+	 *
+	 * @since 2.35
+	 */
+	public void persistProjectState() {
+		if (projectStatePersister.isEnabled()) {
+			projectStatePersister.writeProjectState(this, new ProjectStateSnapshot(indexState,
+					new HashMap<>(contentHashes), new HashMap<>(reportedIssues)));
+		}
+	}
+
 	/**
 	 * Creates a new build request for this project.
 	 */
@@ -127,6 +266,9 @@ public class ProjectManager {
 		result.setExternalDeltas(externalDeltas);
 		result.setAfterValidate((URI uri, Iterable<Issue> issues) -> {
 			issueAcceptor.apply(uri, issues);
+			if (projectStatePersister.isEnabled()) {
+				reportedIssues.put(uri, ImmutableList.copyOf(issues));
+			}
 			return true;
 		});
 		result.setCancelIndicator(cancelIndicator);
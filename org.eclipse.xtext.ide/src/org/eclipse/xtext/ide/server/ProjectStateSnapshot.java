@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.build.IndexState;
+import org.eclipse.xtext.build.Source2GeneratedMapping;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.common.hash.HashCode;
+
+/**
+ * A snapshot of the state of a {@link ProjectManager project} that allows to restart the language server without
+ * rebuilding the unchanged resources of the project. It holds the index state, the hashes of the contents of the
+ * resources that were built and the issues that were reported for them.
+ *
+ * @since 2.35
+ */
+public class ProjectStateSnapshot implements Externalizable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The version of the serialization format. Snapshots with a different version are discarded.
+	 */
+	public static final int VERSION = 1;
+
+	private IndexState indexState;
+
+	private Map<URI, HashCode> contentHashes;
+
+	private Map<URI, List<Issue>> issues;
+
+	public ProjectStateSnapshot() {
+		this(new IndexState(), new HashMap<>(), new HashMap<>());
+	}
+
+	public ProjectStateSnapshot(IndexState indexState, Map<URI, HashCode> contentHashes,
+			Map<URI, List<Issue>> issues) {
+		this.indexState = indexState;
+		this.contentHashes = contentHashes;
+		this.issues = issues;
+	}
+
+	public IndexState getIndexState() {
+		return indexState;
+	}
+
+	public Map<URI, HashCode> getContentHashes() {
+		return contentHashes;
+	}
+
+	public Map<URI, List<Issue>> getIssues() {
+		return issues;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeInt(VERSION);
+		ResourceDescriptionsData resourceDescriptions = indexState.getResourceDescriptions();
+		out.writeInt(resourceDescriptions.getAllURIs().size());
+		for (IResourceDescription description : resourceDescriptions.getAllResourceDescriptions()) {
+			if (description instanceof SerializableResourceDescription) {
+				out.writeObject(description);
+			} else {
+				out.writeObject(SerializableResourceDescription.createCopy(description));
+			}
+		}
+		indexState.getFileMappings().writeExternal(out);
+		out.writeInt(contentHashes.size());
+		for (Map.Entry<URI, HashCode> entry : contentHashes.entrySet()) {
+			out.writeUTF(entry.getKey().toString());
+			byte[] hash = entry.getValue().asBytes();
+			out.writeInt(hash.length);
+			out.write(hash);
+		}
+		out.writeInt(issues.size());
+		for (Map.Entry<URI, List<Issue>> entry : issues.entrySet()) {
+			out.writeUTF(entry.getKey().toString());
+			out.writeInt(entry.getValue().size());
+			for (Issue issue : entry.getValue()) {
+				writeIssue(issue, out);
+			}
+		}
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported version of the project state: " + version);
+		}
+		int numDescriptions = in.readInt();
+		List<IResourceDescription> descriptions = new ArrayList<>(numDescriptions);
+		for (int i = 0; i < numDescriptions; i++) {
+			descriptions.add((IResourceDescription) in.readObject());
+		}
+		Source2GeneratedMapping fileMappings = new Source2GeneratedMapping();
+		fileMappings.readExternal(in);
+		indexState = new IndexState(new ResourceDescriptionsData(descriptions), fileMappings);
+		int numHashes = in.readInt();
+		contentHashes = new HashMap<>(numHashes);
+		for (int i = 0; i < numHashes; i++) {
+			URI uri = URI.createURI(in.readUTF());
+			byte[] hash = new byte[in.readInt()];
+			in.readFully(hash);
+			contentHashes.put(uri, HashCode.fromBytes(hash));
+		}
+		int numIssueLists = in.readInt();
+		issues = new HashMap<>(numIssueLists);
+		for (int i = 0; i < numIssueLists; i++) {
+			URI uri = URI.createURI(in.readUTF());
+			int numIssues = in.readInt();
+			List<Issue> list = new ArrayList<>(numIssues);
+			for (int j = 0; j < numIssues; j++) {
+				list.add(readIssue(in));
+			}
+			issues.put(uri, list);
+		}
+	}
+
+	protected void writeIssue(Issue issue, ObjectOutput out) throws IOException {
+		out.writeObject(issue.getSeverity());
+		out.writeObject(issue.getType());
+		out.writeObject(issue.getCode());
+		out.writeObject(issue.getMessage());
+		out.writeObject(issue.getUriToProblem() != null ? issue.getUriToProblem().toString() : null);
+		out.writeObject(issue.getOffset());
+		out.writeObject(issue.getLength());
+		out.writeObject(issue.getLineNumber());
+		out.writeObject(issue.getColumn());
+		out.writeObject(issue.getLineNumberEnd());
+		out.writeObject(issue.getColumnEnd());
+		out.writeBoolean(issue.isSyntaxError());
+		out.writeObject(issue.getData());
+	}
+
+	protected Issue readIssue(ObjectInput in) throws IOException, ClassNotFoundException {
+		Issue.IssueImpl issue = new Issue.IssueImpl();
+		issue.setSeverity((Severity) in.readObject());
+		issue.setType((CheckType) in.readObject());
+		issue.setCode((String) in.readObject());
+		issue.setMessage((String) in.readObject());
+		String uriToProblem = (String) in.readObject();
+		if (uriToProblem != null) {
+			issue.setUriToProblem(URI.createURI(uriToProblem));
+		}
+		issue.setOffset((Integer) in.readObject());
+		issue.setLength((Integer) in.readObject());
+		issue.setLineNumber((Integer) in.readObject());
+		issue.setColumn((Integer) in.readObject());
+		issue.setLineNumberEnd((Integer) in.readObject());
+		issue.setColumnEnd((Integer) in.readObject());
+		issue.setSyntaxError(in.readBoolean());
+		issue.setData((String[]) in.readObject());
+		return issue;
+	}
+}
@@ -382,6 +382,18 @@ public class WorkspaceManager {
 		return ImmutableList.copyOf(projectName2ProjectManager.values());
 	}
 
+	/**
+	 * Persist the state of all projects to allow a warm start of the next session.
+	 *
+	 * @see IProjectStatePersister
+	 * @since 2.35
+	 */
+	public void persistProjectStates() {
+		for (ProjectManager projectManager : projectName2ProjectManager.values()) {
+			projectManager.persistProjectState();
+		}
+	}
+
 	/**
 	 * As opposed to {@link TextEdit}[] the positions in the edits of a {@link DidChangeTextDocumentParams} refer to the
 	 * state after applying the preceding edits. See
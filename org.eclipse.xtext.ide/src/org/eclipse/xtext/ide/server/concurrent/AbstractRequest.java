@@ -47,8 +47,11 @@ public abstract class AbstractRequest<V> implements Runnable, Cancellable {
 	 */
 	protected final RequestManager requestManager;
 
+	private final long submissionTime;
+
 	protected AbstractRequest(RequestManager requestManager) {
 		this.requestManager = requestManager;
+		this.submissionTime = System.nanoTime();
 		this.result = new ResultFuture();
 		this.cancelIndicator = new RequestCancelIndicator(this);
 	}
@@ -85,6 +88,15 @@ public abstract class AbstractRequest<V> implements Runnable, Cancellable {
 		cancel(true);
 	}
 
+	/**
+	 * The value of {@link System#nanoTime()} when this request was created.
+	 *
+	 * @since 2.35
+	 */
+	public long getSubmissionTime() {
+		return submissionTime;
+	}
+
 	/**
 	 * Return the underlying future.
 	 */
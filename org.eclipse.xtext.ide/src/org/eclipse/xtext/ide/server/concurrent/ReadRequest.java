@@ -31,6 +31,10 @@ public class ReadRequest<V> extends AbstractRequest<V> {
 
 	private final ExecutorService executor;
 
+	private volatile boolean consistentSnapshot;
+
+	private volatile long snapshotVersion = -1;
+
 	public ReadRequest(RequestManager requestManager, Function1<? super CancelIndicator, ? extends V> readOperation,
 			ExecutorService executor) {
 		super(requestManager);
@@ -50,9 +54,29 @@ public class ReadRequest<V> extends AbstractRequest<V> {
 	
 	@Override
 	public void run() {
+		consistentSnapshot = requestManager.isSnapshotConsistent();
+		snapshotVersion = requestManager.getSnapshotVersion();
 		initializer.complete(null);
 	}
 
+	/**
+	 * The version of the snapshot that this request reads, or {@code -1} if the request was not yet started.
+	 *
+	 * @since 2.35
+	 */
+	public long getSnapshotVersion() {
+		return snapshotVersion;
+	}
+
+	/**
+	 * @return {@code true} if this request was started on a snapshot that was produced by a write request that
+	 *         completed normally.
+	 * @since 2.35
+	 */
+	public boolean isPinnedToConsistentSnapshot() {
+		return snapshotVersion >= 0 && consistentSnapshot;
+	}
+
 	private void doRun() {
 		if (isDone()) {
 			return;
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server.concurrent;
+
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.xtext.service.OperationCanceledManager;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * A request manager that does not cancel read requests that already work on a consistent snapshot when a write
+ * request is submitted. Such reads are allowed to finish and the write request waits for them. Reads that are not yet
+ * started, or that were started after a write request was cancelled or failed, are cancelled as usual. Pending write
+ * requests are always cancelled.
+ *
+ * Bind {@link RequestManager} to this class to enable this mode, e.g. while the user types in a large file and
+ * hover, semantic tokens or completion requests would otherwise be cancelled and resubmitted again and again.
+ *
+ * @since 2.35
+ */
+@Singleton
+public class ReadWriteAwareRequestManager extends RequestManager {
+
+	@Inject
+	public ReadWriteAwareRequestManager(ExecutorService parallel, OperationCanceledManager operationCanceledManager) {
+		super(parallel, operationCanceledManager);
+	}
+
+	@Override
+	protected boolean shouldCancel(AbstractRequest<?> request) {
+		if (request instanceof ReadRequest) {
+			return !((ReadRequest<?>) request).isPinnedToConsistentSnapshot();
+		}
+		return true;
+	}
+
+}
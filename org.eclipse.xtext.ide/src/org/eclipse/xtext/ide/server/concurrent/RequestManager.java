@@ -14,6 +14,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.CancelIndicator;
@@ -47,6 +48,12 @@ public class RequestManager {
 
 	private List<AbstractRequest<?>> requests = new ArrayList<>();
 
+	private final RequestMetrics metrics = new RequestMetrics();
+
+	private final AtomicLong snapshotVersion = new AtomicLong();
+
+	private volatile boolean snapshotConsistent = true;
+
 	/**
 	 * An orderly shutdown of this request manager.
 	 */
@@ -63,6 +70,55 @@ public class RequestManager {
 	protected final ExecutorService getParallelExecutorService() {
 		return parallel;
 	}
+
+	/**
+	 * The latency and cancellation statistics of the requests that were submitted to this request manager.
+	 *
+	 * @since 2.35
+	 */
+	public RequestMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * The version of the current snapshot. It is incremented each time a write request starts to apply its changes.
+	 *
+	 * @since 2.35
+	 */
+	public long getSnapshotVersion() {
+		return snapshotVersion.get();
+	}
+
+	/**
+	 * @return {@code true} if the write request that produced the current snapshot completed normally, i.e. it was
+	 *         neither cancelled nor did it fail.
+	 * @since 2.35
+	 */
+	public boolean isSnapshotConsistent() {
+		return snapshotConsistent;
+	}
+
+	/**
+	 * Called by a write request before it applies its changes.
+	 *
+	 * @return the version of the new snapshot.
+	 * @since 2.35
+	 */
+	protected long beginSnapshot() {
+		snapshotConsistent = false;
+		return snapshotVersion.incrementAndGet();
+	}
+
+	/**
+	 * Called by a write request that completed normally.
+	 *
+	 * @since 2.35
+	 */
+	protected void endSnapshot(long version) {
+		if (snapshotVersion.get() == version) {
+			snapshotConsistent = true;
+		}
+	}
 	
 	/**
 	 * Run the given cancellable logic as a read request.
@@ -84,6 +140,12 @@ public class RequestManager {
 	 * Submit the given request.
 	 */
 	protected <V> CompletableFuture<V> submit(AbstractRequest<V> request) {
+		metrics.requestSubmitted(request);
+		request.get().whenComplete((result, throwable) -> {
+			boolean cancelled = request.get().isCancelled() || isCancelException(throwable);
+			metrics.requestFinished(request, System.nanoTime() - request.getSubmissionTime(), cancelled,
+					throwable != null && !cancelled);
+		});
 		addRequest(request);
 		submitRequest(request);
 		return request.get();
@@ -100,7 +162,9 @@ public class RequestManager {
 	}
 
 	/**
-	 * Cancel all requests in the queue.
+	 * Cancel all requests in the queue that {@link #shouldCancel(AbstractRequest) should be cancelled}.
+	 *
+	 * @return a future that completes when all requests in the queue are done.
 	 */
 	protected CompletableFuture<Void> cancel() {
 		List<AbstractRequest<?>> localRequests = requests;
@@ -108,12 +172,24 @@ public class RequestManager {
 		CompletableFuture<?>[] cfs = new CompletableFuture<?>[localRequests.size()];
 		for (int i = 0, max = localRequests.size(); i < max; i++) {
 			AbstractRequest<?> request = localRequests.get(i);
-			request.cancel();
+			if (shouldCancel(request)) {
+				request.cancel();
+			}
 			cfs[i] = request.get();
 		}
 		return CompletableFuture.allOf(cfs);
 	}
 
+	/**
+	 * Whether the given queued request should be cancelled because a new write request was submitted. Requests that
+	 * are not cancelled are awaited by the write request.
+	 *
+	 * @since 2.35
+	 */
+	protected boolean shouldCancel(AbstractRequest<?> request) {
+		return true;
+	}
+
 	/**
 	 * Check if the given throwable is an indicator for a cancellation.
 	 */
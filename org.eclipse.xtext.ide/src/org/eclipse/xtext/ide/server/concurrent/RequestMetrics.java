@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the latency and the cancellation rate of the read and write requests that are handled by a
+ * {@link RequestManager}. The latency of a request is the time between its submission and its completion, i.e. it
+ * includes the time that the request was waiting in the queue.
+ *
+ * @since 2.35
+ */
+public class RequestMetrics {
+
+	/**
+	 * The statistics of one kind of requests.
+	 */
+	public static class Statistics {
+
+		private final LongAdder submitted = new LongAdder();
+
+		private final LongAdder completed = new LongAdder();
+
+		private final LongAdder cancelled = new LongAdder();
+
+		private final LongAdder failed = new LongAdder();
+
+		private final LongAdder totalLatency = new LongAdder();
+
+		private final LongAccumulator maxLatency = new LongAccumulator(Math::max, 0L);
+
+		protected void submitted() {
+			submitted.increment();
+		}
+
+		protected void finished(long latencyNanos, boolean isCancelled, boolean isFailed) {
+			if (isCancelled) {
+				cancelled.increment();
+			} else if (isFailed) {
+				failed.increment();
+			} else {
+				completed.increment();
+			}
+			totalLatency.add(latencyNanos);
+			maxLatency.accumulate(latencyNanos);
+		}
+
+		public long getSubmitted() {
+			return submitted.sum();
+		}
+
+		public long getCompleted() {
+			return completed.sum();
+		}
+
+		public long getCancelled() {
+			return cancelled.sum();
+		}
+
+		public long getFailed() {
+			return failed.sum();
+		}
+
+		/**
+		 * The number of requests that were completed, cancelled or that failed.
+		 */
+		public long getFinished() {
+			return getCompleted() + getCancelled() + getFailed();
+		}
+
+		/**
+		 * The ratio of the cancelled requests to all finished requests.
+		 */
+		public double getCancellationRate() {
+			long finished = getFinished();
+			if (finished == 0) {
+				return 0;
+			}
+			return (double) getCancelled() / finished;
+		}
+
+		public long getAverageLatency(TimeUnit unit) {
+			long finished = getFinished();
+			if (finished == 0) {
+				return 0;
+			}
+			return unit.convert(totalLatency.sum() / finished, TimeUnit.NANOSECONDS);
+		}
+
+		public long getMaxLatency(TimeUnit unit) {
+			return unit.convert(maxLatency.get(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public String toString() {
+			return "submitted: " + getSubmitted() + ", completed: " + getCompleted() + ", cancelled: " + getCancelled()
+					+ ", failed: " + getFailed() + ", average latency: " + getAverageLatency(TimeUnit.MILLISECONDS)
+					+ "ms, max latency: " + getMaxLatency(TimeUnit.MILLISECONDS) + "ms";
+		}
+	}
+
+	private final Statistics reads = new Statistics();
+
+	private final Statistics writes = new Statistics();
+
+	public Statistics getReadStatistics() {
+		return reads;
+	}
+
+	public Statistics getWriteStatistics() {
+		return writes;
+	}
+
+	protected Statistics getStatistics(AbstractRequest<?> request) {
+		if (request instanceof WriteRequest) {
+			return writes;
+		}
+		return reads;
+	}
+
+	public void requestSubmitted(AbstractRequest<?> request) {
+		getStatistics(request).submitted();
+	}
+
+	public void requestFinished(AbstractRequest<?> request, long latencyNanos, boolean cancelled, boolean failed) {
+		getStatistics(request).finished(latencyNanos, cancelled, failed);
+	}
+
+	@Override
+	public String toString() {
+		return "reads: [" + reads + "], writes: [" + writes + "]";
+	}
+}
@@ -47,9 +47,11 @@ public class WriteRequest<U, V> extends AbstractRequest<V> {
 			}
 		}
 		try {
+			long snapshotVersion = requestManager.beginSnapshot();
 			U intermediateResult = this.nonCancellable.apply();
 			cancelIndicator.checkCanceled();
 			V writeResult = cancellable.apply(cancelIndicator, intermediateResult);
+			requestManager.endSnapshot(snapshotVersion);
 			complete(writeResult);
 		} catch (Throwable t) {
 			logAndCompleteExceptionally(t);
@@ -13,22 +13,34 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.common.util.WrappedException;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SemanticTokenModifiers;
 import org.eclipse.lsp4j.SemanticTokenTypes;
 import org.eclipse.lsp4j.SemanticTokens;
+import org.eclipse.lsp4j.SemanticTokensDelta;
+import org.eclipse.lsp4j.SemanticTokensDeltaParams;
+import org.eclipse.lsp4j.SemanticTokensEdit;
 import org.eclipse.lsp4j.SemanticTokensParams;
+import org.eclipse.lsp4j.SemanticTokensRangeParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.xtext.ide.editor.syntaxcoloring.IHighlightedPositionAcceptor;
 import org.eclipse.xtext.ide.editor.syntaxcoloring.ISemanticHighlightingCalculator;
 import org.eclipse.xtext.ide.editor.syntaxcoloring.LightweightPosition;
 import org.eclipse.xtext.ide.editor.syntaxcoloring.MergingHighlightedPositionAcceptor;
+import org.eclipse.xtext.ide.editor.syntaxcoloring.RegionFilteringHighlightedPositionAcceptor;
 import org.eclipse.xtext.ide.server.Document;
 import org.eclipse.xtext.ide.util.PositionReader;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.TextRegion;
 
 import com.google.common.annotations.Beta;
 import com.google.inject.Inject;
@@ -36,6 +48,9 @@ import com.google.inject.Inject;
 /**
  * A service for Semantic Tokens.
  * 
+ * The service remembers the last result of a full request per document such that a subsequent delta request can be
+ * answered with the edits to that result.
+ * 
  * @author Rubn Porras Campo - Initial contribution and API
  * @author Jonathan Pollert - Adjust to LSP specification
  * 
@@ -49,6 +64,10 @@ public class SemanticTokensService {
 	private final List<String> tokenTypes = new ArrayList<>();
 	private final List<String> tokenModifiers = new ArrayList<>();
 
+	private final AtomicLong resultIds = new AtomicLong();
+
+	private final Map<URI, SemanticTokens> previousResults = new ConcurrentHashMap<>();
+
 	protected SemanticTokensService() {
 		addTokenTypes();
 		addTokenModifiers();
@@ -93,14 +112,18 @@ public class SemanticTokensService {
 		tokenModifiers.add(SemanticTokenModifiers.Static);
 	}
 
-	private List<LightweightPosition> getPositions(final XtextResource resource,
+	private List<LightweightPosition> getPositions(final XtextResource resource, final TextRegion region,
 			final CancelIndicator cancelIndicator) {
 		ISemanticHighlightingCalculator semanticHighlightingCalculator = getService(resource.getURI(),
 				ISemanticHighlightingCalculator.class);
 		if (semanticHighlightingCalculator != null) {
 			MergingHighlightedPositionAcceptor acceptor = new MergingHighlightedPositionAcceptor(
 					semanticHighlightingCalculator);
-			semanticHighlightingCalculator.provideHighlightingFor(resource, acceptor, cancelIndicator);
+			IHighlightedPositionAcceptor actualAcceptor = acceptor;
+			if (region != null) {
+				actualAcceptor = new RegionFilteringHighlightedPositionAcceptor(region, acceptor);
+			}
+			semanticHighlightingCalculator.provideHighlightingFor(resource, actualAcceptor, cancelIndicator);
 			acceptor.mergePositions();
 			return acceptor.getPositions();
 		}
@@ -125,11 +148,98 @@ public class SemanticTokensService {
 		if (document == null || resource == null) {
 			return new SemanticTokens(Collections.emptyList());
 		}
+		List<Integer> data = computeTokens(document, getPositions(resource, null, cancelIndicator));
+		SemanticTokens result = new SemanticTokens(nextResultId(), data);
+		previousResults.put(resource.getURI(), result);
+		return result;
+	}
+
+	/**
+	 * Semantic tokens full delta. Returns the edits to the previous result of the document if the client refers to
+	 * the last result that was computed for the document, otherwise the complete tokens are returned.
+	 *
+	 * @since 2.35
+	 */
+	public Either<SemanticTokens, SemanticTokensDelta> semanticTokensFullDelta(final Document document,
+			final XtextResource resource, final SemanticTokensDeltaParams params,
+			final CancelIndicator cancelIndicator) {
+		if (document == null || resource == null) {
+			return Either.forLeft(new SemanticTokens(Collections.emptyList()));
+		}
+		List<Integer> data = computeTokens(document, getPositions(resource, null, cancelIndicator));
+		SemanticTokens result = new SemanticTokens(nextResultId(), data);
+		SemanticTokens previous = previousResults.put(resource.getURI(), result);
+		if (previous == null || !previous.getResultId().equals(params.getPreviousResultId())) {
+			return Either.forLeft(result);
+		}
+		return Either.forRight(new SemanticTokensDelta(computeEdits(previous.getData(), data), result.getResultId()));
+	}
+
+	/**
+	 * Semantic tokens for a range of the document. Only the tokens that intersect with the range are computed.
+	 *
+	 * @since 2.35
+	 */
+	public SemanticTokens semanticTokensRange(final Document document, final XtextResource resource,
+			final SemanticTokensRangeParams params, final CancelIndicator cancelIndicator) {
+		if (document == null || resource == null) {
+			return new SemanticTokens(Collections.emptyList());
+		}
+		Range range = params.getRange();
+		int start = document.getOffSet(range.getStart());
+		int end = document.getOffSet(range.getEnd());
+		return new SemanticTokens(
+				computeTokens(document, getPositions(resource, new TextRegion(start, end - start), cancelIndicator)));
+	}
+
+	/**
+	 * Forgets the previous result of the given document, e.g. when the document is closed.
+	 *
+	 * @since 2.35
+	 */
+	public void discardPreviousResult(URI uri) {
+		previousResults.remove(uri);
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	protected String nextResultId() {
+		return Long.toString(resultIds.incrementAndGet());
+	}
+
+	/**
+	 * Computes a single edit that replaces the differing middle part of the previous data by the new data, the common
+	 * prefix and suffix are kept. Returns no edit if the data is equal.
+	 *
+	 * @since 2.35
+	 */
+	protected List<SemanticTokensEdit> computeEdits(List<Integer> previous, List<Integer> data) {
+		int previousSize = previous.size();
+		int size = data.size();
+		int prefix = 0;
+		int maxPrefix = Math.min(previousSize, size);
+		while (prefix < maxPrefix && previous.get(prefix).equals(data.get(prefix))) {
+			prefix++;
+		}
+		if (prefix == previousSize && prefix == size) {
+			return Collections.emptyList();
+		}
+		int suffix = 0;
+		int maxSuffix = maxPrefix - prefix;
+		while (suffix < maxSuffix
+				&& previous.get(previousSize - 1 - suffix).equals(data.get(size - 1 - suffix))) {
+			suffix++;
+		}
+		List<Integer> inserted = new ArrayList<>(data.subList(prefix, size - suffix));
+		return Collections.singletonList(new SemanticTokensEdit(prefix, previousSize - prefix - suffix, inserted));
+	}
+
+	private List<Integer> computeTokens(final Document document, final List<LightweightPosition> positions) {
 		List<Integer> data = new ArrayList<>();
 		int lastOffset = 0;
 		int lastLine = 0;
 		try (PositionReader reader = new PositionReader(document.getContents())) {
-			List<LightweightPosition> positions = getPositions(resource, cancelIndicator);
 			positions.sort(Comparator.comparing(LightweightPosition::getOffset));
 			for (LightweightPosition lightweightPosition : positions) {
 				Integer positionTokenType = getTokenType(lightweightPosition.getIds());
@@ -155,7 +265,7 @@ public class SemanticTokensService {
 		} catch (IOException e) {
 			throw new WrappedException(e);
 		}
-		return new SemanticTokens(data); // resultId not set, no delta support
+		return data;
 	}
 
 	public List<String> getTokenTypes() {
@@ -0,0 +1,445 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server.symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.service.OperationCanceledManager;
+import org.eclipse.xtext.util.CancelIndicator;
+
+import com.google.inject.Inject;
+
+/**
+ * An in-memory index of the exported objects of the workspace that answers workspace symbol queries without scanning
+ * all resource descriptions.
+ *
+ * A description matches a query if its qualified name contains the query, ignoring case. The distinct segments of all
+ * qualified names are indexed by their trigrams, such that the candidates for a query are found by intersecting the
+ * trigram postings of the query. Queries that are too short to have trigrams are answered by a scan over the indexed
+ * names.
+ *
+ * Matches are ranked by how well the last segment of the qualified name fits the query. Only the best
+ * <code>maxResults</code> matches are returned, matches with the same rank are returned in index order.
+ *
+ * The index is updated with the {@link IResourceDescription.Delta deltas} of a build. Removed entries are
+ * tombstoned and the index is compacted once more than half of its entries are removed.
+ *
+ * @since 2.35
+ */
+public class WorkspaceSymbolIndex {
+
+	/**
+	 * The last segment of the qualified name is equal to the query.
+	 */
+	public static final int RANK_EXACT = 0;
+
+	/**
+	 * The last segment of the qualified name starts with the query.
+	 */
+	public static final int RANK_PREFIX = 1;
+
+	/**
+	 * The query matches the start of a camel case word in the last segment of the qualified name.
+	 */
+	public static final int RANK_CAMEL_CASE = 2;
+
+	/**
+	 * The qualified name starts with the query.
+	 */
+	public static final int RANK_QUALIFIED_PREFIX = 3;
+
+	/**
+	 * The qualified name contains the query.
+	 */
+	public static final int RANK_CONTAINS = 4;
+
+	private static final int MIN_ENTRIES_TO_COMPACT = 1024;
+
+	private static final int CANCEL_CHECK_INTERVAL = 256;
+
+	private static class Entry {
+		private final IEObjectDescription description;
+
+		private final String lowerCaseName;
+
+		private Entry(IEObjectDescription description, String lowerCaseName) {
+			this.description = description;
+			this.lowerCaseName = lowerCaseName;
+		}
+	}
+
+	private static class IntList {
+		private int[] data = new int[4];
+
+		private int size;
+
+		private void add(int value) {
+			if (size == data.length) {
+				data = Arrays.copyOf(data, size * 2);
+			}
+			data[size++] = value;
+		}
+
+		private boolean contains(int value) {
+			return Arrays.binarySearch(data, 0, size, value) >= 0;
+		}
+	}
+
+	private static class Match {
+		private final int entry;
+
+		private final int rank;
+
+		private Match(int entry, int rank) {
+			this.entry = entry;
+			this.rank = rank;
+		}
+	}
+
+	private static final Comparator<Match> BEST_FIRST = Comparator.<Match> comparingInt(m -> m.rank)
+			.thenComparingInt(m -> m.entry);
+
+	@Inject
+	private OperationCanceledManager operationCanceledManager = new OperationCanceledManager();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private boolean initialized;
+
+	private final List<Entry> entries = new ArrayList<>();
+
+	private int removedEntries;
+
+	private final Map<URI, int[]> resources = new LinkedHashMap<>();
+
+	private final Map<String, Integer> segmentIds = new HashMap<>();
+
+	private final List<String> segments = new ArrayList<>();
+
+	private final List<IntList> segmentEntries = new ArrayList<>();
+
+	private final Map<Long, IntList> trigramSegments = new HashMap<>();
+
+	/**
+	 * Whether the index has been populated since it was created or {@link #clear() cleared}.
+	 */
+	public boolean isInitialized() {
+		lock.readLock().lock();
+		try {
+			return initialized;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Replaces the contents of this index with the exported objects of the given resource descriptions.
+	 */
+	public void initialize(Iterable<? extends IResourceDescription> resourceDescriptions,
+			CancelIndicator cancelIndicator) {
+		lock.writeLock().lock();
+		try {
+			doClear();
+			int count = 0;
+			for (IResourceDescription resourceDescription : resourceDescriptions) {
+				if (++count % CANCEL_CHECK_INTERVAL == 0) {
+					operationCanceledManager.checkCanceled(cancelIndicator);
+				}
+				doPut(resourceDescription.getURI(), resourceDescription.getExportedObjects());
+			}
+			initialized = true;
+		} catch (RuntimeException | Error e) {
+			doClear();
+			throw e;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Applies the deltas of a build to this index.
+	 */
+	public void update(List<IResourceDescription.Delta> deltas) {
+		lock.writeLock().lock();
+		try {
+			for (IResourceDescription.Delta delta : deltas) {
+				IResourceDescription newDescription = delta.getNew();
+				if (newDescription == null) {
+					doRemove(delta.getUri());
+				} else {
+					doPut(delta.getUri(), newDescription.getExportedObjects());
+				}
+			}
+			compactIfNecessary();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes all entries from this index and marks it as not {@link #isInitialized() initialized}.
+	 */
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			doClear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * The number of indexed descriptions.
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return entries.size() - removedEntries;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the best matches for the given query, best match first.
+	 *
+	 * @param query
+	 *            the query, matched case insensitive against the qualified names.
+	 * @param maxResults
+	 *            the maximum number of returned descriptions.
+	 * @param filter
+	 *            an additional filter that a matching description has to pass.
+	 * @param cancelIndicator
+	 *            checked periodically while the index is queried.
+	 */
+	public List<IEObjectDescription> query(String query, int maxResults, Predicate<? super IEObjectDescription> filter,
+			CancelIndicator cancelIndicator) {
+		if (maxResults <= 0) {
+			return Collections.emptyList();
+		}
+		String lowerCaseQuery = query.toLowerCase();
+		lock.readLock().lock();
+		try {
+			PriorityQueue<Match> best = new PriorityQueue<>(BEST_FIRST.reversed());
+			int bestPossibleRank = lowerCaseQuery.isEmpty() ? RANK_PREFIX : RANK_EXACT;
+			int checked = 0;
+			BitSet candidates = getCandidates(lowerCaseQuery);
+			int next = candidates == null ? 0 : candidates.nextSetBit(0);
+			while (next >= 0 && next < entries.size()) {
+				if (++checked % CANCEL_CHECK_INTERVAL == 0) {
+					operationCanceledManager.checkCanceled(cancelIndicator);
+				}
+				Entry entry = entries.get(next);
+				if (entry != null && entry.lowerCaseName.contains(lowerCaseQuery) && filter.test(entry.description)) {
+					Match match = new Match(next, rank(entry, lowerCaseQuery));
+					if (best.size() < maxResults) {
+						best.add(match);
+					} else if (BEST_FIRST.compare(match, best.peek()) < 0) {
+						best.poll();
+						best.add(match);
+					}
+					if (best.size() == maxResults && best.peek().rank <= bestPossibleRank) {
+						break;
+					}
+				}
+				next = candidates == null ? next + 1 : candidates.nextSetBit(next + 1);
+			}
+			List<Match> matches = new ArrayList<>(best);
+			matches.sort(BEST_FIRST);
+			List<IEObjectDescription> result = new ArrayList<>(matches.size());
+			for (Match match : matches) {
+				result.add(entries.get(match.entry).description);
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private int rank(Entry entry, String lowerCaseQuery) {
+		String lastSegment = entry.description.getQualifiedName().getLastSegment();
+		if (lastSegment != null) {
+			// the lower case name ends with the lower case last segment
+			int lastSegmentStart = entry.lowerCaseName.length() - lastSegment.length();
+			if (entry.lowerCaseName.startsWith(lowerCaseQuery, lastSegmentStart)) {
+				return lastSegment.length() == lowerCaseQuery.length() ? RANK_EXACT : RANK_PREFIX;
+			}
+			for (int i = 1; i < lastSegment.length(); i++) {
+				if (isWordStart(lastSegment, i) && entry.lowerCaseName.startsWith(lowerCaseQuery, lastSegmentStart + i)) {
+					return RANK_CAMEL_CASE;
+				}
+			}
+		}
+		if (entry.lowerCaseName.startsWith(lowerCaseQuery)) {
+			return RANK_QUALIFIED_PREFIX;
+		}
+		return RANK_CONTAINS;
+	}
+
+	private boolean isWordStart(String segment, int index) {
+		char c = segment.charAt(index);
+		char previous = segment.charAt(index - 1);
+		return Character.isUpperCase(c) && !Character.isUpperCase(previous)
+				|| Character.isLetterOrDigit(c) && !Character.isLetterOrDigit(previous);
+	}
+
+	/**
+	 * Returns the entries whose qualified name may contain the query or <code>null</code> if all entries have to be
+	 * scanned.
+	 */
+	private BitSet getCandidates(String lowerCaseQuery) {
+		String longestPart = getLongestPartWithoutDelimiter(lowerCaseQuery);
+		if (longestPart.length() < 3) {
+			return null;
+		}
+		List<IntList> postings = new ArrayList<>();
+		for (int i = 0; i + 3 <= longestPart.length(); i++) {
+			IntList posting = trigramSegments.get(trigram(longestPart, i));
+			if (posting == null) {
+				return new BitSet();
+			}
+			postings.add(posting);
+		}
+		postings.sort(Comparator.comparingInt(p -> p.size));
+		IntList smallest = postings.get(0);
+		BitSet result = new BitSet(entries.size());
+		for (int i = 0; i < smallest.size; i++) {
+			int segment = smallest.data[i];
+			if (isInAll(segment, postings) && segments.get(segment).contains(longestPart)) {
+				IntList segmentEntryList = segmentEntries.get(segment);
+				for (int j = 0; j < segmentEntryList.size; j++) {
+					result.set(segmentEntryList.data[j]);
+				}
+			}
+		}
+		return result;
+	}
+
+	private boolean isInAll(int segment, List<IntList> postings) {
+		for (int i = 1; i < postings.size(); i++) {
+			if (!postings.get(i).contains(segment)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String getLongestPartWithoutDelimiter(String lowerCaseQuery) {
+		String result = "";
+		for (String part : lowerCaseQuery.split("\\.")) {
+			if (part.length() > result.length()) {
+				result = part;
+			}
+		}
+		return result;
+	}
+
+	private long trigram(String text, int index) {
+		return (long) text.charAt(index) << 32 | (long) text.charAt(index + 1) << 16 | text.charAt(index + 2);
+	}
+
+	private void doPut(URI uri, Iterable<IEObjectDescription> descriptions) {
+		doRemove(uri);
+		IntList ids = new IntList();
+		for (IEObjectDescription description : descriptions) {
+			QualifiedName qualifiedName = description.getQualifiedName();
+			if (qualifiedName == null) {
+				continue;
+			}
+			QualifiedName lowerCaseName = qualifiedName.toLowerCase();
+			int id = entries.size();
+			for (int i = 0; i < lowerCaseName.getSegmentCount(); i++) {
+				int segment = getOrCreateSegment(lowerCaseName.getSegment(i));
+				IntList segmentEntryList = segmentEntries.get(segment);
+				if (segmentEntryList.size == 0 || segmentEntryList.data[segmentEntryList.size - 1] != id) {
+					segmentEntryList.add(id);
+				}
+			}
+			entries.add(new Entry(description, lowerCaseName.toString()));
+			ids.add(id);
+		}
+		resources.put(uri, Arrays.copyOf(ids.data, ids.size));
+	}
+
+	private int getOrCreateSegment(String segment) {
+		Integer existing = segmentIds.get(segment);
+		if (existing != null) {
+			return existing;
+		}
+		int id = segments.size();
+		segmentIds.put(segment, id);
+		segments.add(segment);
+		segmentEntries.add(new IntList());
+		for (int i = 0; i + 3 <= segment.length(); i++) {
+			IntList posting = trigramSegments.computeIfAbsent(trigram(segment, i), k -> new IntList());
+			if (posting.size == 0 || posting.data[posting.size - 1] != id) {
+				posting.add(id);
+			}
+		}
+		return id;
+	}
+
+	private void doRemove(URI uri) {
+		int[] ids = resources.remove(uri);
+		if (ids != null) {
+			for (int id : ids) {
+				entries.set(id, null);
+			}
+			removedEntries += ids.length;
+		}
+	}
+
+	private void compactIfNecessary() {
+		if (removedEntries < MIN_ENTRIES_TO_COMPACT || removedEntries * 2 < entries.size()) {
+			return;
+		}
+		Map<URI, List<IEObjectDescription>> live = new LinkedHashMap<>();
+		for (Map.Entry<URI, int[]> resource : resources.entrySet()) {
+			List<IEObjectDescription> descriptions = new ArrayList<>(resource.getValue().length);
+			for (int id : resource.getValue()) {
+				descriptions.add(entries.get(id).description);
+			}
+			live.put(resource.getKey(), descriptions);
+		}
+		boolean wasInitialized = initialized;
+		doClear();
+		for (Map.Entry<URI, List<IEObjectDescription>> resource : live.entrySet()) {
+			doPut(resource.getKey(), resource.getValue());
+		}
+		initialized = wasInitialized;
+	}
+
+	private void doClear() {
+		initialized = false;
+		entries.clear();
+		removedEntries = 0;
+		resources.clear();
+		segmentIds.clear();
+		segments.clear();
+		segmentEntries.clear();
+		trigramSegments.clear();
+	}
+
+}
@@ -8,11 +8,17 @@
  *******************************************************************************/
 package org.eclipse.xtext.ide.server.symbol;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.xtext.findReferences.IReferenceFinder.IResourceAccess;
+import org.eclipse.xtext.ide.server.ILanguageServerAccess;
+import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
@@ -23,11 +29,19 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 /**
+ * Computes the symbols of the workspace that match a query.
+ * 
+ * Once this service is registered as a {@link ILanguageServerAccess.IBuildListener build listener}, queries are
+ * answered from a {@link WorkspaceSymbolIndex} that is populated from the index on the first query and kept up to date
+ * with the deltas of subsequent builds. The symbol index preselects the descriptions whose qualified name contains the
+ * query, ignoring case, before the {@link DocumentSymbolService#filter(IEObjectDescription, String) filter} of the
+ * language is applied. Languages with a more lenient filter should {@link #isIndexEnabled() disable} the symbol index.
+ * 
  * @author kosyakov - Initial contribution and API
  * @since 2.11
  */
 @Singleton
-public class WorkspaceSymbolService {
+public class WorkspaceSymbolService implements ILanguageServerAccess.IBuildListener {
 
 	@Inject
 	private IResourceServiceProvider.Registry registry;
@@ -35,11 +49,106 @@ public class WorkspaceSymbolService {
 	@Inject
 	private OperationCanceledManager operationCanceledManager;
 
+	@Inject
+	private WorkspaceSymbolIndex symbolIndex;
+
+	private volatile boolean receivesDeltas;
+
 	public List<? extends WorkspaceSymbol> getSymbols(
 		String query,
 		IResourceAccess resourceAccess,
 		IResourceDescriptions indexData,
 		CancelIndicator cancelIndicator
+	) {
+		if (!receivesDeltas || !isIndexEnabled()) {
+			return getSymbolsWithoutIndex(query, resourceAccess, indexData, cancelIndicator);
+		}
+		if (!symbolIndex.isInitialized()) {
+			symbolIndex.initialize(indexData.getAllResourceDescriptions(), cancelIndicator);
+		}
+		List<WorkspaceSymbol> result = getIndexedSymbols(query, resourceAccess, indexData, cancelIndicator);
+		if (result == null) {
+			// resources have been removed without a delta, e.g. along with their project
+			symbolIndex.initialize(indexData.getAllResourceDescriptions(), cancelIndicator);
+			result = getIndexedSymbols(query, resourceAccess, indexData, cancelIndicator);
+		}
+		return result;
+	}
+
+	/**
+	 * Updates the symbol index with the deltas of a build.
+	 * 
+	 * @since 2.35
+	 */
+	@Override
+	public void afterBuild(List<IResourceDescription.Delta> deltas) {
+		receivesDeltas = true;
+		if (symbolIndex.isInitialized()) {
+			symbolIndex.update(deltas);
+		}
+	}
+
+	/**
+	 * Whether queries are answered from the {@link WorkspaceSymbolIndex}.
+	 * 
+	 * @since 2.35
+	 */
+	protected boolean isIndexEnabled() {
+		return true;
+	}
+
+	/**
+	 * The maximum number of symbols that are returned for a query that is answered from the
+	 * {@link WorkspaceSymbolIndex}.
+	 * 
+	 * @since 2.35
+	 */
+	protected int getMaxResults() {
+		return 1000;
+	}
+
+	/**
+	 * Returns the symbols for the best matches in the symbol index or <code>null</code> if the symbol index contains
+	 * descriptions of resources that are no longer part of the given index.
+	 */
+	private List<WorkspaceSymbol> getIndexedSymbols(String query, IResourceAccess resourceAccess,
+			IResourceDescriptions indexData, CancelIndicator cancelIndicator) {
+		Map<URI, DocumentSymbolService> services = new HashMap<>();
+		List<IEObjectDescription> matches = symbolIndex.query(query, getMaxResults(), (IEObjectDescription description) -> {
+			DocumentSymbolService documentSymbolService = services.computeIfAbsent(
+					description.getEObjectURI().trimFragment(), this::getDocumentSymbolService);
+			return documentSymbolService != null && documentSymbolService.filter(description, query);
+		}, cancelIndicator);
+		List<WorkspaceSymbol> result = new ArrayList<>(matches.size());
+		for (IEObjectDescription description : matches) {
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			URI resourceURI = description.getEObjectURI().trimFragment();
+			if (indexData.getResourceDescription(resourceURI) == null) {
+				return null;
+			}
+			services.get(resourceURI).createSymbol(description, resourceAccess, result::add);
+		}
+		return result;
+	}
+
+	private DocumentSymbolService getDocumentSymbolService(URI uri) {
+		IResourceServiceProvider resourceServiceProvider = registry.getResourceServiceProvider(uri);
+		if (resourceServiceProvider != null) {
+			return resourceServiceProvider.get(DocumentSymbolService.class);
+		}
+		return null;
+	}
+
+	/**
+	 * Computes the symbols by scanning all resource descriptions of the given index.
+	 * 
+	 * @since 2.35
+	 */
+	protected List<? extends WorkspaceSymbol> getSymbolsWithoutIndex(
+		String query,
+		IResourceAccess resourceAccess,
+		IResourceDescriptions indexData,
+		CancelIndicator cancelIndicator
 	) {
 		List<WorkspaceSymbol> result = new LinkedList<>();
 		for (IResourceDescription resourceDescription : indexData.getAllResourceDescriptions()) {
@@ -150,6 +150,15 @@ public abstract class AbstractXtextGeneratorMojo extends AbstractXtextMojo {
 	 */
 	@Parameter(defaultValue = "false")
 	private boolean writeStorageResources;
+
+	/**
+	 * The number of threads that validate the model files concurrently. With the default of <code>1</code>, the
+	 * files are validated one after another.
+	 * 
+	 * @since 2.35
+	 */
+	@Parameter(defaultValue = "1")
+	private int validationThreads;
 	
 	@Parameter( readonly = true, defaultValue = "${plugin.artifacts}" )
 	private List<Artifact> pluginDependencies;
@@ -218,6 +227,7 @@ public abstract class AbstractXtextGeneratorMojo extends AbstractXtextMojo {
 		builder.setDebugLog(getLog().isDebugEnabled());
 		builder.setIncrementalBuild(incrementalXtextBuild);
 		builder.setWriteStorageResources(writeStorageResources);
+		builder.setValidationThreads(validationThreads);
 		if (writeClasspathConfiguration) {
 			builder.setClasspathConfigurationLocation(classpathConfigurationLocation, mojoExecution.getGoal(), getClassOutputDirectory());
 		}
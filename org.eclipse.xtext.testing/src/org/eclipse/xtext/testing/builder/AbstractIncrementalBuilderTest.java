@@ -117,16 +117,7 @@ public abstract class AbstractIncrementalBuilderTest {
 		BuildRequest result = new BuildRequest();
 		ResourceDescriptionsData newIndex = indexState.getResourceDescriptions().copy();
 		result.setBaseDir(uri(""));
-		XtextResourceSet rs = resourceSetProvider.get();
-		rs.getURIConverter().getURIHandlers().clear();
-		rs.getURIConverter().getURIHandlers().add(inMemoryURIHandler);
-		rs.setClasspathURIContext(AbstractIncrementalBuilderTest.class.getClassLoader());
-		ProjectDescription projectDescription = new ProjectDescription();
-		projectDescription.setName("test-project");
-		projectDescription.attachToEmfObject(rs);
-		ChunkedResourceDescriptions index = new ChunkedResourceDescriptions(Collections.emptyMap(), rs);
-		index.setContainer(projectDescription.getName(), newIndex);
-		result.setResourceSet(rs);
+		result.setResourceSet(newResourceSet(newIndex));
 		result.setDirtyFiles(new ArrayList<>());
 		result.setDeletedFiles(new ArrayList<>());
 		result.setAfterValidate((uri, issues) -> {
@@ -140,6 +131,24 @@ public abstract class AbstractIncrementalBuilderTest {
 		return result;
 	}
 
+	/**
+	 * Create a resource set that reads from the in-memory file system and sees the given index.
+	 * 
+	 * @since 2.35
+	 */
+	protected XtextResourceSet newResourceSet(ResourceDescriptionsData newIndex) {
+		XtextResourceSet rs = resourceSetProvider.get();
+		rs.getURIConverter().getURIHandlers().clear();
+		rs.getURIConverter().getURIHandlers().add(inMemoryURIHandler);
+		rs.setClasspathURIContext(AbstractIncrementalBuilderTest.class.getClassLoader());
+		ProjectDescription projectDescription = new ProjectDescription();
+		projectDescription.setName("test-project");
+		projectDescription.attachToEmfObject(rs);
+		ChunkedResourceDescriptions index = new ChunkedResourceDescriptions(Collections.emptyMap(), rs);
+		index.setContainer(projectDescription.getName(), newIndex);
+		return rs;
+	}
+
 	protected URI delete(URI uri) {
 		try {
 			inMemoryURIHandler.delete(uri, Collections.emptyMap());
@@ -7,20 +7,32 @@
  */
 package org.eclipse.xtext.build;
 
+import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.OutputConfiguration;
 import org.eclipse.xtext.index.IndexTestLanguageInjectorProvider;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.parser.IEncodingProvider;
+import org.eclipse.xtext.resource.IContainer;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionManager;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.impl.ResourceServiceProviderRegistryImpl;
 import org.eclipse.xtext.testing.InjectWith;
 import org.eclipse.xtext.testing.XtextRunner;
 import org.eclipse.xtext.testing.builder.AbstractIncrementalBuilderTest;
 import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.IResourceValidator;
 import org.eclipse.xtext.validation.Issue;
 import org.junit.Assert;
 import org.junit.Test;
@@ -29,6 +41,7 @@ import org.junit.runner.RunWith;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
+import com.google.inject.Injector;
 
 /**
  * @author Sven Efftinge - Initial contribution and API
@@ -53,11 +66,78 @@ public class IncrementalBuilderTest extends AbstractIncrementalBuilderTest {
 		}
 	}
 
+	/**
+	 * Treats an imported name as a prefix of the exported names that it matches.
+	 */
+	public static class PrefixMatchingResourceDescriptionManager extends DefaultResourceDescriptionManager {
+		@Override
+		protected boolean isAffected(Collection<QualifiedName> importedNames, IResourceDescription description) {
+			if (description != null) {
+				for (IEObjectDescription exported : description.getExportedObjects()) {
+					String exportedName = exported.getName().toLowerCase().toString();
+					for (QualifiedName importedName : importedNames) {
+						if (exportedName.startsWith(importedName.toString())) {
+							return true;
+						}
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	private static class ResourceServiceProviderWithManager implements IResourceServiceProvider {
+		private final IResourceServiceProvider delegate;
+
+		private final IResourceDescription.Manager manager;
+
+		private ResourceServiceProviderWithManager(IResourceServiceProvider delegate,
+				IResourceDescription.Manager manager) {
+			this.delegate = delegate;
+			this.manager = manager;
+		}
+
+		@Override
+		public IResourceValidator getResourceValidator() {
+			return delegate.getResourceValidator();
+		}
+
+		@Override
+		public IResourceDescription.Manager getResourceDescriptionManager() {
+			return manager;
+		}
+
+		@Override
+		public IContainer.Manager getContainerManager() {
+			return delegate.getContainerManager();
+		}
+
+		@Override
+		public boolean canHandle(URI uri) {
+			return delegate.canHandle(uri);
+		}
+
+		@Override
+		public IEncodingProvider getEncodingProvider() {
+			return delegate.getEncodingProvider();
+		}
+
+		@Override
+		public <T> T get(Class<T> t) {
+			return delegate.get(t);
+		}
+	}
+
 	@Inject
 	private IResourceServiceProvider.Registry resourceServiceProviderFactory;
 
+	private IResourceServiceProvider.Registry languages;
+
 	@Override
 	public IResourceServiceProvider.Registry getLanguages() {
+		if (languages != null) {
+			return languages;
+		}
 		return resourceServiceProviderFactory;
 	}
 
@@ -130,6 +210,41 @@ public class IncrementalBuilderTest extends AbstractIncrementalBuilderTest {
 		Assert.assertTrue(containsSuffix(generated.values(), "src-gen/A.txt"));
 	}
 
+	@Test
+	public void testParallelFullBuild() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			BuildRequest buildRequest = newBuildRequest((BuildRequest it) -> {
+				String modelA = 
+						"foo {\n" +
+						"	entity A {foo.B reference}\n" +
+						"}\n";
+				String modelB = 
+						"foo {\n" +
+						"	entity B {foo.C reference}\n" +
+						"}\n";
+				String modelC = 
+						"foo {\n" +
+						"	entity C {foo.A reference}\n" +
+						"}\n";
+				it.setDirtyFiles(Lists.newArrayList(newFile("src/A.indextestlanguage", modelA),
+						newFile("src/B.indextestlanguage", modelB), newFile("src/C.indextestlanguage", modelC)));
+				ResourceDescriptionsData index = it.getState().getResourceDescriptions();
+				it.setParallelBuildExecutor(executor);
+				it.setParallelBuildShards(2);
+				it.setResourceSetShardProvider(() -> newResourceSet(index));
+			});
+			build(buildRequest);
+			Assert.assertTrue(issues.toString(), issues.isEmpty());
+			Assert.assertEquals(3, generated.size());
+			Assert.assertTrue(containsSuffix(generated.values(), "src-gen/A.txt", "src-gen/B.txt", "src-gen/C.txt"));
+			Assert.assertEquals(3, Iterables.size(indexState.getResourceDescriptions().getAllResourceDescriptions()));
+			Assert.assertEquals(3, indexState.getFileMappings().getAllGenerated().size());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	@Test(expected = OperationCanceledException.class)
 	public void testCancellation() {
 		IncrementalBuilderTest.CancelOnFirstModel cancelOnFirstModel = new IncrementalBuilderTest.CancelOnFirstModel();
@@ -312,4 +427,107 @@ public class IncrementalBuilderTest extends AbstractIncrementalBuilderTest {
 		Assert.assertEquals(1, deleted.size());
 		Assert.assertTrue(containsSuffix(deleted, "src-gen/A.txt"));
 	}
+
+	@Test
+	public void testParallelIncrementalBuild() {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			build(newBuildRequest((BuildRequest it) -> {
+				String modelA = 
+						"foo {\n" +
+						"	entity A {foo.B reference}\n" +
+						"}\n";
+				String modelB = 
+						"foo {\n" +
+						"	entity B {foo.C reference}\n" +
+						"}\n";
+				String modelC = 
+						"foo {\n" +
+						"	entity C {}\n" +
+						"}\n";
+				String modelD = 
+						"foo {\n" +
+						"	entity D {}\n" +
+						"}\n";
+				it.setDirtyFiles(Lists.newArrayList(newFile("src/A.indextestlanguage", modelA),
+						newFile("src/B.indextestlanguage", modelB), newFile("src/C.indextestlanguage", modelC),
+						newFile("src/D.indextestlanguage", modelD)));
+			}));
+			Assert.assertTrue(issues.toString(), issues.isEmpty());
+			Assert.assertEquals(4, generated.size());
+			build(newBuildRequest((BuildRequest it) -> {
+				String modelB = 
+						"foo {\n" +
+						"	entity B2 {foo.C reference}\n" +
+						"}\n";
+				String modelC = 
+						"foo {\n" +
+						"	entity C {foo.D reference}\n" +
+						"}\n";
+				it.setDirtyFiles(Lists.newArrayList(newFile("src/B.indextestlanguage", modelB),
+						newFile("src/C.indextestlanguage", modelC)));
+				ResourceDescriptionsData index = it.getState().getResourceDescriptions();
+				it.setParallelBuildExecutor(executor);
+				it.setParallelBuildShards(2);
+				it.setResourceSetShardProvider(() -> newResourceSet(index));
+			}));
+			Assert.assertEquals(issues.toString(), 1, issues.size());
+			Assert.assertEquals(2, generated.size());
+			Assert.assertTrue(containsSuffix(generated.values(), "src-gen/B2.txt", "src-gen/C.txt"));
+			Assert.assertTrue(containsSuffix(deleted, "src-gen/B.txt"));
+			Assert.assertEquals(4, Iterables.size(indexState.getResourceDescriptions().getAllResourceDescriptions()));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testUnaffectedCandidateIsNotRebuilt() {
+		buildWithNewEntityBar();
+		Assert.assertTrue(issues.toString(), issues.isEmpty());
+		Assert.assertEquals(1, generated.size());
+		Assert.assertTrue(containsSuffix(generated.values(), "src-gen/Bar.txt"));
+	}
+
+	@Test
+	public void testCustomizedAffectednessIsAskedForCandidates() {
+		URI uri = uri("src/A.indextestlanguage");
+		IResourceServiceProvider original = resourceServiceProviderFactory.getResourceServiceProvider(uri);
+		IResourceDescription.Manager manager = original.get(Injector.class)
+				.getInstance(PrefixMatchingResourceDescriptionManager.class);
+		languages = new ResourceServiceProviderRegistryImpl();
+		languages.getExtensionToFactoryMap().put(uri.fileExtension(),
+				new ResourceServiceProviderWithManager(original, manager));
+		buildWithNewEntityBar();
+		Assert.assertTrue(issues.toString(), issues.isEmpty());
+		Assert.assertEquals(2, generated.size());
+		Assert.assertTrue(containsSuffix(generated.values(), "src-gen/Bar.txt", "src-gen/A.txt"));
+	}
+
+	/**
+	 * Builds A, which imports foo.B, and B, then adds foo.Bar. A does not import the new name.
+	 */
+	private void buildWithNewEntityBar() {
+		build(newBuildRequest((BuildRequest it) -> {
+			String modelA = 
+					"foo {\n" +
+					"	entity A {foo.B reference}\n" +
+					"}\n";
+			String modelB = 
+					"foo {\n" +
+					"	entity B {}\n" +
+					"}\n";
+			it.setDirtyFiles(Lists.newArrayList(newFile("src/A.indextestlanguage", modelA),
+					newFile("src/B.indextestlanguage", modelB)));
+		}));
+		Assert.assertTrue(issues.toString(), issues.isEmpty());
+		Assert.assertEquals(2, generated.size());
+		build(newBuildRequest((BuildRequest it) -> {
+			String modelBar = 
+					"foo {\n" +
+					"	entity Bar {}\n" +
+					"}\n";
+			it.setDirtyFiles(Lists.newArrayList(newFile("src/Bar.indextestlanguage", modelBar)));
+		}));
+	}
 }
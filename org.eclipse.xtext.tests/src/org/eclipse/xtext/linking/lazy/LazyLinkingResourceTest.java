@@ -49,7 +49,10 @@ import org.eclipse.xtext.nodemodel.impl.LeafNode;
 import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.impl.ResourceSetBasedResourceDescriptions;
+import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.scoping.IGlobalScopeProvider;
+import org.eclipse.xtext.scoping.IScope;
+import org.eclipse.xtext.scoping.IScopeProvider;
 import org.eclipse.xtext.tests.AbstractXtextTests;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.StringInputStream;
@@ -62,6 +65,7 @@ import com.google.common.collect.Lists;
 import com.google.inject.Binder;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.Singleton;
 
 /**
  * @author Knut Wannheden - Initial contribution and API
@@ -283,6 +287,61 @@ public class LazyLinkingResourceTest extends AbstractXtextTests {
 		assertFalse(types.basicGet(1).eIsProxy());
 	}
 
+	@Test public void testBulkLinking() throws Exception {
+		with(countingScopeProviderSetup());
+		String model = "type Foo { } type Bar { Foo Missing Foo Bar Missing a; Foo Foo b; }";
+		CountingScopeProvider scopeProvider = get(CountingScopeProvider.class);
+
+		LazyLinkingResource res1 = (LazyLinkingResource) get(XtextResourceSet.class).createResource(URI.createURI("file1.lazylinkingtestlanguage"));
+		res1.load(new StringInputStream(model), null);
+		res1.resolveLazyCrossReferences(CancelIndicator.NullImpl);
+		assertEquals(7, scopeProvider.count);
+
+		scopeProvider.count = 0;
+		LazyLinkingResource res2 = (LazyLinkingResource) get(XtextResourceSet.class).createResource(URI.createURI("file2.lazylinkingtestlanguage"));
+		res2.setBulkLinking(true);
+		res2.load(new StringInputStream(model), null);
+		res2.resolveLazyCrossReferences(CancelIndicator.NullImpl);
+		assertEquals(2, scopeProvider.count);
+
+		Model m = (Model) res2.getContents().get(0);
+		Type foo = m.getTypes().get(0);
+		Type bar = m.getTypes().get(1);
+		InternalEList<Type> types = (InternalEList<Type>) bar.getProperties().get(0).getType();
+		assertSame(foo, types.basicGet(0));
+		assertTrue(types.basicGet(1).eIsProxy());
+		assertSame(foo, types.basicGet(2));
+		assertSame(bar, types.basicGet(3));
+		assertTrue(types.basicGet(4).eIsProxy());
+		assertEquals(res1.getErrors().size(), res2.getErrors().size());
+		assertEquals(2, res2.getErrors().size());
+	}
+
+	@Singleton
+	public static class CountingScopeProvider extends LazyLinkingTestLanguageScopeProvider {
+		private int count;
+
+		@Override
+		public IScope getScope(EObject context, EReference reference) {
+			count++;
+			return super.getScope(context, reference);
+		}
+	}
+
+	protected ISetup countingScopeProviderSetup() {
+		return new LazyLinkingTestLanguageStandaloneSetup() {
+			@Override
+			public Injector createInjector() {
+				return Guice.createInjector(new org.eclipse.xtext.linking.lazy.LazyLinkingTestLanguageRuntimeModule() {
+					@Override
+					public Class<? extends IScopeProvider> bindIScopeProvider() {
+						return CountingScopeProvider.class;
+					}
+				});
+			}
+		};
+	}
+
 	protected ISetup lazyLinkingTestLangaugeSetup() {
 		return new LazyLinkingTestLanguageStandaloneSetup() {
 			@Override
@@ -53,6 +53,25 @@ public class QualifiedNameTest extends Assert {
 		assertEquals(lowerCase, readLowerCase);
 	}
 
+	@Test public void testIntern() {
+		QualifiedName first = QualifiedNameInterning.intern(QualifiedName.create("org", new String("Foo")));
+		QualifiedName second = QualifiedNameInterning.intern(QualifiedName.create(new String("org"), "Foo"));
+		assertSame(first, second);
+		assertSame(first.toLowerCase(), second.toLowerCase());
+		assertSame(first.toLowerCase(), QualifiedNameInterning.intern(QualifiedName.create("org", "foo")));
+		assertSame(first.getFirstSegment(), QualifiedNameInterning.intern(QualifiedName.create("org", "bar")).getFirstSegment());
+		assertTrue(first.hasLowerCase());
+		assertSame(QualifiedName.EMPTY, QualifiedNameInterning.intern(QualifiedName.create()));
+	}
+
+	@Test public void testInternLowerCase() {
+		QualifiedName lowerCase = QualifiedName.create("Lower", "Case").toLowerCase();
+		QualifiedName interned = QualifiedNameInterning.intern(lowerCase);
+		assertSame(lowerCase, interned);
+		assertSame(interned, interned.toLowerCase());
+		assertSame(interned, QualifiedNameInterning.intern(QualifiedName.create("lower", "case")));
+	}
+
 	@Test public void testCreateNull() {
 		assertEquals(QualifiedName.EMPTY, QualifiedName.create());
 		assertEquals(QualifiedName.EMPTY, QualifiedName.create(new String[0]));
@@ -0,0 +1,202 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageStandaloneSetup;
+import org.eclipse.xtext.tests.AbstractXtextTests;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class CompactNodeModelTest extends AbstractXtextTests {
+
+	@Override
+	protected boolean shouldTestSerializer(XtextResource resource) {
+		return false;
+	}
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		with(SimpleExpressionsTestLanguageStandaloneSetup.class);
+	}
+
+	@Test public void testSingleElement() throws Exception {
+		assertSameNodeModel(getParseResult("a"));
+	}
+
+	@Test public void testExpressions() throws Exception {
+		assertSameNodeModel(getParseResult("a + b * (c - d) / e\n  f - (g)\n// comment\nh * i"));
+	}
+
+	@Test public void testNestedParens() throws Exception {
+		assertSameNodeModel(getParseResult(" ( ( ( a ) ) ) /* comment */ (b + c)\n"));
+	}
+
+	@Test public void testSyntaxErrors() throws Exception {
+		IParseResult parseResult = getParseResultAndExpect("a + (b * c\n d -", 2);
+		assertTrue(parseResult.hasSyntaxErrors());
+		assertSameNodeModel(parseResult);
+	}
+
+	@Test public void testEmptyModel() throws Exception {
+		assertSameNodeModel(getParseResultAndExpect("", 1));
+	}
+
+	@Test public void testSemanticElementsReferToCompactNodes() throws Exception {
+		IParseResult parseResult = toCompactParseResult(getParseResult("a + b * (c - d)"));
+		for (EObject element : getSemanticElements(parseResult.getRootASTElement())) {
+			ICompositeNode node = NodeModelUtils.getNode(element);
+			assertTrue(node instanceof CompactCompositeNode);
+			assertSame(element, node.getSemanticElement());
+			assertTrue(node.hasDirectSemanticElement());
+		}
+	}
+
+	@Test public void testGrammarElementsAreShared() throws Exception {
+		IParseResult parseResult = toCompactParseResult(getParseResult("a + b + c + d + e + f"));
+		CompactNodeModel nodeModel = ((CompactParseResult) parseResult).getNodeModel();
+		INode first = NodeModelUtils.findLeafNodeAtOffset(parseResult.getRootNode(), 0);
+		INode last = NodeModelUtils.findLeafNodeAtOffset(parseResult.getRootNode(), 20);
+		assertEquals("a", first.getText());
+		assertEquals("f", last.getText());
+		assertSame(first.getGrammarElement(), last.getGrammarElement());
+		assertEquals(nodeModel.getNode(((CompactNode) first).id), first);
+	}
+
+	protected IParseResult toCompactParseResult(IParseResult parseResult) {
+		return get(CompactNodeModelBuilder.class).createParseResult(parseResult.getRootASTElement(),
+				parseResult.getRootNode(), parseResult.hasSyntaxErrors());
+	}
+
+	protected void assertSameNodeModel(IParseResult parseResult) {
+		ICompositeNode rootNode = parseResult.getRootNode();
+		String text = rootNode.getText();
+		List<List<Object>> expectedNodes = describeAll(rootNode);
+		List<List<Object>> expectedReversedNodes = describe(rootNode.getAsTreeIterable().reverse());
+		List<List<Object>> expectedLeafs = describeLeafs(rootNode);
+		List<List<Object>> expectedLeafsAtOffset = describeLeafsAtOffset(rootNode, text.length());
+		List<EObject> semanticElements = getSemanticElements(parseResult.getRootASTElement());
+		List<List<Object>> expectedSemanticNodes = describeSemanticNodes(semanticElements);
+		List<String> expectedSyntaxErrors = describeSyntaxErrors(parseResult);
+
+		IParseResult compactParseResult = toCompactParseResult(parseResult);
+		ICompositeNode compactRootNode = compactParseResult.getRootNode();
+		assertTrue(compactRootNode instanceof CompactCompositeNode);
+		assertEquals(text, compactRootNode.getText());
+		assertEquals(expectedNodes, describeAll(compactRootNode));
+		assertEquals(expectedLeafs, describeLeafs(compactRootNode));
+		assertEquals(expectedLeafsAtOffset, describeLeafsAtOffset(compactRootNode, text.length()));
+		assertEquals(expectedSemanticNodes, describeSemanticNodes(semanticElements));
+		assertEquals(expectedSyntaxErrors, describeSyntaxErrors(compactParseResult));
+		assertEquals(NodeModelUtils.getEntryParserRule(rootNode), NodeModelUtils.getEntryParserRule(compactRootNode));
+		assertEquals(expectedReversedNodes, describe(compactRootNode.getAsTreeIterable().reverse()));
+	}
+
+	protected List<EObject> getSemanticElements(EObject root) {
+		List<EObject> result = new ArrayList<>();
+		if (root != null) {
+			result.add(root);
+			result.addAll(Lists.<EObject>newArrayList(EcoreUtil.<EObject>getAllContents(root, true)));
+		}
+		return result;
+	}
+
+	protected List<List<Object>> describeAll(ICompositeNode rootNode) {
+		return describe(rootNode.getAsTreeIterable());
+	}
+
+	protected List<List<Object>> describe(Iterable<? extends INode> nodes) {
+		List<List<Object>> result = new ArrayList<>();
+		for (INode node : nodes) {
+			result.add(describe(node));
+		}
+		return result;
+	}
+
+	protected List<List<Object>> describeLeafs(ICompositeNode rootNode) {
+		List<List<Object>> result = new ArrayList<>();
+		for (ILeafNode leaf : rootNode.getLeafNodes()) {
+			result.add(describe(leaf));
+		}
+		return result;
+	}
+
+	protected List<List<Object>> describeLeafsAtOffset(ICompositeNode rootNode, int length) {
+		List<List<Object>> result = new ArrayList<>();
+		for (int offset = 0; offset <= length; offset++) {
+			result.add(describe(NodeModelUtils.findLeafNodeAtOffset(rootNode, offset)));
+		}
+		return result;
+	}
+
+	protected List<List<Object>> describeSemanticNodes(List<EObject> semanticElements) {
+		List<List<Object>> result = new ArrayList<>();
+		for (EObject element : semanticElements) {
+			result.add(describe(NodeModelUtils.getNode(element)));
+			result.add(describe(NodeModelUtils.findActualNodeFor(element)));
+		}
+		return result;
+	}
+
+	protected List<String> describeSyntaxErrors(IParseResult parseResult) {
+		List<String> result = new ArrayList<>();
+		for (INode node : parseResult.getSyntaxErrors()) {
+			result.add(node.getTotalOffset() + ": " + node.getSyntaxErrorMessage().getMessage());
+		}
+		return result;
+	}
+
+	protected List<Object> describe(INode node) {
+		if (node == null) {
+			return null;
+		}
+		ICompositeNode parent = node.getParent();
+		return Arrays.asList(
+				node instanceof ILeafNode ? "leaf" : "composite",
+				node instanceof ILeafNode && ((ILeafNode) node).isHidden(),
+				node.getText(),
+				node.getTotalOffset(),
+				node.getTotalLength(),
+				node.getOffset(),
+				node.getLength(),
+				node.getEndOffset(),
+				node.getTotalStartLine(),
+				node.getTotalEndLine(),
+				node.getStartLine(),
+				node.getEndLine(),
+				node.getGrammarElement(),
+				node.getSemanticElement(),
+				node.hasDirectSemanticElement(),
+				node.getSyntaxErrorMessage() == null ? null : node.getSyntaxErrorMessage().getMessage(),
+				node.hasPreviousSibling(),
+				node.hasNextSibling(),
+				node.getNextSibling() == null ? null : node.getNextSibling().getGrammarElement(),
+				node.getPreviousSibling() == null ? null : node.getPreviousSibling().getGrammarElement(),
+				node instanceof ICompositeNode ? ((ICompositeNode) node).getLookAhead() : -1,
+				node instanceof ICompositeNode ? Lists.newArrayList(((ICompositeNode) node).getChildren()).size() : -1,
+				parent == null ? null : parent.getGrammarElement(),
+				parent == null ? -1 : parent.getTotalOffset(),
+				node.getRootNode().getTotalLength(),
+				node.getTextRegionWithLineInformation().toString());
+	}
+
+}
@@ -105,6 +105,34 @@ public class PartialParsingPerformanceTest extends AbstractPartialParserTest {
 		assertTrue(reparse.hasSyntaxErrors());
 	}
 	
+	@Test public void testReparseLatency() throws Exception {
+		with(ReferenceGrammarTestLanguageStandaloneSetup.class);
+		for (int numElements : new int[] { NUM_ELEMENTS, NUM_ELEMENTS * 10 }) {
+			StringBuilder modelBuilder = new StringBuilder();
+			modelBuilder.append("spielplatz 17 {\n");
+			for(int i=0; i<numElements; ++i) {
+				modelBuilder.append("  kind ( Herbert");
+				modelBuilder.append(i);
+				modelBuilder.append(" 11 )\n");
+			}
+			modelBuilder.append("}\n");
+			String model = modelBuilder.toString();
+			for (int editDistance : new int[] { 1, 16, 256 }) {
+				IParseResult parseResult = getParseResult(model);
+				// edit the element in the middle of the document, such that neither end is favored
+				String name = "Herbert" + numElements / 2;
+				int offset = model.indexOf(name + " ");
+				String newName = "H" + "x".repeat(editDistance - 1);
+				long start = System.nanoTime();
+				IParseResult reparse = reparse(parseResult, offset, name.length(), newName);
+				long micros = (System.nanoTime() - start) / 1000;
+				String expected = model.substring(0, offset) + newName + model.substring(offset + name.length());
+				assertSameStructure(getParseResult(expected).getRootNode(), reparse.getRootNode());
+				System.out.println("Reparse of " + numElements + " elements with edit distance " + editDistance + ": " + micros + " us");
+			}
+		}
+	}
+	
 	@Test public void testBug_255015() throws Exception {
 		with(TreeTestLanguageStandaloneSetup.class);
 		StringBuffer modelBuffer = new StringBuffer(NUM_ELEMENTS * 128);
@@ -20,7 +20,9 @@ import org.eclipse.xtext.parser.antlr.Lexer;
 import org.eclipse.xtext.parser.impl.TokenRegionProvider;
 import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageStandaloneSetup;
 import org.eclipse.xtext.tests.AbstractXtextTests;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.ReplaceRegion;
 import org.eclipse.xtext.util.TextRegion;
 import org.junit.Before;
 import org.junit.Test;
@@ -100,6 +102,23 @@ public class TokenRegionProviderTest extends AbstractXtextTests {
 		assertEquals(1, tokenRegion.getLength());
 	}
 	
+	@Test 
+	public void testTokenReplaceRegionFromNodeModel() throws Exception {
+		String model = "a1 / /* comment */ b2 * (c3 + d4)";
+		ICompositeNode rootNode = getParseResult(model).getRootNode();
+		for (String text : new String[] { "", "x", " ", "7", "+ e5" }) {
+			for(int length=0; length < model.length(); ++length) {
+				for(int offset = 0; offset + length <= model.length(); ++offset) {
+					ReplaceRegion region = new ReplaceRegion(offset, length, text);
+					StringBuilder changedText = new StringBuilder(model);
+					region.applyTo(changedText);
+					ReplaceRegion expected = tokenRegionProvider.getTokenReplaceRegion(changedText.toString(), region);
+					assertEquals(region.toString(), expected, tokenRegionProvider.getTokenReplaceRegion(rootNode, region));
+				}
+			}
+		}
+	}
+	
 	protected CommonToken findTokenStartingAt(final int offset, List<CommonToken> tokens) {
 		return find(tokens, new Predicate<CommonToken>() {
 			@Override
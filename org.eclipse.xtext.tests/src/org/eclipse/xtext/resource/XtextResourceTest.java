@@ -149,4 +149,37 @@ public class XtextResourceTest extends AbstractXtextTests {
 		assertNotSame(cv1, cv2);
 	}
 
+	@Test public void testDeferredUpdates() throws Exception {
+		resource.update(0, 0, simpleModel);
+		IParseResult parseResult = resource.getParseResult();
+		resource.deferUpdates();
+		// spielplatz 1 { kind ( Bob 0 ) } -> spielplatz 1 "Spiel" { kind ( Bob 0 ) kind ( Alice 3 ) }
+		resource.update(simpleModel.length() - 1, 0, "kind ( Al 3 ) ");
+		resource.update(simpleModel.length() + 8, 0, "ice");
+		resource.update(13, 0, "\"Spiel\" ");
+		resource.update(13, 8, "\"Spiel\" ");
+		assertTrue(resource.hasDeferredUpdates());
+		assertSame(parseResult, resource.getParseResult());
+		resource.flushDeferredUpdates();
+		assertFalse(resource.hasDeferredUpdates());
+		String expected = "spielplatz 1 \"Spiel\" { kind ( Bob 0 ) kind ( Alice 3 ) }";
+		assertEquals(expected, resource.getParseResult().getRootNode().getText());
+		assertEquals(0, Iterables.size(resource.getParseResult().getSyntaxErrors()));
+		assertEquals(expected, serialize(resource.getContents().get(0)));
+
+		resource.update(0, 0, " ");
+		assertEquals(" " + expected, resource.getParseResult().getRootNode().getText());
+	}
+
+	@Test public void testUpdateStatistics() throws Exception {
+		UpdateLatencyHistogram histogram = new UpdateLatencyHistogram();
+		resource.setUpdateStatistics(histogram);
+		resource.update(0, 0, simpleModel);
+		resource.update(0, 0, " ");
+		for (XtextResource.UpdatePhase phase : XtextResource.UpdatePhase.values()) {
+			assertEquals(2, histogram.getCount(phase));
+			assertTrue(histogram.getPercentile(phase, 1.0) > 0);
+		}
+	}
+
 }
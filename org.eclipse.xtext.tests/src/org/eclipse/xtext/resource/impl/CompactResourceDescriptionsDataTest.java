@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+/**
+ * Verifies that the {@link CompactResourceDescriptionsData} behaves like the {@link ResourceDescriptionsData}.
+ */
+public class CompactResourceDescriptionsDataTest extends Assert {
+
+	static class TestResourceDescription extends AbstractResourceDescription {
+
+		private final URI uri;
+
+		private final List<IEObjectDescription> exported = new ArrayList<>();
+
+		TestResourceDescription(URI uri, QualifiedName... names) {
+			this.uri = uri;
+			for (QualifiedName name : names) {
+				exported.add(EObjectDescription.create(name, EcorePackage.Literals.ECLASS));
+			}
+		}
+
+		@Override
+		public URI getURI() {
+			return uri;
+		}
+
+		@Override
+		public Iterable<QualifiedName> getImportedNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Iterable<IReferenceDescription> getReferenceDescriptions() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		protected List<IEObjectDescription> computeExportedObjects() {
+			return exported;
+		}
+	}
+
+	private static URI uri(int i) {
+		return URI.createURI("test://resource" + i + ".ext");
+	}
+
+	@Test
+	public void testLookup() {
+		IResourceDescription a = new TestResourceDescription(uri(1), QualifiedName.create("a", "Foo"),
+				QualifiedName.create("a", "Bar"));
+		IResourceDescription b = new TestResourceDescription(uri(2), QualifiedName.create("A", "foo"),
+				QualifiedName.create("b"), QualifiedName.create("b"));
+		CompactResourceDescriptionsData data = new CompactResourceDescriptionsData(Lists.newArrayList(a, b));
+		assertSame(a, data.getResourceDescription(uri(1)));
+		assertSame(b, data.getResourceDescription(uri(2)));
+		assertNull(data.getResourceDescription(uri(3)));
+		assertEquals(Lists.newArrayList(uri(1), uri(2)), Lists.newArrayList(data.getAllURIs()));
+		assertTrue(data.getAllURIs().contains(uri(2)));
+		assertEquals(2, Iterables.size(data.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("a", "foo"), true)));
+		assertEquals(1, Iterables.size(data.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("A", "foo"), false)));
+		assertEquals(2, Iterables.size(data.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("b"), false)));
+
+		data.removeDescription(uri(1));
+		assertNull(data.getResourceDescription(uri(1)));
+		assertEquals(1, Iterables.size(data.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("a", "foo"), true)));
+		assertTrue(Iterables.isEmpty(data.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("a", "bar"), true)));
+		assertEquals(Lists.newArrayList(b), Lists.newArrayList(data.getAllResourceDescriptions()));
+	}
+
+	@Test
+	public void testCopy() {
+		IResourceDescription a = new TestResourceDescription(uri(1), QualifiedName.create("a"));
+		IResourceDescription b = new TestResourceDescription(uri(2), QualifiedName.create("a"));
+		ResourceDescriptionsData data = new CompactResourceDescriptionsData(Lists.newArrayList(a, b));
+		ResourceDescriptionsData copy = data.copy();
+		assertTrue(copy instanceof CompactResourceDescriptionsData);
+		copy.removeDescription(uri(1));
+		assertEquals(2, Iterables.size(data.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("a"), false)));
+		assertEquals(1, Iterables.size(copy.getExportedObjects(EcorePackage.Literals.ECLASS,
+				QualifiedName.create("a"), false)));
+	}
+
+	@Test
+	public void testRandomUpdates() {
+		Random random = new Random(42);
+		ResourceDescriptionsData expected = new ResourceDescriptionsData(Collections.emptyList());
+		ResourceDescriptionsData actual = new CompactResourceDescriptionsData(Collections.emptyList());
+		for (int i = 0; i < 5000; i++) {
+			URI uri = uri(random.nextInt(300));
+			if (random.nextInt(4) == 0) {
+				expected.removeDescription(uri);
+				actual.removeDescription(uri);
+			} else {
+				QualifiedName[] names = new QualifiedName[random.nextInt(5)];
+				for (int j = 0; j < names.length; j++) {
+					names[j] = QualifiedName.create("n", "Name" + random.nextInt(200));
+				}
+				IResourceDescription description = new TestResourceDescription(uri, names);
+				expected.addDescription(uri, description);
+				actual.addDescription(uri, description);
+			}
+		}
+		assertEquals(Lists.newArrayList(expected.getAllURIs()), Lists.newArrayList(actual.getAllURIs()));
+		assertEquals(Lists.newArrayList(expected.getAllResourceDescriptions()),
+				Lists.newArrayList(actual.getAllResourceDescriptions()));
+		for (int i = 0; i < 200; i++) {
+			QualifiedName name = QualifiedName.create("N", "name" + i);
+			assertEquals(name.toString(),
+					Lists.newArrayList(expected.getExportedObjects(EcorePackage.Literals.ECLASS, name, true)),
+					Lists.newArrayList(actual.getExportedObjects(EcorePackage.Literals.ECLASS, name, true)));
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.CompactResourceDescriptionsDataTest.TestResourceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+/**
+ * Tests for the {@link MappedResourceDescriptionsData}.
+ */
+public class MappedResourceDescriptionsDataTest extends Assert {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static URI uri(int i) {
+		return URI.createURI("test://resource" + i + ".ext");
+	}
+
+	private static int count(ResourceDescriptionsData data, QualifiedName name, boolean ignoreCase) {
+		return Iterables.size(data.getExportedObjects(EcorePackage.Literals.ECLASS, name, ignoreCase));
+	}
+
+	private MappedResourceDescriptionsData writeAndLoad(IResourceDescription... descriptions) throws Exception {
+		File file = temporaryFolder.newFile();
+		MappedResourceDescriptionsData.write(Lists.newArrayList(descriptions), file);
+		return MappedResourceDescriptionsData.load(file);
+	}
+
+	@Test
+	public void testLookup() throws Exception {
+		MappedResourceDescriptionsData data = writeAndLoad(
+				new TestResourceDescription(uri(1), QualifiedName.create("a", "Foo"), QualifiedName.create("a", "Bar")),
+				new TestResourceDescription(uri(2), QualifiedName.create("A", "foo"), QualifiedName.create("b")));
+		assertEquals(uri(1), data.getResourceDescription(uri(1)).getURI());
+		assertTrue(data.getResourceDescription(uri(1)) instanceof SerializableResourceDescription);
+		assertSame(data.getResourceDescription(uri(2)), data.getResourceDescription(uri(2)));
+		assertNull(data.getResourceDescription(uri(3)));
+		assertEquals(Lists.newArrayList(uri(1), uri(2)), Lists.newArrayList(data.getAllURIs()));
+		assertTrue(data.getAllURIs().contains(uri(1)));
+		assertEquals(2, count(data, QualifiedName.create("a", "foo"), true));
+		assertEquals(1, count(data, QualifiedName.create("A", "foo"), false));
+		assertEquals(0, count(data, QualifiedName.create("c"), true));
+		assertEquals(QualifiedName.create("a", "Bar"), Iterables.getOnlyElement(
+				data.getExportedObjects(EcorePackage.Literals.ECLASS, QualifiedName.create("A", "BAR"), true)).getName());
+	}
+
+	@Test
+	public void testUpdates() throws Exception {
+		MappedResourceDescriptionsData data = writeAndLoad(
+				new TestResourceDescription(uri(1), QualifiedName.create("a")),
+				new TestResourceDescription(uri(2), QualifiedName.create("a")));
+		ResourceDescriptionsData copy = data.copy();
+		data.removeDescription(uri(1));
+		data.addDescription(uri(2), new TestResourceDescription(uri(2), QualifiedName.create("b")));
+		data.addDescription(uri(3), new TestResourceDescription(uri(3), QualifiedName.create("a")));
+		assertNull(data.getResourceDescription(uri(1)));
+		assertEquals(1, count(data, QualifiedName.create("a"), false));
+		assertEquals(1, count(data, QualifiedName.create("b"), false));
+		assertEquals(Lists.newArrayList(uri(2), uri(3)), Lists.newArrayList(data.getAllURIs()));
+		assertEquals(2, Iterables.size(data.getAllResourceDescriptions()));
+		assertFalse(data.getAllURIs().contains(uri(1)));
+
+		assertEquals(2, count(copy, QualifiedName.create("a"), false));
+		assertEquals(2, copy.getAllURIs().size());
+	}
+
+	@Test
+	public void testChunkedResourceDescriptions() throws Exception {
+		ResourceDescriptionsData first = new ResourceDescriptionsData(
+				Collections.singletonList(new TestResourceDescription(uri(1), QualifiedName.create("a"))));
+		ResourceDescriptionsData second = new ResourceDescriptionsData(
+				Collections.singletonList(new TestResourceDescription(uri(2), QualifiedName.create("b"))));
+		ChunkedResourceDescriptions chunked = new ChunkedResourceDescriptions(
+				ImmutableMap.of("first/project", first, "second project", second));
+		File directory = temporaryFolder.newFolder();
+		chunked.writeMapped(directory);
+
+		ChunkedResourceDescriptions loaded = new ChunkedResourceDescriptions();
+		loaded.readMapped(directory);
+		assertTrue(loaded.getContainer("first/project") instanceof MappedResourceDescriptionsData);
+		assertEquals(uri(2), loaded.getContainer("second project").getResourceDescription(uri(2)).getURI());
+		assertEquals(1, Iterables.size(
+				loaded.getExportedObjects(EcorePackage.Literals.ECLASS, QualifiedName.create("a"), false)));
+		assertEquals(2, Iterables.size(loaded.getAllResourceDescriptions()));
+	}
+
+	@Test
+	public void testStaleChunksAreReplaced() throws Exception {
+		File directory = temporaryFolder.newFolder();
+		new ChunkedResourceDescriptions(ImmutableMap.of("stale", new ResourceDescriptionsData(
+				Collections.singletonList(new TestResourceDescription(uri(1), QualifiedName.create("a"))))))
+						.writeMapped(directory);
+		ChunkedResourceDescriptions chunked = new ChunkedResourceDescriptions(ImmutableMap.of("fresh",
+				new ResourceDescriptionsData(
+						Collections.singletonList(new TestResourceDescription(uri(2), QualifiedName.create("b"))))));
+		chunked.writeMapped(directory);
+
+		ChunkedResourceDescriptions loaded = new ChunkedResourceDescriptions();
+		loaded.readMapped(directory);
+		assertNull(loaded.getContainer("stale"));
+		assertEquals(uri(2), loaded.getContainer("fresh").getResourceDescription(uri(2)).getURI());
+
+		File undeletable = new File(directory, "undeletable" + ChunkedResourceDescriptions.MAPPED_CHUNK_EXTENSION);
+		assertTrue(new File(undeletable, "content").mkdirs());
+		try {
+			chunked.writeMapped(directory);
+			fail("Expected an IOException");
+		} catch (IOException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains(undeletable.getName()));
+		}
+	}
+}
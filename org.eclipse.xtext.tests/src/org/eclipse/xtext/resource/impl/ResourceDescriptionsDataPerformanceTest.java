@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.CompactResourceDescriptionsDataTest.TestResourceDescription;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.Timeout;
+
+import com.google.common.collect.Iterables;
+
+/**
+ * Verifies that the lookups in the {@link ResourceDescriptionsData} and the {@link CompactResourceDescriptionsData}
+ * scale with the number of resources.
+ */
+public class ResourceDescriptionsDataPerformanceTest {
+
+	private static final int NUM_RESOURCES = 5_000;
+
+	private static final int NAMES_PER_RESOURCE = 10;
+
+	@Rule
+	public final Timeout timeout = new Timeout(10000, TimeUnit.MILLISECONDS);
+
+	@Test
+	public void testDefault() {
+		assertLookups(ResourceDescriptionsData::new);
+	}
+
+	@Test
+	public void testCompact() {
+		assertLookups(CompactResourceDescriptionsData::new);
+	}
+
+	private void assertLookups(Function<List<IResourceDescription>, ResourceDescriptionsData> factory) {
+		List<IResourceDescription> descriptions = new ArrayList<>(NUM_RESOURCES);
+		for (int i = 0; i < NUM_RESOURCES; i++) {
+			QualifiedName[] exported = new QualifiedName[NAMES_PER_RESOURCE];
+			for (int j = 0; j < NAMES_PER_RESOURCE; j++) {
+				exported[j] = name(i, j);
+			}
+			descriptions.add(new TestResourceDescription(uri(i), exported));
+		}
+		ResourceDescriptionsData data = factory.apply(descriptions);
+		Assert.assertEquals(NUM_RESOURCES, data.getAllURIs().size());
+		for (int i = 0; i < NUM_RESOURCES; i++) {
+			Assert.assertSame(descriptions.get(i), data.getResourceDescription(uri(i)));
+			for (int j = 0; j < NAMES_PER_RESOURCE; j++) {
+				QualifiedName name = name(i, j);
+				Assert.assertEquals(1, count(data, name, false));
+				Assert.assertEquals(1, count(data, name.toUpperCase(), true));
+				Assert.assertEquals(0, count(data, name.toUpperCase(), false));
+			}
+		}
+		Assert.assertNull(data.getResourceDescription(uri(NUM_RESOURCES)));
+		Assert.assertEquals(0, count(data, name(NUM_RESOURCES, 0), true));
+
+		for (int i = 0; i < NUM_RESOURCES; i += 2) {
+			data.removeDescription(uri(i));
+		}
+		Assert.assertEquals(NUM_RESOURCES / 2, data.getAllURIs().size());
+		for (int i = 0; i < NUM_RESOURCES; i++) {
+			boolean removed = i % 2 == 0;
+			Assert.assertEquals(removed ? null : descriptions.get(i), data.getResourceDescription(uri(i)));
+			Assert.assertEquals(removed ? 0 : 1, count(data, name(i, 0), true));
+		}
+	}
+
+	private static URI uri(int i) {
+		return URI.createURI("test://resource" + i + ".ext");
+	}
+
+	private static QualifiedName name(int i, int j) {
+		return QualifiedName.create("org", "example", "package" + (i % 100), "Type" + i + "_" + j);
+	}
+
+	private static int count(ResourceDescriptionsData data, QualifiedName name, boolean ignoreCase) {
+		return Iterables.size(data.getExportedObjects(EcorePackage.Literals.ECLASS, name, ignoreCase));
+	}
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.linking.LangATestLanguageStandaloneSetup;
+import org.eclipse.xtext.linking.langATestLanguage.Main;
+import org.eclipse.xtext.linking.langATestLanguage.Type;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.tests.AbstractXtextTests;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class ResourceStorageSectionsTest extends AbstractXtextTests {
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		with(new LangATestLanguageStandaloneSetup());
+	}
+
+	@Test
+	public void testWriteAndLoadSectioned() throws Exception {
+		StorageAwareResource resource = createResource("type A type B extends A");
+		byte[] storage = writeStorage(resource, true);
+		Assert.assertArrayEquals(ResourceStorageSections.MAGIC, Arrays.copyOf(storage, ResourceStorageSections.MAGIC.length));
+		StorageAwareResource loaded = loadStorage(resource, storage);
+		Assert.assertTrue(loaded.isLoadedFromStorage());
+		Assert.assertEquals(describeTypes(resource), describeTypes(loaded));
+		assertExportedNames(loaded.getResourceDescription(), "A", "B");
+		Assert.assertEquals(loaded.getURI(), loaded.getResourceDescription().getURI());
+	}
+
+	@Test
+	public void testWriteAndLoadZip() throws Exception {
+		StorageAwareResource resource = createResource("type A type B extends A");
+		byte[] storage = writeStorage(resource, false);
+		Assert.assertEquals('P', storage[0]);
+		Assert.assertEquals('K', storage[1]);
+		StorageAwareResource loaded = loadStorage(resource, storage);
+		Assert.assertEquals(describeTypes(resource), describeTypes(loaded));
+		assertExportedNames(loaded.getResourceDescription(), "A", "B");
+	}
+
+	@Test
+	public void testSectionsAreIndependent() throws Exception {
+		StorageAwareResource resource = createResource("type A type B extends A type C");
+		byte[] storage = writeStorage(resource, true);
+		ResourceStorageSections.Reader sections = ResourceStorageSections.Reader.read(new ByteArrayInputStream(storage));
+		Assert.assertEquals(Arrays.asList(ResourceStorageSections.CONTENTS, ResourceStorageSections.RESOURCE_DESCRIPTION),
+				Lists.newArrayList(sections.getSectionNames()));
+		Assert.assertFalse(sections.hasSection(ResourceStorageSections.NODE_MODEL));
+		try (ObjectInputStream in = new ObjectInputStream(sections.openSection(ResourceStorageSections.RESOURCE_DESCRIPTION))) {
+			assertExportedNames((IResourceDescription) in.readObject(), "A", "B", "C");
+		}
+	}
+
+	@Test
+	public void testRetainSections() throws Exception {
+		StorageAwareResource resource = createResource("type A type B extends A type C");
+		byte[] storage = writeStorage(resource, true);
+		ResourceStorageSections.Reader sections = ResourceStorageSections.Reader.read(new ByteArrayInputStream(storage))
+				.retain(ResourceStorageSections.RESOURCE_DESCRIPTION, ResourceStorageSections.NODE_MODEL);
+		Assert.assertEquals(Collections.singleton(ResourceStorageSections.RESOURCE_DESCRIPTION), sections.getSectionNames());
+		try (ObjectInputStream in = new ObjectInputStream(sections.openSection(ResourceStorageSections.RESOURCE_DESCRIPTION))) {
+			assertExportedNames((IResourceDescription) in.readObject(), "A", "B", "C");
+		}
+	}
+
+	@Test
+	public void testConcurrentDeferredDescription() throws Exception {
+		StorageAwareResource resource = createResource("type A type B extends A");
+		byte[] storage = writeStorage(resource, true);
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		ResourceStorageLoadable loadable = new ResourceStorageLoadable(new ByteArrayInputStream(storage), false) {
+			@Override
+			protected void readResourceDescription(StorageAwareResource resource, InputStream inputStream)
+					throws IOException {
+				reading.countDown();
+				try {
+					proceed.await();
+				} catch (InterruptedException e) {
+					throw new IOException(e);
+				}
+				super.readResourceDescription(resource, inputStream);
+			}
+		};
+		StorageAwareResource loaded = (StorageAwareResource) resource.getResourceSet()
+				.createResource(URI.createURI("hubba:/bubba2.langatestlanguage"));
+		loaded.loadFromStorage(loadable);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<IResourceDescription> first = executor.submit(() -> loaded.getResourceDescription());
+			reading.await();
+			Future<IResourceDescription> second = executor.submit(() -> loaded.getResourceDescription());
+			try {
+				second.get(200, TimeUnit.MILLISECONDS);
+				Assert.fail("The description was returned while it was still being loaded");
+			} catch (TimeoutException e) {
+				// expected, the second reader waits for the first one
+			}
+			proceed.countDown();
+			Assert.assertNotNull(first.get());
+			Assert.assertSame(first.get(), second.get());
+			assertExportedNames(second.get(), "A", "B");
+		} finally {
+			proceed.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testSectionRoundTrip() throws Exception {
+		ResourceStorageSections.Writer writer = new ResourceStorageSections.Writer();
+		try (OutputStream out = writer.newSection("first")) {
+			out.write(new byte[] { 1, 2, 3 });
+		}
+		try (OutputStream out = writer.newSection("second")) {
+			out.write(new byte[1000]);
+		}
+		try (OutputStream out = writer.newSection("empty")) {
+			// nothing to write
+		}
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		writer.writeTo(bout);
+		InputStream in = new ByteArrayInputStream(bout.toByteArray());
+		Assert.assertTrue(ResourceStorageSections.isSectioned(in));
+		ResourceStorageSections.Reader reader = ResourceStorageSections.Reader.read(in);
+		Assert.assertArrayEquals(new byte[1000], readSection(reader, "second"));
+		Assert.assertArrayEquals(new byte[] { 1, 2, 3 }, readSection(reader, "first"));
+		Assert.assertArrayEquals(new byte[0], readSection(reader, "empty"));
+		try {
+			reader.openSection("missing");
+			Assert.fail();
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testTruncatedStorage() throws Exception {
+		ResourceStorageSections.Writer writer = new ResourceStorageSections.Writer();
+		try (OutputStream out = writer.newSection("data")) {
+			out.write(new byte[100]);
+		}
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		writer.writeTo(bout);
+		byte[] truncated = Arrays.copyOf(bout.toByteArray(), bout.size() - 1);
+		try {
+			ResourceStorageSections.Reader.read(new ByteArrayInputStream(truncated));
+			Assert.fail();
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	private byte[] readSection(ResourceStorageSections.Reader reader, String name) throws IOException {
+		try (InputStream in = reader.openSection(name)) {
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			in.transferTo(result);
+			return result.toByteArray();
+		}
+	}
+
+	private List<String> describeTypes(StorageAwareResource resource) {
+		List<String> result = Lists.newArrayList();
+		for (Type type : ((Main) resource.getContents().get(0)).getTypes()) {
+			result.add(type.getName() + (type.getExtends() != null ? " extends " + type.getExtends().getName() : ""));
+		}
+		return result;
+	}
+
+	private void assertExportedNames(IResourceDescription description, String... expected) {
+		List<String> names = Lists.newArrayList();
+		for (IEObjectDescription exported : description.getExportedObjects()) {
+			QualifiedName name = exported.getName();
+			names.add(name.toString());
+		}
+		Assert.assertEquals(Arrays.asList(expected), names);
+	}
+
+	private StorageAwareResource createResource(String model) throws Exception {
+		XtextResourceSet resourceSet = get(XtextResourceSet.class);
+		StorageAwareResource resource = (StorageAwareResource) resourceSet
+				.createResource(URI.createURI("hubba:/bubba.langatestlanguage"));
+		resource.load(getAsStream(model), null);
+		return resource;
+	}
+
+	private byte[] writeStorage(StorageAwareResource resource, boolean sectioned) throws IOException {
+		ResourceStorageFacade facade = (ResourceStorageFacade) resource.getResourceStorageFacade();
+		facade.setSectionedStorage(sectioned);
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		facade.createResourceStorageWritable(bout).writeResource(resource);
+		return bout.toByteArray();
+	}
+
+	private StorageAwareResource loadStorage(StorageAwareResource original, byte[] storage) throws IOException {
+		ResourceStorageLoadable loadable = original.getResourceStorageFacade()
+				.createResourceStorageLoadable(new ByteArrayInputStream(storage));
+		StorageAwareResource result = (StorageAwareResource) original.getResourceSet()
+				.createResource(URI.createURI("hubba:/bubba2.langatestlanguage"));
+		result.loadFromStorage(loadable);
+		return result;
+	}
+
+}
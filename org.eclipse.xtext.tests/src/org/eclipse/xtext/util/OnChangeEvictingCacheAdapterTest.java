@@ -9,6 +9,10 @@
 package org.eclipse.xtext.util;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.impl.AdapterImpl;
@@ -22,6 +26,8 @@ import org.eclipse.xtext.util.OnChangeEvictingCache.CacheAdapter;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.google.common.collect.Lists;
+
 /**
  * @author Sven Efftinge - Initial contribution and API
  */
@@ -77,6 +83,89 @@ public class OnChangeEvictingCacheAdapterTest extends Assert {
 		assertIsSet(ca);
 	}
 	
+	@Test
+	public void testMaximumSize() throws Exception {
+		Resource resource = new ResourceImpl();
+		OnChangeEvictingCache cache = new OnChangeEvictingCache();
+		cache.setMaximumSize(2);
+		CacheAdapter ca = cache.getOrCreate(resource);
+		ca.set("a", "1");
+		ca.set("b", "2");
+		ca.set("a", "3");
+		assertEquals(2, ca.size());
+		ca.set("c", "4");
+		assertEquals(2, ca.size());
+		assertNull(ca.get("a"));
+		assertEquals("2", ca.get("b"));
+		assertEquals("4", ca.get("c"));
+	}
+	
+	@Test
+	public void testStatistics() throws Exception {
+		EcoreFactory factory = EcoreFactory.eINSTANCE;
+		EClass eClass = factory.createEClass();
+		Resource resource = new ResourceImpl();
+		resource.getContents().add(eClass);
+		OnChangeEvictingCache cache = new OnChangeEvictingCache();
+		ResourceScopeCacheStatistics statistics = new ResourceScopeCacheStatistics();
+		cache.setStatistics(statistics);
+		cache.get("foo", resource, () -> "bar");
+		cache.get("foo", resource, () -> "bar");
+		cache.get(Tuples.pair(eClass, "fqn"), resource, () -> "baz");
+		cache.get(Tuples.create(eClass, Boolean.TRUE, "imports"), resource, () -> null);
+		cache.get(Tuples.create(eClass, Boolean.TRUE, "imports"), resource, () -> null);
+		CacheAdapter ca = cache.getOrCreate(resource);
+		assertEquals(2, ca.getHits());
+		assertEquals(3, ca.getMisses());
+		eClass.setName("Changed");
+		assertEquals(0, ca.getHits());
+		assertEquals(0, ca.size());
+		assertEquals(1, statistics.getHits("foo"));
+		assertEquals(1, statistics.getMisses("foo"));
+		assertEquals(1, statistics.getEvictions("foo"));
+		assertEquals(0.5, statistics.getHitRate("foo"), 0.0);
+		assertEquals(0, statistics.getHits("fqn"));
+		assertEquals(1, statistics.getMisses("fqn"));
+		assertEquals(1, statistics.getEvictions("fqn"));
+		assertEquals(1, statistics.getHits("imports"));
+		assertEquals(3, statistics.getCategories().size());
+	}
+	
+	@Test
+	public void testConcurrentReaders() throws Exception {
+		Resource resource = new ResourceImpl();
+		OnChangeEvictingCache cache = new OnChangeEvictingCache();
+		ResourceScopeCacheStatistics statistics = new ResourceScopeCacheStatistics();
+		cache.setStatistics(statistics);
+		AtomicInteger computed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<?>> futures = Lists.newArrayList();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(() -> {
+					for (int j = 0; j < 1000; j++) {
+						int key = j % 100;
+						assertEquals(key, cache.get(key, resource, () -> {
+							computed.incrementAndGet();
+							return key;
+						}).intValue());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		CacheAdapter ca = cache.getOrCreate(resource);
+		assertEquals(1, resource.eAdapters().size());
+		assertEquals(100, ca.size());
+		assertEquals(4000, ca.getHits() + ca.getMisses());
+		assertEquals(computed.get(), ca.getMisses());
+		assertEquals(4000, statistics.getHits(Integer.class.getName()) + statistics.getMisses(Integer.class.getName()));
+	}
+	
 	private void assertIsSet(CacheAdapter ca) {
 		assertEquals(value, ca.get(key));
 	}
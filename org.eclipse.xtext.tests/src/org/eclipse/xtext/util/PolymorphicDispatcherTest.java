@@ -306,4 +306,49 @@ public class PolymorphicDispatcherTest extends Assert {
 		assertEquals("Number_42", dispatcher.invoke(BigInteger.valueOf(42)));
 	}
 
+	@Test public void testPrimitiveAndVoidMethods() {
+		List<String> invoked = new ArrayList<String>();
+		Object o1 = new Object() {
+			String label(int i) {
+				return "int_" + i;
+			}
+
+			void label(String s) {
+				invoked.add(s);
+			}
+		};
+		PolymorphicDispatcher<String> dispatcher = new PolymorphicDispatcher<String>("label", Lists.newArrayList(o1));
+		assertEquals("int_17", dispatcher.invoke(Integer.valueOf(17)));
+		assertNull(dispatcher.invoke("foo"));
+		assertEquals(Collections.singletonList("foo"), invoked);
+	}
+
+	@Test public void testExceptionHandling() {
+		Object o1 = new Object() {
+			String label(String s) {
+				throw new IllegalArgumentException(s);
+			}
+
+			String label(Integer i) {
+				throw new AssertionError(i);
+			}
+		};
+		List<Throwable> handled = new ArrayList<Throwable>();
+		PolymorphicDispatcher<String> dispatcher = new PolymorphicDispatcher<String>("label", 1, 1,
+				Lists.newArrayList(o1), (params, throwable) -> {
+					handled.add(throwable);
+					return "handled";
+				});
+		assertEquals("handled", dispatcher.invoke("foo"));
+		assertEquals(IllegalArgumentException.class, handled.get(0).getClass());
+		assertEquals("foo", handled.get(0).getMessage());
+		try {
+			dispatcher.invoke(Integer.valueOf(1));
+			fail("Expected AssertionError");
+		} catch (AssertionError e) {
+			assertEquals("1", e.getMessage());
+		}
+		assertEquals(1, handled.size());
+	}
+
 }
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.resource.SynchronizedXtextResourceSet;
+import org.eclipse.xtext.service.OperationCanceledError;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+
+public class ParallelResourceValidatorTest extends Assert {
+
+	private ParallelResourceValidator validator;
+
+	private ExecutorService executor;
+
+	private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+	@Before
+	public void setUp() {
+		validator = Guice.createInjector().getInstance(ParallelResourceValidator.class);
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testIssuesInOrderOfResources() {
+		List<Resource> resources = createResources(new SynchronizedXtextResourceSet(), 50);
+		Map<Resource, List<Issue>> result = validator.validate(resources, this::createValidator, CheckMode.ALL,
+				CancelIndicator.NullImpl, executor);
+		assertEquals(resources, new ArrayList<>(result.keySet()));
+		for (Resource resource : resources) {
+			List<Issue> issues = result.get(resource);
+			assertEquals(1, issues.size());
+			assertEquals(resource.getURI().toString(), issues.get(0).getMessage());
+		}
+		assertFalse(threads.contains(Thread.currentThread()));
+	}
+
+	@Test
+	public void testUnsynchronizedResourceSet() {
+		List<Resource> resources = createResources(new ResourceSetImpl(), 5);
+		Map<Resource, List<Issue>> result = validator.validate(resources, this::createValidator, CheckMode.ALL,
+				CancelIndicator.NullImpl, executor);
+		assertEquals(5, result.size());
+		assertEquals(Collections.singleton(Thread.currentThread()), threads);
+	}
+
+	@Test
+	public void testWithoutExecutor() {
+		List<Resource> resources = createResources(new SynchronizedXtextResourceSet(), 5);
+		Map<Resource, List<Issue>> result = validator.validate(resources, this::createValidator, CheckMode.ALL,
+				CancelIndicator.NullImpl, null);
+		assertEquals(resources, new ArrayList<>(result.keySet()));
+		assertEquals(Collections.singleton(Thread.currentThread()), threads);
+	}
+
+	@Test(expected = OperationCanceledError.class)
+	public void testCancellation() {
+		List<Resource> resources = createResources(new SynchronizedXtextResourceSet(), 20);
+		validator.validate(resources, (Resource resource) -> (r, mode, monitor) -> {
+			if (r == resources.get(10)) {
+				throw new OperationCanceledError(new RuntimeException());
+			}
+			return Collections.emptyList();
+		}, CheckMode.ALL, CancelIndicator.NullImpl, executor);
+	}
+
+	private IResourceValidator createValidator(Resource resource) {
+		return (r, mode, monitor) -> {
+			threads.add(Thread.currentThread());
+			try {
+				Thread.sleep(r.getURI().toString().hashCode() % 5 + 5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			Issue.IssueImpl issue = new Issue.IssueImpl();
+			issue.setMessage(r.getURI().toString());
+			return Collections.singletonList(issue);
+		};
+	}
+
+	private List<Resource> createResources(ResourceSet resourceSet, int count) {
+		List<Resource> result = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Resource resource = new ResourceImpl(URI.createURI("inmemory:/resource" + i + ".test"));
+			resourceSet.getResources().add(resource);
+			result.add(resource);
+		}
+		return result;
+	}
+
+}
@@ -9,10 +9,12 @@
 package org.eclipse.xtext.util;
 
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
@@ -24,6 +26,7 @@ import org.eclipse.xtext.util.concurrent.IUnitOfWork;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
 
@@ -33,6 +36,10 @@ import com.google.inject.Singleton;
  * Clients may override this behavior for certain transactions by means of {@link #execWithoutCacheClear(Resource, IUnitOfWork)}
  * or {@link #execWithTemporaryCaching(Resource, IUnitOfWork)}.
  * 
+ * The cache may be used concurrently by multiple readers of a resource. The number of values per resource can be
+ * {@link #setMaximumSize(int) limited}, and the hits, misses and evictions can be observed by means of
+ * {@link Statistics}.
+ * 
  * @author Sven Efftinge - Initial contribution and API
  * @author Sebastian Zarnekow
  */
@@ -50,6 +57,26 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		void onEvict(CacheAdapter cache);
 	}
 	
+	/**
+	 * Receives the hits, misses and evictions of the cache. Implementations have to be thread-safe since they are
+	 * notified by concurrent readers.
+	 * 
+	 * @see ResourceScopeCacheStatistics
+	 * @since 2.35
+	 */
+	public static interface Statistics {
+		void hit(Object key);
+		
+		void miss(Object key);
+		
+		void evicted(Object key);
+	}
+	
+	@Inject(optional = true)
+	private Statistics statistics;
+	
+	private volatile int maximumSize = 0;
+	
 	/**
 	 * Clears the cache of the given resource. 
 	 */
@@ -75,12 +102,19 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		}
 		CacheAdapter adapter = getOrCreate(resource);
 		T element = adapter.<T>internalGet(key);
+		Statistics statistics = this.statistics;
 		if (element==null) {
 			element = provider.get();
 			cacheMiss(adapter);
+			if (statistics != null) {
+				statistics.miss(key);
+			}
 			adapter.set(key, element);
 		} else {
 			cacheHit(adapter);
+			if (statistics != null) {
+				statistics.hit(key);
+			}
 		}
 		if (element == CacheAdapter.NULL) {
 			return null;
@@ -113,12 +147,54 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 	public CacheAdapter getOrCreate(Resource resource) {
 		CacheAdapter adapter = findCacheAdapter(resource);
 		if (adapter == null) {
-			adapter = createCacheAdapter();
-			resource.eAdapters().add(adapter);
-			adapter.setResource(resource);
+			synchronized (resource) {
+				adapter = findCacheAdapter(resource);
+				if (adapter == null) {
+					adapter = createCacheAdapter();
+					adapter.setStatistics(statistics);
+					adapter.setMaximumSize(maximumSize);
+					adapter.setResource(resource);
+					resource.eAdapters().add(adapter);
+				}
+			}
 		}
 		return adapter;
 	}
+	
+	/**
+	 * Limits the number of values that are cached per resource. If the limit is exceeded, the oldest values are
+	 * evicted first. A value of zero or less means unlimited, which is the default. Applies to caches of resources that
+	 * are created afterwards.
+	 * 
+	 * @since 2.35
+	 */
+	public void setMaximumSize(int maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+	
+	/**
+	 * @since 2.35
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+	
+	/**
+	 * Sets the statistics that are notified about hits, misses and evictions. May be <code>null</code>. Applies to
+	 * caches of resources that are created afterwards.
+	 * 
+	 * @since 2.35
+	 */
+	public void setStatistics(Statistics statistics) {
+		this.statistics = statistics;
+	}
+	
+	/**
+	 * @since 2.35
+	 */
+	public Statistics getStatistics() {
+		return statistics;
+	}
 
 	/**
 	 * @since 2.26
@@ -170,7 +246,7 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 	}
 	
 	private static class IgnoreValuesMemento {
-		private final List<Object> keys = Lists.newArrayList();
+		private final Queue<Object> keys = new ConcurrentLinkedQueue<>();
 		private final IgnoreValuesMemento previous;
 		private final CacheAdapter adapter;
 		
@@ -199,7 +275,7 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		
 		private final Map<Object, Object> values;
 
-		private final Collection<Listener> listeners = Sets.newLinkedHashSet();
+		private final Collection<Listener> listeners = Collections.synchronizedSet(Sets.newLinkedHashSet());
 		
 		private final AtomicInteger ignoreNotificationCounter = new AtomicInteger(0);
 		
@@ -209,8 +285,17 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		
 		private Resource resource;
 		
-		private int misses = 0;
-		private int hits = 0;
+		private final AtomicInteger misses = new AtomicInteger();
+		private final AtomicInteger hits = new AtomicInteger();
+		
+		private volatile Statistics statistics;
+		
+		private volatile int maximumSize = 0;
+		
+		/**
+		 * The keys in insertion order, only maintained if the size of the cache is limited.
+		 */
+		private final Queue<Object> insertionOrder = new ConcurrentLinkedQueue<>();
 		
 		public CacheAdapter() {
 			this(500);
@@ -225,14 +310,31 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 
 		public void set(Object name, Object value) {
 			empty = false;
-			if (value != null)
-				this.values.put(name, value);
-			else
-				this.values.put(name, NULL);
+			Object previous = this.values.put(name, value != null ? value : NULL);
 			IgnoreValuesMemento ignoreValuesMemento = this.ignoreValuesMemento;
 			if (ignoreValuesMemento != null) {
 				ignoreValuesMemento.storeKey(name);
 			}
+			int maximumSize = this.maximumSize;
+			if (maximumSize > 0 && previous == null) {
+				insertionOrder.add(name);
+				while (values.size() > maximumSize) {
+					Object oldest = insertionOrder.poll();
+					if (oldest == null) {
+						break;
+					}
+					if (values.remove(oldest) != null) {
+						evicted(oldest);
+					}
+				}
+			}
+		}
+		
+		private void evicted(Object key) {
+			Statistics statistics = this.statistics;
+			if (statistics != null) {
+				statistics.evicted(key);
+			}
 		}
 
 		/**
@@ -255,14 +357,41 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		 * @since 2.1
 		 */
 		protected void cacheMiss() {
-			misses++;
+			misses.incrementAndGet();
 		}
 		
 		/**
 		 * @since 2.1
 		 */
 		protected void cacheHit() {
-			hits++;
+			hits.incrementAndGet();
+		}
+		
+		/**
+		 * The number of cache misses since the values were cleared the last time.
+		 * 
+		 * @since 2.35
+		 */
+		public int getMisses() {
+			return misses.get();
+		}
+		
+		/**
+		 * The number of cache hits since the values were cleared the last time.
+		 * 
+		 * @since 2.35
+		 */
+		public int getHits() {
+			return hits.get();
+		}
+		
+		/**
+		 * The number of cached values.
+		 * 
+		 * @since 2.35
+		 */
+		public int size() {
+			return values.size();
 		}
 		
 		@SuppressWarnings("unchecked")
@@ -293,11 +422,13 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 			super.notifyChanged(notification);
 			if (ignoreNotificationCounter.get() == 0 && isSemanticStateChange(notification)) {
 				clearValues();
-				Iterator<Listener> iter = listeners.iterator();
-				while(iter.hasNext()) {
-					Listener next = iter.next();
-					iter.remove();
-					next.onEvict(this);
+				List<Listener> evictListeners;
+				synchronized (listeners) {
+					evictListeners = Lists.newArrayList(listeners);
+					listeners.clear();
+				}
+				for (Listener listener : evictListeners) {
+					listener.onEvict(this);
 				}
 			}
 		}
@@ -306,13 +437,21 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 			if (!empty) {
 				if (log.isDebugEnabled()) {
 					String lastSegment = resource != null && resource.getURI() != null ? resource.getURI().lastSegment() : "null";
+					int hits = this.hits.get();
+					int misses = this.misses.get();
 					log.debug(String.format("Clear %d cache entries for resource %s after %d hits and %d misses (quota: %d%%)", 
 							values.size(), lastSegment, hits, misses, hits + misses != 0 ? hits * 100 / (hits + misses) : 0));
 				}
+				if (statistics != null) {
+					for (Object key : values.keySet()) {
+						evicted(key);
+					}
+				}
 				values.clear();
+				insertionOrder.clear();
 				empty = true;
-				misses = 0;
-				hits = 0;
+				misses.set(0);
+				hits.set(0);
 			}
 		}
 
@@ -379,6 +518,20 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		protected void setResource(Resource resource) {
 			this.resource = resource;
 		}
+		
+		/**
+		 * @since 2.35
+		 */
+		protected void setStatistics(Statistics statistics) {
+			this.statistics = statistics;
+		}
+		
+		/**
+		 * @since 2.35
+		 */
+		protected void setMaximumSize(int maximumSize) {
+			this.maximumSize = maximumSize;
+		}
 	}
 
 }
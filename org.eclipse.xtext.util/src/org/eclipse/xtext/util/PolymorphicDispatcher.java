@@ -11,13 +11,18 @@ package org.eclipse.xtext.util;
 
 import static org.eclipse.xtext.util.ReflectionUtil.*;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.log4j.Logger;
 
@@ -170,6 +175,7 @@ public class PolymorphicDispatcher<RT> {
 	protected class MethodDesc {
 		private final Object target;
 		private final Method method;
+		private volatile Optional<MethodHandle> methodHandle;
 
 		protected MethodDesc(Object target, Method method) {
 			super();
@@ -177,6 +183,56 @@ public class PolymorphicDispatcher<RT> {
 			this.method = method;
 		}
 
+		/**
+		 * Invokes the method on its target. The method is bound to a {@link MethodHandle} on first use, such that
+		 * subsequent invocations do not have to go through reflection. Methods with primitive parameters are invoked
+		 * reflectively since they rely on the unboxing semantics of {@link Method#invoke(Object, Object...)}.
+		 * 
+		 * @throws Throwable
+		 *             the exception that was thrown by the method itself or an exception that signals that the
+		 *             method could not be invoked reflectively.
+		 * @since 2.35
+		 */
+		public Object invoke(Object[] params) throws Throwable {
+			Optional<MethodHandle> handle = methodHandle;
+			if (handle == null) {
+				handle = Optional.ofNullable(createMethodHandle());
+				methodHandle = handle;
+			}
+			if (handle.isPresent()) {
+				return handle.get().invokeExact(params);
+			}
+			try {
+				method.setAccessible(true);
+				return method.invoke(target, params);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+		}
+
+		/**
+		 * Returns a handle of type {@code (Object[])Object} or <code>null</code> if the method has to be invoked
+		 * reflectively.
+		 */
+		private MethodHandle createMethodHandle() {
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				if (parameterType.isPrimitive()) {
+					return null;
+				}
+			}
+			try {
+				method.setAccessible(true);
+				MethodHandle result = MethodHandles.lookup().unreflect(method).asFixedArity();
+				if (!Modifier.isStatic(method.getModifiers())) {
+					result = result.bindTo(target);
+				}
+				return result.asSpreader(Object[].class, method.getParameterCount())
+						.asType(MethodType.methodType(Object.class, Object[].class));
+			} catch (IllegalAccessException | RuntimeException e) {
+				return null;
+			}
+		}
+
 		public Class<?> getDeclaringClass() {
 			return method.getDeclaringClass();
 		}
@@ -298,16 +354,10 @@ public class PolymorphicDispatcher<RT> {
 			return handleNoSuchMethod(params);
 
 		try {
-			MethodDesc current = result.get(0);
-			current.method.setAccessible(true);
-			return (RT) current.method.invoke(current.target, params);
-		} catch (InvocationTargetException e) {
-			if (e.getTargetException() instanceof Error)
-				throw (Error) e.getTargetException();
-			return handler.handle(params, e.getTargetException());
-		} catch (IllegalArgumentException e) {
-			return handler.handle(params, e);
-		} catch (IllegalAccessException e) {
+			return (RT) result.get(0).invoke(params);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
 			return handler.handle(params, e);
 		}
 	}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.util;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.inject.Singleton;
+
+/**
+ * Aggregates the hits, misses and evictions of an {@link OnChangeEvictingCache} per category of cache keys. The
+ * category of a key identifies the client of the cache, e.g. the string or class that is used as the key or as the
+ * first component of a {@link Pair} or {@link Triple}.
+ *
+ * The statistics are collected if they are bound as the {@link OnChangeEvictingCache.Statistics} of the cache, e.g.
+ *
+ * <pre>
+ * binder.bind(OnChangeEvictingCache.Statistics.class).to(ResourceScopeCacheStatistics.class);
+ * </pre>
+ *
+ * @since 2.35
+ */
+@Singleton
+public class ResourceScopeCacheStatistics implements OnChangeEvictingCache.Statistics {
+
+	private static final int HITS = 0;
+	private static final int MISSES = 1;
+	private static final int EVICTIONS = 2;
+
+	private final Map<String, LongAdder[]> counters = new ConcurrentHashMap<>();
+
+	@Override
+	public void hit(Object key) {
+		getCounters(key)[HITS].increment();
+	}
+
+	@Override
+	public void miss(Object key) {
+		getCounters(key)[MISSES].increment();
+	}
+
+	@Override
+	public void evicted(Object key) {
+		getCounters(key)[EVICTIONS].increment();
+	}
+
+	private LongAdder[] getCounters(Object key) {
+		return counters.computeIfAbsent(getCategory(key),
+				k -> new LongAdder[] { new LongAdder(), new LongAdder(), new LongAdder() });
+	}
+
+	/**
+	 * Returns the category of the given cache key. Strings and classes are their own category. Pairs and triples are
+	 * categorized by their first string or class component. Other keys are categorized by their type.
+	 */
+	protected String getCategory(Object key) {
+		if (key instanceof String) {
+			return (String) key;
+		}
+		if (key instanceof Class<?>) {
+			return ((Class<?>) key).getName();
+		}
+		if (key instanceof Triple<?, ?, ?>) {
+			Triple<?, ?, ?> triple = (Triple<?, ?, ?>) key;
+			String result = getComponentCategory(triple.getFirst(), triple.getSecond(), triple.getThird());
+			if (result != null) {
+				return result;
+			}
+		} else if (key instanceof Pair<?, ?>) {
+			Pair<?, ?> pair = (Pair<?, ?>) key;
+			String result = getComponentCategory(pair.getFirst(), pair.getSecond());
+			if (result != null) {
+				return result;
+			}
+		}
+		return key.getClass().getName();
+	}
+
+	private String getComponentCategory(Object... components) {
+		for (Object component : components) {
+			if (component instanceof String || component instanceof Class<?>) {
+				return getCategory(component);
+			}
+		}
+		return null;
+	}
+
+	public Set<String> getCategories() {
+		return counters.keySet();
+	}
+
+	public long getHits(String category) {
+		return get(category, HITS);
+	}
+
+	public long getMisses(String category) {
+		return get(category, MISSES);
+	}
+
+	public long getEvictions(String category) {
+		return get(category, EVICTIONS);
+	}
+
+	/**
+	 * The ratio of hits to all requests of the given category, or zero if there were no requests.
+	 */
+	public double getHitRate(String category) {
+		long hits = getHits(category);
+		long requests = hits + getMisses(category);
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+	private long get(String category, int index) {
+		LongAdder[] result = counters.get(category);
+		return result == null ? 0 : result[index].sum();
+	}
+
+	public void reset() {
+		counters.clear();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder();
+		for (String category : new TreeMap<>(counters).keySet()) {
+			result.append(String.format("%s: %d hits, %d misses, %d evictions (quota: %d%%)\n", category,
+					getHits(category), getMisses(category), getEvictions(category),
+					Math.round(getHitRate(category) * 100)));
+		}
+		return result.toString();
+	}
+
+}
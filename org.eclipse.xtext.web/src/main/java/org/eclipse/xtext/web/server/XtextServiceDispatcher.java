@@ -38,6 +38,7 @@ import org.eclipse.xtext.web.server.generator.GeneratorService;
 import org.eclipse.xtext.web.server.hover.HoverService;
 import org.eclipse.xtext.web.server.model.IWebDocumentProvider;
 import org.eclipse.xtext.web.server.model.IWebResourceSetProvider;
+import org.eclipse.xtext.web.server.model.IWebSessionEvictionPolicy;
 import org.eclipse.xtext.web.server.model.IXtextWebDocument;
 import org.eclipse.xtext.web.server.model.PrecomputedServiceRegistry;
 import org.eclipse.xtext.web.server.model.UpdateDocumentService;
@@ -194,6 +195,9 @@ public class XtextServiceDispatcher {
 	@Inject
 	private IWebDocumentProvider documentProvider;
 
+	@Inject
+	private IWebSessionEvictionPolicy sessionEvictionPolicy;
+
 	@Inject
 	private FileExtensionProvider fileExtensionProvider;
 
@@ -649,6 +653,7 @@ public class XtextServiceDispatcher {
 			document.setInput(resource);
 			if (resourceId != null) {
 				context.getSession().put(Pair.of(XtextWebDocument.class, resourceId), document);
+				sessionEvictionPolicy.documentAccessed(resourceId, context.getSession());
 			}
 			return document;
 		} catch (IOException e) {
@@ -663,13 +668,15 @@ public class XtextServiceDispatcher {
 	 */
 	protected XtextWebDocument getResourceDocument(String resourceId, IServiceContext context) {
 		try {
-			return context.getSession().get(Pair.of(XtextWebDocument.class, resourceId), () -> {
+			XtextWebDocument document = context.getSession().get(Pair.of(XtextWebDocument.class, resourceId), () -> {
 				try {
 					return resourceHandler.get(resourceId, context);
 				} catch (Throwable t) {
 					throw Exceptions.sneakyThrow(t);
 				}
 			});
+			sessionEvictionPolicy.documentAccessed(resourceId, context.getSession());
+			return document;
 		} catch (Throwable t) {
 			if (t instanceof IOException) {
 				return null;
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.web.server.model;
+
+import org.eclipse.xtext.web.server.ISession;
+
+import com.google.inject.ImplementedBy;
+
+/**
+ * Decides when the documents that are stored in a session are dropped to free their resource sets. Evicted documents
+ * are reloaded by the next request that accesses them, and clients that still refer to their previous state receive
+ * a conflict and send the full text again.
+ *
+ * @since 2.35
+ */
+@ImplementedBy(IWebSessionEvictionPolicy.NullImpl.class)
+public interface IWebSessionEvictionPolicy {
+	/**
+	 * The default implementation never evicts documents; they live as long as the session.
+	 */
+	class NullImpl implements IWebSessionEvictionPolicy {
+		@Override
+		public void documentAccessed(String resourceId, ISession session) {
+		}
+	}
+
+	/**
+	 * Notifies the policy that the document with the given resource id was obtained from the given session.
+	 */
+	void documentAccessed(String resourceId, ISession session);
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.web.server.model;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+import org.eclipse.xtext.web.server.ISession;
+import org.eclipse.xtext.xbase.lib.Pair;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Evicts the documents of the least recently used sessions if more than a maximum number of sessions hold documents,
+ * and the documents of sessions that were idle for longer than a maximum time. The limits can be configured with the
+ * system properties {@value #MAXIMUM_SESSIONS_PROPERTY} and {@value #MAXIMUM_IDLE_MINUTES_PROPERTY}. Bind it with
+ *
+ * <pre>
+ * binder.bind(IWebSessionEvictionPolicy.class).to(LruWebSessionEvictionPolicy.class);
+ * </pre>
+ *
+ * @since 2.35
+ */
+@Singleton
+public class LruWebSessionEvictionPolicy implements IWebSessionEvictionPolicy {
+
+	private static final Logger LOG = Logger.getLogger(LruWebSessionEvictionPolicy.class);
+
+	public static final String MAXIMUM_SESSIONS_PROPERTY = "org.eclipse.xtext.web.server.model.LruWebSessionEvictionPolicy.MAXIMUM_SESSIONS";
+
+	public static final String MAXIMUM_IDLE_MINUTES_PROPERTY = "org.eclipse.xtext.web.server.model.LruWebSessionEvictionPolicy.MAXIMUM_IDLE_MINUTES";
+
+	public static final int DEFAULT_MAXIMUM_SESSIONS = 200;
+
+	public static final int DEFAULT_MAXIMUM_IDLE_MINUTES = 30;
+
+	/**
+	 * The key of the {@link SessionDocuments} in the session store.
+	 */
+	private static final String SESSION_KEY = LruWebSessionEvictionPolicy.class.getName();
+
+	/**
+	 * The documents of a session. Since the {@link ISession} may be a new wrapper for each request, the instance that
+	 * is stored in the session identifies the session.
+	 */
+	protected static class SessionDocuments {
+		private final Set<String> resourceIds = ConcurrentHashMap.newKeySet();
+
+		public Set<String> getResourceIds() {
+			return resourceIds;
+		}
+	}
+
+	private final Cache<SessionDocuments, ISession> sessions;
+
+	@Inject
+	public LruWebSessionEvictionPolicy() {
+		this(Integer.getInteger(MAXIMUM_SESSIONS_PROPERTY, DEFAULT_MAXIMUM_SESSIONS),
+				Integer.getInteger(MAXIMUM_IDLE_MINUTES_PROPERTY, DEFAULT_MAXIMUM_IDLE_MINUTES), TimeUnit.MINUTES);
+	}
+
+	public LruWebSessionEvictionPolicy(long maximumSessions, long maximumIdleTime, TimeUnit unit) {
+		this.sessions = CacheBuilder.newBuilder()
+				.maximumSize(maximumSessions)
+				.expireAfterAccess(maximumIdleTime, unit)
+				.removalListener((RemovalNotification<SessionDocuments, ISession> notification) -> {
+					if (notification.wasEvicted()) {
+						evict(notification.getKey(), notification.getValue());
+					}
+				})
+				.build();
+	}
+
+	@Override
+	public void documentAccessed(String resourceId, ISession session) {
+		SessionDocuments documents = session.get(SESSION_KEY, () -> new SessionDocuments());
+		documents.getResourceIds().add(resourceId);
+		// the latest wrapper is kept to access the session store when the documents are evicted
+		sessions.put(documents, session);
+	}
+
+	/**
+	 * Removes the documents from the given session.
+	 */
+	protected void evict(SessionDocuments documents, ISession session) {
+		try {
+			session.remove(SESSION_KEY);
+			for (String resourceId : documents.getResourceIds()) {
+				session.remove(Pair.of(XtextWebDocument.class, resourceId));
+			}
+		} catch (IllegalStateException e) {
+			// the session was already invalidated
+			LOG.trace("Session was invalidated before its documents were evicted.", e);
+		}
+	}
+
+	/**
+	 * Evicts the documents of the sessions that exceeded the maximum idle time. This happens as part of
+	 * {@link #documentAccessed(String, ISession)} as well, but may be triggered periodically if the server becomes
+	 * idle.
+	 */
+	public void cleanUp() {
+		sessions.cleanUp();
+	}
+
+	/**
+	 * The number of sessions whose documents are currently retained.
+	 */
+	public long getSessionCount() {
+		return sessions.size();
+	}
+
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.web.server.model;
+
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.web.server.IServiceContext;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+
+/**
+ * Creates a new resource set for each resource like the {@link IWebResourceSetProvider.DefaultImpl default
+ * implementation}, but configures it with the {@link SharedResourceIndex}. Common resources are thus indexed once
+ * for the whole server instead of once per session. To share the JVM types of the JDK and of libraries as well, bind
+ * the {@code IJvmTypeProvider.Factory} to the {@code SharedClasspathTypeProviderFactory}, e.g.
+ *
+ * <pre>
+ * binder.bind(IWebResourceSetProvider.class).to(SharedIndexWebResourceSetProvider.class);
+ * binder.bind(IJvmTypeProvider.Factory.class).to(SharedClasspathTypeProviderFactory.class);
+ * </pre>
+ *
+ * @since 2.35
+ */
+public class SharedIndexWebResourceSetProvider implements IWebResourceSetProvider {
+
+	@Inject
+	private Provider<ResourceSet> provider;
+
+	@Inject
+	private SharedResourceIndex sharedIndex;
+
+	@Override
+	public ResourceSet get(String resourceId, IServiceContext serviceContext) {
+		ResourceSet resourceSet = provider.get();
+		sharedIndex.installInto(resourceSet);
+		return resourceSet;
+	}
+
+}
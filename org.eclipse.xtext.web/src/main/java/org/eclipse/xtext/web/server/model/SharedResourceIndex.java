@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.web.server.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+
+/**
+ * A read-only index of resources that are common to all editor sessions, e.g. shared model files or libraries. The
+ * resources are loaded once, their descriptions are copied into a detached {@link ResourceDescriptionsData} and the
+ * resources themselves are unloaded again. Resource sets that are {@link #installInto(ResourceSet) configured} with
+ * this index see its descriptions shadowed by their own resources, so each session only holds the documents it
+ * actually edits.
+ * <p>
+ * The descriptions are never modified after they have been published. {@link #addResources(Collection) Adding} or
+ * {@link #removeResources(Collection) removing} resources creates a new snapshot, which is used by resource sets that
+ * are configured afterwards. Resource sets that were configured before keep their consistent view.
+ * </p>
+ * <p>
+ * If several languages are served, bind the same instance in all of their injectors to share the index across
+ * languages.
+ * </p>
+ *
+ * @see SharedIndexWebResourceSetProvider
+ * @since 2.35
+ */
+@Singleton
+public class SharedResourceIndex {
+
+	private static final Logger LOG = Logger.getLogger(SharedResourceIndex.class);
+
+	/**
+	 * The name of the chunk that holds the shared descriptions in the {@link ChunkedResourceDescriptions} of a
+	 * configured resource set.
+	 */
+	public static final String CONTAINER_NAME = "shared";
+
+	@Inject
+	private Provider<ResourceSet> resourceSetProvider;
+
+	@Inject
+	private IResourceServiceProvider.Registry resourceServiceProviderRegistry;
+
+	private volatile ResourceDescriptionsData data = new ResourceDescriptionsData(Collections.emptyList());
+
+	/**
+	 * The current snapshot of the shared descriptions. It must not be modified.
+	 */
+	public ResourceDescriptionsData getResourceDescriptions() {
+		return data;
+	}
+
+	/**
+	 * Loads the given resources and adds their descriptions to the shared index. Resources that are already part of
+	 * the index are replaced. The resources are loaded into a common resource set, such that references between them
+	 * are resolved.
+	 */
+	public synchronized void addResources(Collection<URI> uris) {
+		ResourceSet resourceSet = resourceSetProvider.get();
+		List<Resource> resources = new ArrayList<>(uris.size());
+		for (URI uri : uris) {
+			try {
+				resources.add(resourceSet.getResource(uri, true));
+			} catch (WrappedException e) {
+				LOG.error("Failed to load shared resource " + uri, e.getCause());
+			}
+		}
+		ResourceDescriptionsData newData = data.copy();
+		for (Resource resource : resources) {
+			IResourceServiceProvider serviceProvider = resourceServiceProviderRegistry
+					.getResourceServiceProvider(resource.getURI());
+			if (serviceProvider == null) {
+				continue;
+			}
+			IResourceDescription description = serviceProvider.getResourceDescriptionManager()
+					.getResourceDescription(resource);
+			newData.addDescription(resource.getURI(), SerializableResourceDescription.createCopy(description));
+		}
+		for (Resource resource : resources) {
+			resource.unload();
+		}
+		resourceSet.getResources().clear();
+		data = newData;
+	}
+
+	/**
+	 * Removes the descriptions of the given resources from the shared index.
+	 */
+	public synchronized void removeResources(Collection<URI> uris) {
+		ResourceDescriptionsData newData = data.copy();
+		for (URI uri : uris) {
+			newData.removeDescription(uri);
+		}
+		data = newData;
+	}
+
+	/**
+	 * Configures the given resource set such that the scope of its resources covers the current snapshot of the shared
+	 * index. The shared descriptions are shadowed by the resources of the resource set, which requires the
+	 * {@link ResourceDescriptionsProvider#LIVE_SCOPE live scope} to be bound to
+	 * {@link org.eclipse.xtext.resource.impl.LiveShadowedChunkedResourceDescriptions LiveShadowedChunkedResourceDescriptions}
+	 * as done by the {@code DefaultIdeModule}.
+	 */
+	public void installInto(ResourceSet resourceSet) {
+		new ChunkedResourceDescriptions(Collections.singletonMap(CONTAINER_NAME, data), resourceSet);
+		resourceSet.getLoadOptions().put(ResourceDescriptionsProvider.LIVE_SCOPE, Boolean.TRUE);
+	}
+
+}
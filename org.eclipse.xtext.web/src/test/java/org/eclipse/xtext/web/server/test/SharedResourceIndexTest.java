@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.web.server.test;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.web.server.ISession;
+import org.eclipse.xtext.web.server.XtextServiceDispatcher;
+import org.eclipse.xtext.web.server.model.IWebResourceSetProvider;
+import org.eclipse.xtext.web.server.model.IWebSessionEvictionPolicy;
+import org.eclipse.xtext.web.server.model.LruWebSessionEvictionPolicy;
+import org.eclipse.xtext.web.server.model.SharedIndexWebResourceSetProvider;
+import org.eclipse.xtext.web.server.model.SharedResourceIndex;
+import org.eclipse.xtext.web.server.model.XtextWebDocument;
+import org.eclipse.xtext.web.server.test.languages.StatemachineWebModule;
+import org.eclipse.xtext.web.server.validation.ValidationResult;
+import org.eclipse.xtext.xbase.lib.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+
+public class SharedResourceIndexTest extends AbstractWebServerTest {
+	@Inject
+	private SharedResourceIndex sharedIndex;
+
+	@Override
+	protected StatemachineWebModule getWebModule() {
+		return new StatemachineWebModule() {
+			@SuppressWarnings("unused")
+			public Class<? extends IWebResourceSetProvider> bindIWebResourceSetProvider() {
+				return SharedIndexWebResourceSetProvider.class;
+			}
+
+			@SuppressWarnings("unused")
+			public IWebSessionEvictionPolicy bindIWebSessionEvictionPolicy() {
+				return new LruWebSessionEvictionPolicy(1, 1, TimeUnit.HOURS);
+			}
+		};
+	}
+
+	protected List<String> validate(ImmutableMap<String, String> parameters, ISession session) {
+		XtextServiceDispatcher.ServiceDescriptor validate = getService(parameters, session);
+		ValidationResult result = (ValidationResult) validate.getService().apply();
+		return result.getIssues().stream().map(it -> it.getDescription()).collect(Collectors.toList());
+	}
+
+	@Test
+	public void testSharedResourceIsVisible() {
+		File shared = createFile("input signal x state shared state nested end end");
+		ImmutableMap<String, String> parameters = ImmutableMap.of("serviceType", "validate", "fullText",
+				"state foo if x == true goto shared.nested end");
+		Assert.assertEquals(2, validate(parameters, new HashMapSession()).size());
+		sharedIndex.addResources(Collections.singletonList(URI.createFileURI(shared.getAbsolutePath())));
+		Assert.assertEquals(Collections.emptyList(), validate(parameters, new HashMapSession()));
+		sharedIndex.removeResources(Collections.singletonList(URI.createFileURI(shared.getAbsolutePath())));
+		Assert.assertEquals(2, validate(parameters, new HashMapSession()).size());
+	}
+
+	@Test
+	public void testSessionDocumentShadowsSharedResource() {
+		File file = createFile("input signal x state a end state b if x == true goto a end");
+		sharedIndex.addResources(Collections.singletonList(URI.createFileURI(file.getAbsolutePath())));
+		HashMapSession session = new HashMapSession();
+		getService(ImmutableMap.of("serviceType", "update", "resource", file.getName(), "fullText",
+				"input signal x state c end state b if x == true goto a end"), session).getService().apply();
+		Assert.assertEquals(Collections.singletonList("Couldn't resolve reference to State 'a'."),
+				validate(ImmutableMap.of("serviceType", "validate", "resource", file.getName()), session));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedSessionIsEvicted() {
+		File file = createFile("state foo end");
+		HashMapSession session1 = new HashMapSession();
+		HashMapSession session2 = new HashMapSession();
+		Pair<Class<XtextWebDocument>, String> key = Pair.of(XtextWebDocument.class, file.getName());
+		validate(ImmutableMap.of("serviceType", "validate", "resource", file.getName()), session1);
+		Assert.assertNotNull(session1.get(key));
+		validate(ImmutableMap.of("serviceType", "validate", "resource", file.getName()), session2);
+		Assert.assertNull(session1.get(key));
+		Assert.assertNotNull(session2.get(key));
+		validate(ImmutableMap.of("serviceType", "validate", "resource", file.getName()), session2);
+		Assert.assertNotNull(session2.get(key));
+	}
+}
@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.lib;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.function.Consumer;
+
+import org.eclipse.xtend2.lib.StreamingStringConcatenation;
+import org.eclipse.xtend2.lib.StringConcatenation;
+import org.eclipse.xtend2.lib.StringConcatenationClient;
+import org.eclipse.xtend2.lib.StringConcatenationClient.TargetStringConcatenation;
+import org.junit.Test;
+
+public class StreamingStringConcatenationTest {
+
+    @Test
+    public void testEmpty() {
+        assertContent("", target -> {});
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testEmptyDelimiter() {
+        new StreamingStringConcatenation(new StringWriter(), "");
+    }
+
+    @Test
+    public void testAppendNull() {
+        assertContent("", target -> {
+            target.append(null);
+            target.append(null, " ");
+        });
+    }
+
+    @Test
+    public void testIndentConcat() {
+        assertContent("a\n b\n  c\n   d", target -> {
+            target.append("a\n", " ");
+            target.append("b\r", "  ");
+            target.append("c\r\nd", "   ");
+        });
+    }
+
+    @Test
+    public void testNewLineIfNotEmpty() {
+        assertContent("a\nb\n", target -> {
+            target.newLineIfNotEmpty();
+            target.append("a");
+            target.newLineIfNotEmpty();
+            target.append("b\n");
+            target.newLineIfNotEmpty();
+            target.append("  ");
+            target.newLineIfNotEmpty();
+        });
+    }
+
+    @Test
+    public void testTrailingWhitespace() {
+        assertContent("a  \n", target -> {
+            target.append("a  ");
+            target.newLine();
+            target.append("  ");
+        });
+        assertContent("\n  \n", target -> {
+            target.newLine();
+            target.append("  ");
+            target.newLine();
+            target.append("  ");
+        });
+    }
+
+    @Test
+    public void testAppendImmediate() {
+        assertContent("a\n b   c\n  d\n", target -> {
+            target.append("a\n");
+            target.append(" b   ");
+            target.newLineIfNotEmpty();
+            target.append("    ");
+            target.appendImmediate("c\nd", "  ");
+        });
+        assertContent("x  \n", target -> {
+            target.append("  ");
+            target.newLine();
+            target.appendImmediate("x", "");
+        });
+    }
+
+    @Test
+    public void testAppendConcat() {
+        StringConcatenation nested = new StringConcatenation("\r\n");
+        nested.append("a");
+        nested.newLine();
+        nested.append("b  ");
+        nested.newLine();
+        nested.append("  ");
+        assertContent("x a\n  b  \n  y", target -> {
+            target.append("x ");
+            target.append(nested, "  ");
+            target.append("y");
+        });
+    }
+
+    @Test
+    public void testAppendClient() {
+        StringConcatenationClient nested = new StringConcatenationClient() {
+            @Override
+            protected void appendTo(TargetStringConcatenation target) {
+                target.append("a");
+                target.newLineIfNotEmpty();
+                target.append("b", "\t");
+                target.newLine();
+            }
+        };
+        assertContent("{\n  a\n  b\n  a\n  b\n}", target -> {
+            target.append("{");
+            target.newLine();
+            target.append("  ");
+            target.append(nested, "  ");
+            target.append(nested, "  ");
+            target.newLineIfNotEmpty();
+            target.append("}");
+        });
+    }
+
+    @Test
+    public void testLength() throws IOException {
+        StringWriter writer = new StringWriter();
+        try (StreamingStringConcatenation target = new StreamingStringConcatenation(writer, "\n")) {
+            target.append("ab");
+            target.newLine();
+            target.append("  ");
+            assertEquals(3, target.length());
+            target.append("c");
+            assertEquals(6, target.length());
+        }
+        assertEquals("ab\n  c", writer.toString());
+    }
+
+    /**
+     * Asserts that a {@link StreamingStringConcatenation} and a {@link StringConcatenation} produce the same expected
+     * content.
+     */
+    private void assertContent(String expected, Consumer<TargetStringConcatenation> content) {
+        StringConcatenationClient client = new StringConcatenationClient() {
+            @Override
+            protected void appendTo(TargetStringConcatenation target) {
+                content.accept(target);
+            }
+        };
+        StringConcatenation concatenation = new StringConcatenation("\n");
+        concatenation.append(client);
+        assertEquals(expected, concatenation.toString());
+        StringWriter writer = new StringWriter();
+        try (StreamingStringConcatenation target = new StreamingStringConcatenation(writer, "\n")) {
+            target.append(client);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        assertEquals(expected, writer.toString());
+    }
+}
@@ -0,0 +1,372 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtend2.lib;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.xtend2.lib.StringConcatenationClient.TargetStringConcatenation;
+
+/**
+ * <p>
+ * A {@link TargetStringConcatenation} that writes its content to a {@link Writer} instead of keeping it in memory. It
+ * produces the same content as a {@link StringConcatenation} that is fed with the same calls, but the content is never
+ * materialized as a whole.
+ * </p>
+ * <p>
+ * Appended {@link StringConcatenation StringConcatenations} are written segment by segment and
+ * {@link StringConcatenationClient StringConcatenationClients} write directly into this instance. The indentation of
+ * nested content is applied while it is written, that is, nested content is never copied. Only trailing whitespace is
+ * kept back, since it may still be dropped by {@link #newLineIfNotEmpty()} or be moved behind content that is appended
+ * with {@link #appendImmediate(Object, String)}. The remaining significant whitespace is written when this instance is
+ * {@link #close() closed}.
+ * </p>
+ * <p>
+ * Since the content is not retained, {@link #charAt(int)} and {@link #subSequence(int, int)} are not supported. Errors
+ * of the underlying writer are rethrown as {@link UncheckedIOException}.
+ * </p>
+ *
+ * @since 2.35
+ */
+public class StreamingStringConcatenation implements TargetStringConcatenation, Closeable {
+
+	private final Writer writer;
+
+	/**
+	 * The configured delimiter. It will be used to replace possibly existing delimiters of to-be-appended content.
+	 */
+	private final String lineDelimiter;
+
+	/**
+	 * The segments after the last written segment. They contain only whitespace or line delimiters.
+	 */
+	private final List<String> trailingSegments = new ArrayList<>();
+
+	/**
+	 * Whether a segment that contains something besides whitespace was written.
+	 */
+	private boolean hasContent = false;
+
+	private int writtenLength = 0;
+
+	/**
+	 * Create a new concatenation that writes to the given writer and uses the system line delimiter.
+	 *
+	 * @param writer
+	 *            the writer that receives the content. May not be <code>null</code>.
+	 */
+	public StreamingStringConcatenation(Writer writer) {
+		this(writer, StringConcatenation.DEFAULT_LINE_DELIMITER);
+	}
+
+	/**
+	 * Create a new concatenation that writes to the given writer and uses the specified delimiter.
+	 *
+	 * @param writer
+	 *            the writer that receives the content. May not be <code>null</code>.
+	 * @param lineDelimiter
+	 *            the used delimiter.
+	 * @throws IllegalArgumentException
+	 *             if the writer is <code>null</code> or if the lineDelimiter is <code>null</code> or the empty String.
+	 */
+	public StreamingStringConcatenation(Writer writer, String lineDelimiter) {
+		if (writer == null)
+			throw new IllegalArgumentException("writer must not be null");
+		if (lineDelimiter == null || lineDelimiter.length() == 0)
+			throw new IllegalArgumentException("lineDelimiter must not be null or empty");
+		this.writer = writer;
+		this.lineDelimiter = lineDelimiter;
+	}
+
+	@Override
+	public void append(Object object) {
+		append(object, "");
+	}
+
+	@Override
+	public void append(Object object, String indentation) {
+		if (object == null)
+			return;
+		if (object instanceof String) {
+			appendText((String) object, indentation);
+		} else if (object instanceof StringConcatenation) {
+			StringConcatenation other = (StringConcatenation) object;
+			String otherDelimiter = other.getLineDelimiter();
+			for (String segment : other.getSignificantContent()) {
+				if (otherDelimiter.equals(segment)) {
+					appendLineDelimiter(indentation);
+				} else {
+					appendSegment(segment, 0, segment.length());
+				}
+			}
+		} else if (object instanceof StringConcatenationClient) {
+			StringConcatenationClient.appendTo((StringConcatenationClient) object,
+					indentation.isEmpty() ? this : new IndentedTarget(this, indentation));
+		} else {
+			final String text = getStringRepresentation(object);
+			if (text != null) {
+				appendText(text, indentation);
+			}
+		}
+	}
+
+	/**
+	 * Computes the string representation of the given object. The default implementation will just invoke
+	 * {@link Object#toString()} but clients may override and specialize the logic.
+	 *
+	 * @param object
+	 *            the object that shall be appended. Never <code>null</code>.
+	 * @return the string representation. May not be <code>null</code>.
+	 * @see StringConcatenation#getStringRepresentation(Object)
+	 */
+	protected String getStringRepresentation(Object object) {
+		return object.toString();
+	}
+
+	@Override
+	public void appendImmediate(Object object, String indentation) {
+		int index = trailingSegments.size();
+		while (index > 0 && isWhitespace(trailingSegments.get(index - 1))) {
+			index--;
+		}
+		List<String> whitespace = trailingSegments.subList(index, trailingSegments.size());
+		List<String> movedWhitespace = new ArrayList<>(whitespace);
+		whitespace.clear();
+		append(object, indentation);
+		trailingSegments.addAll(movedWhitespace);
+	}
+
+	@Override
+	public void newLine() {
+		appendSegment(lineDelimiter, 0, lineDelimiter.length());
+	}
+
+	@Override
+	public void newLineIfNotEmpty() {
+		for (int i = trailingSegments.size() - 1; i >= 0; i--) {
+			if (lineDelimiter.equals(trailingSegments.get(i))) {
+				trailingSegments.subList(i + 1, trailingSegments.size()).clear();
+				return;
+			}
+		}
+		if (hasContent) {
+			newLine();
+		} else {
+			trailingSegments.clear();
+		}
+	}
+
+	private void appendText(String text, String indentation) {
+		final int length = text.length();
+		int nextLineOffset = 0;
+		int idx = 0;
+		while (idx < length) {
+			char currentChar = text.charAt(idx);
+			if (currentChar == '\r' || currentChar == '\n') {
+				appendSegment(text, nextLineOffset, idx);
+				// check for \r\n
+				if (currentChar == '\r' && idx + 1 < length && text.charAt(idx + 1) == '\n') {
+					idx++;
+				}
+				appendLineDelimiter(indentation);
+				nextLineOffset = idx + 1;
+			}
+			idx++;
+		}
+		if (nextLineOffset == 0 || nextLineOffset != length) {
+			appendSegment(text, nextLineOffset, length);
+		}
+	}
+
+	private void appendLineDelimiter(String indentation) {
+		newLine();
+		if (!indentation.isEmpty()) {
+			appendSegment(indentation, 0, indentation.length());
+		}
+	}
+
+	private void appendSegment(String text, int start, int end) {
+		if (isLineDelimiter(text, start, end) || isWhitespace(text, start, end)) {
+			trailingSegments.add(text.substring(start, end));
+		} else {
+			writeTrailingSegments(trailingSegments.size());
+			write(text, start, end);
+			hasContent = true;
+		}
+	}
+
+	private boolean isLineDelimiter(String text, int start, int end) {
+		return end - start == lineDelimiter.length() && text.startsWith(lineDelimiter, start);
+	}
+
+	private static boolean isWhitespace(String text) {
+		return isWhitespace(text, 0, text.length());
+	}
+
+	private static boolean isWhitespace(String text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (!WhitespaceMatcher.isWhitespace(text.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void writeTrailingSegments(int count) {
+		for (int i = 0; i < count; i++) {
+			String segment = trailingSegments.get(i);
+			write(segment, 0, segment.length());
+		}
+		trailingSegments.clear();
+	}
+
+	private void write(String text, int start, int end) {
+		try {
+			writer.write(text, start, end - start);
+			writtenLength += end - start;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * The number of trailing segments that are significant, that is, whitespace after the last line-break will be
+	 * ignored.
+	 */
+	private int getSignificantTrailingSegments() {
+		for (int i = trailingSegments.size() - 1; i >= 0; i--) {
+			if (lineDelimiter.equals(trailingSegments.get(i))) {
+				return i + 1;
+			}
+		}
+		return trailingSegments.size();
+	}
+
+	/**
+	 * Writes the remaining significant content and closes the underlying writer.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			writeTrailingSegments(getSignificantTrailingSegments());
+		} catch (UncheckedIOException e) {
+			writer.close();
+			throw e.getCause();
+		}
+		writer.close();
+	}
+
+	/**
+	 * Allows subtypes to access the configured line delimiter.
+	 *
+	 * @return the line delimiter
+	 */
+	protected String getLineDelimiter() {
+		return lineDelimiter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * Only the significant content of this sequence is considered.
+	 * </p>
+	 */
+	@Override
+	public int length() {
+		int result = writtenLength;
+		for (int i = getSignificantTrailingSegments() - 1; i >= 0; i--) {
+			result += trailingSegments.get(i).length();
+		}
+		return result;
+	}
+
+	/**
+	 * Not supported since the content was written to the underlying writer.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             always
+	 */
+	@Override
+	public char charAt(int index) {
+		throw new UnsupportedOperationException("The content was written to the underlying writer");
+	}
+
+	/**
+	 * Not supported since the content was written to the underlying writer.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             always
+	 */
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		throw new UnsupportedOperationException("The content was written to the underlying writer");
+	}
+
+	/**
+	 * Decorates a {@link TargetStringConcatenation} and keeps track of the current indentation at the position where
+	 * the clients should write into it.
+	 */
+	private static class IndentedTarget implements TargetStringConcatenation {
+
+		private final TargetStringConcatenation target;
+		private final String indentation;
+
+		private IndentedTarget(TargetStringConcatenation target, String indentation) {
+			this.target = target;
+			this.indentation = indentation;
+		}
+
+		@Override
+		public int length() {
+			return target.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return target.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return target.subSequence(start, end);
+		}
+
+		@Override
+		public void newLineIfNotEmpty() {
+			target.newLineIfNotEmpty();
+			target.append(indentation);
+		}
+
+		@Override
+		public void newLine() {
+			target.newLine();
+			target.append(indentation);
+		}
+
+		@Override
+		public void appendImmediate(Object object, String indentation) {
+			target.appendImmediate(object, this.indentation + indentation);
+		}
+
+		@Override
+		public void append(Object object, String indentation) {
+			target.append(object, this.indentation + indentation);
+		}
+
+		@Override
+		public void append(Object object) {
+			target.append(object, indentation);
+		}
+	}
+}
@@ -24,11 +24,13 @@ import org.eclipse.xtext.generator.trace.AbsoluteURI;
 import org.eclipse.xtext.generator.trace.AbstractTraceRegion;
 import org.eclipse.xtext.generator.trace.ITraceURIConverter;
 import org.eclipse.xtext.generator.trace.SourceRelativeURI;
+import org.eclipse.xtext.generator.trace.TraceNotFoundException;
 import org.eclipse.xtext.resource.ILocationInFileProvider;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.util.ITextRegionWithLineInformation;
 import org.eclipse.xtext.util.TextRegionWithLineInformation;
 import org.eclipse.xtext.workspace.IProjectConfig;
+import org.eclipse.xtext.xbase.compiler.GeneratorConfig;
 import org.eclipse.xtext.xbase.compiler.ImportManager;
 import org.eclipse.xtext.xbase.compiler.output.TreeAppendable;
 import org.eclipse.xtext.xbase.jvmmodel.IJvmModelAssociations;
@@ -273,6 +275,31 @@ public class TreeAppendableTest extends Assert implements ILocationInFileProvide
 		assertEquals("my bbaa text bbaa more bbaa end", appendable.getContent());
 	}
 
+	@Test
+	public void testWithoutTraces() {
+		expectedRegions = Collections.<ITextRegionWithLineInformation>singleton(new TextRegionWithLineInformation(47, 11, 12, 137)).iterator();
+		TreeAppendable appendable = new TreeAppendable(new ImportManager(false), this, this, this, content, "  ", "\n");
+		GeneratorConfig config = new GeneratorConfig();
+		config.setGenerateTraces(false);
+		appendable.getState().setGeneratorConfig(config);
+		appendable.append("initial").increaseIndentation();
+		assertSame(appendable, appendable.trace(content));
+		appendable.trace(content).newLine().append("first\nsecond");
+		appendable.decreaseIndentation().newLine().append("end");
+		assertEquals(
+				"initial\n" +
+				"  first\n" +
+				"  second\n" +
+				"end", appendable.getContent());
+		assertEquals(1, appendable.getChildren().size());
+		try {
+			appendable.getTraceRegion();
+			fail("Expected TraceNotFoundException");
+		} catch(TraceNotFoundException e) {
+			// expected
+		}
+	}
+
 	@Override
 	public Set<EObject> getSourceElements(EObject jvmElement) {
 		return Collections.emptySet();
@@ -109,6 +109,15 @@ public class ResourceStorageTest extends AbstractJvmModelTest {
 	
 	@Test
 	public void testWriteAndLoad() throws Exception {
+		doTestWriteAndLoad(false);
+	}
+
+	@Test
+	public void testWriteAndLoadSectioned() throws Exception {
+		doTestWriteAndLoad(true);
+	}
+
+	protected void doTestWriteAndLoad(boolean sectioned) throws Exception {
 		StringBuilder model = new StringBuilder();
 		// @formatter:off
 		model.append("{\n");
@@ -129,6 +138,7 @@ public class ResourceStorageTest extends AbstractJvmModelTest {
 		JvmModelAssociator.Adapter originalAdapter = ((JvmModelAssociator.Adapter) EcoreUtil.getExistingAdapter(originalResource, JvmModelAssociator.Adapter.class));
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
 		resourceStorageFacade.setStoreNodeModel(true);
+		resourceStorageFacade.setSectionedStorage(sectioned);
 		resourceStorageFacade.createResourceStorageWritable(bout).writeResource(originalResource);
 		ResourceStorageLoadable in = resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray()));
 		StorageAwareResource resource = (StorageAwareResource) file.eResource().getResourceSet().createResource(URI.createURI("synthetic:/Test.___xbase"));
@@ -51,6 +51,12 @@ public class GeneratorConfig {
 	 */
 	private JavaVersion javaSourceVersion = JavaVersion.JAVA5;
 
+	/**
+	 * Whether the generated code is traced back to its source, e.g. to write
+	 * trace files. Without traces the code is generated into a single buffer.
+	 */
+	private boolean generateTraces = true;
+
 	/**
 	 * Copy the values of the given generator configuration.
 	 */
@@ -61,6 +67,7 @@ public class GeneratorConfig {
 		this.includeDateInGeneratedAnnotation = other.includeDateInGeneratedAnnotation;
 		this.generatedAnnotationComment = other.generatedAnnotationComment;
 		this.javaSourceVersion = other.javaSourceVersion;
+		this.generateTraces = other.generateTraces;
 		return this;
 	}
 
@@ -111,4 +118,18 @@ public class GeneratorConfig {
 	public void setJavaSourceVersion(JavaVersion javaSourceVersion) {
 		this.javaSourceVersion = javaSourceVersion;
 	}
+
+	/**
+	 * @since 2.35
+	 */
+	public boolean isGenerateTraces() {
+		return generateTraces;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public void setGenerateTraces(boolean generateTraces) {
+		this.generateTraces = generateTraces;
+	}
 }
\ No newline at end of file
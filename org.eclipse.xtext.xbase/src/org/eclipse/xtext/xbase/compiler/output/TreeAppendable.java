@@ -23,6 +23,7 @@ import org.eclipse.xtext.generator.trace.ILocationData;
 import org.eclipse.xtext.generator.trace.ITraceURIConverter;
 import org.eclipse.xtext.generator.trace.LocationData;
 import org.eclipse.xtext.generator.trace.SourceRelativeURI;
+import org.eclipse.xtext.generator.trace.TraceNotFoundException;
 import org.eclipse.xtext.resource.ILocationInFileProvider;
 import org.eclipse.xtext.resource.ILocationInFileProviderExtension;
 import org.eclipse.xtext.util.IAcceptor;
@@ -68,6 +69,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		 * @param parent the appendable whose children should be visited.
 		 */
 		protected void visitChildren(TreeAppendable parent) {
+			parent.flushText();
 			for (int i = 0; i < parent.children.size(); i++) {
 				Object o = parent.children.get(i);
 				if (o instanceof String) {
@@ -89,6 +91,11 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	}
 
 	private final List<Object> children;
+	/**
+	 * The text that was appended after the last child. Consecutive strings are collected here and only added to the
+	 * {@link #children} as a single string when a child is added or the children are accessed.
+	 */
+	private StringBuilder pendingText;
 	private final SharedAppendableState state;
 	private final ILocationInFileProvider locationProvider;
 	private final IJvmModelAssociations jvmModelAssociations;
@@ -159,7 +166,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	@Override
 	public ErrorTreeAppendable errorChild() {
 		ErrorTreeAppendable errorChild = new ErrorTreeAppendable(state, traceURIConverter, locationProvider, jvmModelAssociations, getLocationData(), useForDebugging);
-		children.add(errorChild);
+		addChild(errorChild);
 		return errorChild;
 	}
 
@@ -174,6 +181,8 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	}
 	
 	public TreeAppendable trace(EObject object, ILocationInFileProviderExtension.RegionDescription region, boolean useForDebugging) {
+		if (!isTracing())
+			return this;
 		// TODO use locationProvider from service registry
 		Set<ILocationData> locationData = createAllLocationData(traceURIConverter, locationProvider, jvmModelAssociations, object, region);
 		if (locationData.isEmpty())
@@ -182,14 +191,28 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	}
 
 	protected TreeAppendable trace(Set<ILocationData> newData, boolean useForDebugging) {
+		if (!isTracing()) {
+			return this;
+		}
 		if (this.useForDebugging == useForDebugging && newData.equals(locationData)) {
 			return this;
 		}
 		TreeAppendable result = createChild(state, locationProvider, jvmModelAssociations, newData, useForDebugging);
 		if(result != this)
-			children.add(result);
+			addChild(result);
 		return result;
 	}
+	
+	/**
+	 * Whether trace information is collected. If the {@link GeneratorConfig#isGenerateTraces() generator config} does
+	 * not ask for traces, no child appendables are created and all content is appended to this appendable.
+	 * 
+	 * @since 2.35
+	 */
+	protected boolean isTracing() {
+		GeneratorConfig config = state.getGeneratorConfig();
+		return config == null || config.isGenerateTraces();
+	}
 
 	/**
 	 * @since 2.4
@@ -272,6 +295,8 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		int size = Iterables.size(objects);
 		if (size == 1)
 			return trace(objects.iterator().next(), false);
+		if (!isTracing())
+			return this;
 		Set<ILocationData> newData = new LinkedHashSet<ILocationData>(size);
 		for(EObject object: objects) {
 			ILocationData locationData = createLocationData(traceURIConverter, locationProvider, object, ILocationInFileProviderExtension.RegionDescription.FULL);
@@ -285,6 +310,8 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	
 	@Override
 	public ITreeAppendable trace(EObject object, EStructuralFeature feature, int indexInList) {
+		if (!isTracing())
+			return this;
 		ITextRegion textRegion = locationProvider.getFullTextRegion(object, feature, indexInList);
 		if (!(textRegion instanceof ITextRegionWithLineInformation)) {
 			if (log.isDebugEnabled())
@@ -322,15 +349,35 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 	 * @return the children of this appendable.
 	 */
 	public List<? extends Object> getChildren() {
+		flushText();
 		return children;
 	}
 
+	private void addChild(TreeAppendable child) {
+		flushText();
+		children.add(child);
+	}
+
+	private void flushText() {
+		if (pendingText != null) {
+			children.add(pendingText.toString());
+			pendingText = null;
+		}
+	}
+
+	private StringBuilder getPendingText() {
+		if (pendingText == null) {
+			pendingText = new StringBuilder();
+		}
+		return pendingText;
+	}
+
 	/**
 	 * @noreference This method is not intended to be referenced by clients.
 	 */
 	@Override
 	public void accept(/* @Nullable */ String text) {
-		children.add(text);
+		getPendingText().append(text);
 	}
 
 	protected void markClosed() {
@@ -344,7 +391,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		if (closed) {
 			throw new IllegalStateException("TreeAppendable was already closed");
 		}
-		if (!children.isEmpty()) {
+		if (pendingText == null && !children.isEmpty()) {
 			Object lastChild = children.get(children.size() - 1);
 			if (lastChild instanceof TreeAppendable) {
 				((TreeAppendable) lastChild).markClosed();
@@ -384,7 +431,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 			// TODO improve
 			throw new IllegalArgumentException("Unexpected implementation");
 		}
-		children.add(other);
+		addChild((TreeAppendable) other);
 		return this;
 	}
 
@@ -532,6 +579,9 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 				((TreeAppendable) child).doGetContent(result);
 			}
 		}
+		if (pendingText != null) {
+			result.append(pendingText);
+		}
 	}
 
 	@Override
@@ -544,6 +594,9 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		if (locationData == null) {
 			throw new IllegalStateException("tree appendable was used without tracing");
 		}
+		if (!isTracing()) {
+			throw new TraceNotFoundException();
+		}
 		return new AppendableBasedTraceRegion(null, this, 0, 0);
 	}
 
@@ -561,12 +614,12 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 					idx++;
 				}
 				int lineLength = idx - delimiterLength - nextLineOffset + 1;
-				children.add(text.substring(nextLineOffset, nextLineOffset + lineLength));
+				getPendingText().append(text, nextLineOffset, nextLineOffset + lineLength);
 				state.appendNewLineAndIndentation(this);
 				nextLineOffset = idx + 1;
 			} else if (currentChar == '\n') {
 				int lineLength = idx - nextLineOffset;
-				children.add(text.substring(nextLineOffset, nextLineOffset + lineLength));
+				getPendingText().append(text, nextLineOffset, nextLineOffset + lineLength);
 				state.appendNewLineAndIndentation(this);
 				nextLineOffset = idx + 1;
 			}
@@ -574,13 +627,15 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		}
 		if (nextLineOffset != length) {
 			int lineLength = length - nextLineOffset;
-			children.add(text.substring(nextLineOffset, nextLineOffset + lineLength));
+			getPendingText().append(text, nextLineOffset, nextLineOffset + lineLength);
 		}
 	}
 
 	public boolean isUseForDebugging() {
 		if (useForDebugging) {
 			// HACK only count if it has 'direct' content not just sub trees.
+			if (pendingText != null)
+				return true;
 			for (Object c : children) {
 				if (!(c instanceof ITreeAppendable))
 					return true;
@@ -630,7 +685,7 @@ public class TreeAppendable implements ITreeAppendable, IAcceptor<String>, CharS
 		if(closed) 
 			System.out.println(indent + "<closed>");
 		StringBuilder currentChildren = null;
-		for(Object child: children) {
+		for(Object child: getChildren()) {
 			if(child instanceof TreeAppendable) {
 				if(currentChildren != null)
 					System.out.println(indent + currentChildren.toString());
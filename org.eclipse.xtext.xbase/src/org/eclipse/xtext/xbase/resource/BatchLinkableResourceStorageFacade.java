@@ -36,7 +36,7 @@ public class BatchLinkableResourceStorageFacade extends ResourceStorageFacade {
 
 	@Override
 	public ResourceStorageWritable createResourceStorageWritable(OutputStream out) {
-		return new BatchLinkableResourceStorageWritable(out, isStoreNodeModel());
+		return new BatchLinkableResourceStorageWritable(out, isStoreNodeModel(), isSectionedStorage());
 	}
 
 	@Override
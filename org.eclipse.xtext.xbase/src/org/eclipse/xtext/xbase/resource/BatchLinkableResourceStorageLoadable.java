@@ -23,6 +23,7 @@ import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.xtext.common.types.JvmIdentifiableElement;
 import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.ResourceStorageSections;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.xbase.compiler.DocumentationAdapter;
 import org.eclipse.xtext.xbase.jvmmodel.JvmIdentifiableMetaData;
@@ -59,8 +60,27 @@ public class BatchLinkableResourceStorageLoadable extends ResourceStorageLoadabl
 		}
 	}
 
-	@SuppressWarnings("unchecked")
+	@Override
+	protected void loadSections(StorageAwareResource resource, ResourceStorageSections.Reader sections)
+			throws IOException {
+		super.loadSections(resource, sections);
+		if (resource instanceof BatchLinkableResource) {
+			try (InputStream section = sections.openSection(BatchLinkableResourceStorageWritable.ASSOCIATIONS)) {
+				readAssociationsAdapter((BatchLinkableResource) resource, section);
+			}
+		}
+	}
+
 	protected void readAssociationsAdapter(BatchLinkableResource resource, ZipInputStream stream) throws IOException {
+		stream.getNextEntry();
+		readAssociationsAdapter(resource, (InputStream) stream);
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	@SuppressWarnings("unchecked")
+	protected void readAssociationsAdapter(BatchLinkableResource resource, InputStream stream) throws IOException {
 		try {
 			JvmModelAssociator.Adapter adapter = FluentIterable.from(resource.eAdapters())
 					.filter(JvmModelAssociator.Adapter.class)
@@ -71,8 +91,6 @@ public class BatchLinkableResourceStorageLoadable extends ResourceStorageLoadabl
 						return newAdapter;
 					});
 			
-			stream.getNextEntry();
-			
 			try (ObjectInputStream objIn = new ObjectInputStream(new NonClosingFilterInputStream(new BufferedInputStream(stream)))) {
 				Map<String, String> logicalMap = (Map<String, String>) objIn.readObject();
 				logicalMap.forEach((key, value)->{
@@ -27,6 +27,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.resource.persistence.ResourceStorageSections;
 import org.eclipse.xtext.resource.persistence.ResourceStorageWritable;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.xbase.compiler.DocumentationAdapter;
@@ -44,15 +45,27 @@ public class BatchLinkableResourceStorageWritable extends ResourceStorageWritabl
 	
 	public static final String MISSING_FRAGMENT = "none";
 
+	/**
+	 * @since 2.35
+	 */
+	public static final String ASSOCIATIONS = "associations";
+
 	public BatchLinkableResourceStorageWritable(OutputStream out, boolean storeNodeModel) {
 		super(out, storeNodeModel);
 	}
 
+	/**
+	 * @since 2.35
+	 */
+	public BatchLinkableResourceStorageWritable(OutputStream out, boolean storeNodeModel, boolean sectioned) {
+		super(out, storeNodeModel, sectioned);
+	}
+
 	@Override
 	protected void writeEntries(StorageAwareResource resource, ZipOutputStream zipOut) throws IOException {
 		super.writeEntries(resource, zipOut);
 		if (resource instanceof BatchLinkableResource) {
-			zipOut.putNextEntry(new ZipEntry("associations"));
+			zipOut.putNextEntry(new ZipEntry(ASSOCIATIONS));
 			BufferedOutputStream buffOut = new BufferedOutputStream(zipOut);
 			try {
 				writeAssociationsAdapter((BatchLinkableResource) resource, buffOut);
@@ -63,6 +76,17 @@ public class BatchLinkableResourceStorageWritable extends ResourceStorageWritabl
 		}
 	}
 
+	@Override
+	protected void writeSections(StorageAwareResource resource, ResourceStorageSections.Writer sections)
+			throws IOException {
+		super.writeSections(resource, sections);
+		if (resource instanceof BatchLinkableResource) {
+			try (OutputStream section = new BufferedOutputStream(sections.newSection(ASSOCIATIONS))) {
+				writeAssociationsAdapter((BatchLinkableResource) resource, section);
+			}
+		}
+	}
+
 	@Override
 	protected void beforeSaveEObject(InternalEObject object, BinaryResourceImpl.EObjectOutputStream writable)
 			throws IOException {
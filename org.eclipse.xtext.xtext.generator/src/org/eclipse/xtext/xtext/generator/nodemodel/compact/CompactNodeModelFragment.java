@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xtext.generator.nodemodel.compact;
+
+import org.eclipse.xtext.nodemodel.compact.CompactNodeModelBuilder;
+import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
+import org.eclipse.xtext.parser.impl.PartialParsingHelper;
+import org.eclipse.xtext.xtext.generator.AbstractXtextGeneratorFragment;
+import org.eclipse.xtext.xtext.generator.model.GuiceModuleAccess;
+import org.eclipse.xtext.xtext.generator.model.TypeReference;
+
+/**
+ * Configures the language to use the array based {@link org.eclipse.xtext.nodemodel.compact.CompactNodeModel}.
+ * Partial parsing and the serialization of the node model into the resource storage are not supported for languages
+ * that use the compact node model.
+ *
+ * @since 2.35
+ */
+public class CompactNodeModelFragment extends AbstractXtextGeneratorFragment {
+
+	@Override
+	public void generate() {
+		new GuiceModuleAccess.BindingFactory()
+			.addTypeToType(TypeReference.typeRef(NodeModelBuilder.class), TypeReference.typeRef(CompactNodeModelBuilder.class))
+			.addTypeToType(TypeReference.typeRef(PartialParsingHelper.class), null)
+			.contributeTo(getLanguage().getRuntimeGenModule());
+	}
+
+}
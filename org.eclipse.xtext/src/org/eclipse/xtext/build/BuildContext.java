@@ -8,6 +8,12 @@
  *******************************************************************************/
 package org.eclipse.xtext.build;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
@@ -16,7 +22,10 @@ import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.inject.Provider;
 
 /**
  * @author Jan Koehnlein - Initial contribution and API
@@ -55,6 +64,57 @@ public class BuildContext {
 		return loader.executeClustered(Iterables.filter(uris, this::canHandle), operation);
 	}
 
+	/**
+	 * Run the given logic on all uris. The uris are split into at most {@code shards} contiguous partitions. Each
+	 * partition is loaded into its own resource set that is obtained from the given provider and processed
+	 * concurrently on the given executor. Clustering is applied per partition.
+	 * 
+	 * The operation must not modify state that is shared between the partitions. The result has the same order as if
+	 * the uris were processed sequentially.
+	 * 
+	 * @since 2.35
+	 */
+	public <T> Iterable<T> executeParallel(Iterable<URI> uris, Provider<? extends XtextResourceSet> shardProvider,
+			ExecutorService executor, int shards, Function1<? super Resource, ? extends T> operation) {
+		List<URI> toBeProcessed = Lists.newArrayList(Iterables.filter(uris, this::canHandle));
+		if (toBeProcessed.isEmpty()) {
+			return new ArrayList<>();
+		}
+		int partitionSize = (toBeProcessed.size() + shards - 1) / shards;
+		List<Future<Iterable<T>>> futures = new ArrayList<>();
+		for (List<URI> partition : Lists.partition(toBeProcessed, partitionSize)) {
+			BuildContext shard = createShard(shardProvider.get());
+			futures.add(executor.submit(() -> shard.executeClustered(partition, operation)));
+		}
+		List<T> result = new ArrayList<>(toBeProcessed.size());
+		try {
+			for (Future<Iterable<T>> future : futures) {
+				Iterables.addAll(result, future.get());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new RuntimeException(e.getCause());
+		} finally {
+			for (Future<Iterable<T>> future : futures) {
+				future.cancel(true);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Create a context that shares the configuration of this context but loads resources into the given resource set.
+	 * 
+	 * @since 2.35
+	 */
+	protected BuildContext createShard(XtextResourceSet shardResourceSet) {
+		return new BuildContext(resourceServiceProviderProvider, shardResourceSet, oldState, clusteringPolicy,
+				cancelIndicator);
+	}
+
 	/**
 	 * Return true, if the given URI can be handled by an available language.
 	 */
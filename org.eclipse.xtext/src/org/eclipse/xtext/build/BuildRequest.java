@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
@@ -25,6 +26,8 @@ import org.eclipse.xtext.validation.Issue;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure1;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
 
+import com.google.inject.Provider;
+
 /**
  * @author Jan Koehnlein - Initial contribution and API
  * @since 2.9
@@ -101,6 +104,12 @@ public class BuildRequest {
 
 	private CancelIndicator cancelIndicator = CancelIndicator.NullImpl;
 
+	private ExecutorService parallelBuildExecutor;
+
+	private Provider<? extends XtextResourceSet> resourceSetShardProvider;
+
+	private int parallelBuildShards = Runtime.getRuntime().availableProcessors();
+
 	public void setBaseDir(URI baseDir) {
 		this.baseDir = baseDir;
 	}
@@ -217,4 +226,64 @@ public class BuildRequest {
 	public void setSourceLevelUris(Set<URI> sourceLevelURIs) {
 		this.sourceLevelURIs = sourceLevelURIs ;		
 	}
+
+	/**
+	 * The executor that is used to build independent resources concurrently. If either the executor or the
+	 * {@link #getResourceSetShardProvider() shard provider} is {@code null}, the resources are built sequentially in
+	 * the {@link #getResourceSet() resource set} of this request.
+	 * 
+	 * @since 2.35
+	 */
+	public ExecutorService getParallelBuildExecutor() {
+		return parallelBuildExecutor;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public void setParallelBuildExecutor(ExecutorService parallelBuildExecutor) {
+		this.parallelBuildExecutor = parallelBuildExecutor;
+	}
+
+	/**
+	 * Creates the resource sets that are used by the workers of a parallel build. Each worker loads its resources
+	 * into its own shard, so the provided resource sets must be configured like the {@link #getResourceSet() resource
+	 * set} of this request, e.g. they have to see the same index.
+	 * 
+	 * @since 2.35
+	 */
+	public Provider<? extends XtextResourceSet> getResourceSetShardProvider() {
+		return resourceSetShardProvider;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public void setResourceSetShardProvider(Provider<? extends XtextResourceSet> resourceSetShardProvider) {
+		this.resourceSetShardProvider = resourceSetShardProvider;
+	}
+
+	/**
+	 * The maximum number of resource set shards of a parallel build. Defaults to the number of available processors.
+	 * 
+	 * @since 2.35
+	 */
+	public int getParallelBuildShards() {
+		return parallelBuildShards;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public void setParallelBuildShards(int parallelBuildShards) {
+		this.parallelBuildShards = parallelBuildShards;
+	}
+
+	/**
+	 * @return {@code true} if the resources of this request should be built concurrently.
+	 * @since 2.35
+	 */
+	public boolean isParallelBuild() {
+		return parallelBuildExecutor != null && resourceSetShardProvider != null && parallelBuildShards > 1;
+	}
 }
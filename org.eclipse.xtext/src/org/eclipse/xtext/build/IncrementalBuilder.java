@@ -15,6 +15,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -198,6 +199,12 @@ public class IncrementalBuilder {
 
 		private BuildRequest request;
 
+		/**
+		 * Guards the state that is shared by the workers of a parallel build, e.g. the file mappings and the callbacks
+		 * of the request.
+		 */
+		private final Object lock = new Object();
+
 		@Inject
 		private Indexer indexer;
 
@@ -278,34 +285,64 @@ public class IncrementalBuilder {
 					.map(Delta::getUri).collect(Collectors.toList());
 			
 			installSourceLevelURIs(toBeBuilt);
-			Iterable<IResourceDescription.Delta> deltas = context.executeClustered(toBeBuilt,
-					(resource) -> {
-						CancelIndicator cancelIndicator = request.getCancelIndicator();
-						operationCanceledManager.checkCanceled(cancelIndicator);
-						// trigger init
-						resource.getContents();
-						EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
-						operationCanceledManager.checkCanceled(cancelIndicator);
-						IResourceServiceProvider serviceProvider = getResourceServiceProvider(resource);
-						IResourceDescription.Manager manager = serviceProvider.getResourceDescriptionManager();
-						IResourceDescription description = manager.getResourceDescription(resource);
-						IResourceDescription copiedDescription = getSerializableResourceDescription(description);
-						result.getNewIndex().addDescription(resource.getURI(), copiedDescription);
-						operationCanceledManager.checkCanceled(cancelIndicator);
-						if (!request.isIndexOnly() && validate(resource) && serviceProvider.get(IShouldGenerate.class)
-								.shouldGenerate(resource, CancelIndicator.NullImpl)) {
-							operationCanceledManager.checkCanceled(cancelIndicator);
-							generate(resource, request, newSource2GeneratedMapping);
-						}
-						IResourceDescription old = context.getOldState().getResourceDescriptions()
-								.getResourceDescription(resource.getURI());
-						return manager.createDelta(old, copiedDescription);
-					});
+			boolean parallel = request.isParallelBuild();
+			Map<URI, IResourceDescription> newDescriptions = new ConcurrentHashMap<>();
+			Function1<Resource, IResourceDescription.Delta> operation = (resource) -> {
+				CancelIndicator cancelIndicator = request.getCancelIndicator();
+				operationCanceledManager.checkCanceled(cancelIndicator);
+				// trigger init
+				resource.getContents();
+				EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+				operationCanceledManager.checkCanceled(cancelIndicator);
+				IResourceServiceProvider serviceProvider = getResourceServiceProvider(resource);
+				IResourceDescription.Manager manager = serviceProvider.getResourceDescriptionManager();
+				IResourceDescription description = manager.getResourceDescription(resource);
+				IResourceDescription copiedDescription = getSerializableResourceDescription(description);
+				if (parallel) {
+					// the index is shared by all workers, it's updated when all of them are done
+					newDescriptions.put(resource.getURI(), copiedDescription);
+				} else {
+					result.getNewIndex().addDescription(resource.getURI(), copiedDescription);
+				}
+				operationCanceledManager.checkCanceled(cancelIndicator);
+				if (!request.isIndexOnly() && validate(resource) && serviceProvider.get(IShouldGenerate.class)
+						.shouldGenerate(resource, CancelIndicator.NullImpl)) {
+					operationCanceledManager.checkCanceled(cancelIndicator);
+					generate(resource, request, newSource2GeneratedMapping);
+				}
+				IResourceDescription old = context.getOldState().getResourceDescriptions()
+						.getResourceDescription(resource.getURI());
+				return manager.createDelta(old, copiedDescription);
+			};
+			Iterable<IResourceDescription.Delta> deltas;
+			if (parallel) {
+				deltas = context.executeParallel(toBeBuilt, this::createResourceSetShard,
+						request.getParallelBuildExecutor(), request.getParallelBuildShards(), operation);
+				for (IResourceDescription.Delta delta : deltas) {
+					result.getNewIndex().addDescription(delta.getUri(), newDescriptions.get(delta.getUri()));
+				}
+			} else {
+				deltas = context.executeClustered(toBeBuilt, operation);
+			}
 
 			Iterables.addAll(resolvedDeltas, deltas);
 			return new IncrementalBuilder.Result(request.getState(), resolvedDeltas);
 		}
 
+		/**
+		 * Create a resource set for a worker of a parallel build. The source level URIs of the request are copied into
+		 * the new resource set.
+		 * 
+		 * @since 2.35
+		 */
+		protected XtextResourceSet createResourceSetShard() {
+			XtextResourceSet shard = request.getResourceSetShardProvider().get();
+			synchronized (lock) {
+				SourceLevelURIsAdapter.setSourceLevelUris(shard, request.getSourceLevelUris());
+			}
+			return shard;
+		}
+
 		/**
 	 	* Return a new Serializable resource description from a {@link IResourceDescription}.
 	 	*
@@ -352,7 +389,9 @@ public class IncrementalBuilder {
 			}
 			List<Issue> validationResult = resourceValidator.validate(resource, CheckMode.ALL,
 					request.getCancelIndicator());
-			return request.getAfterValidate().afterValidate(resource.getURI(), validationResult);
+			synchronized (lock) {
+				return request.getAfterValidate().afterValidate(resource.getURI(), validationResult);
+			}
 		}
 
 		/**
@@ -360,17 +399,24 @@ public class IncrementalBuilder {
 		 */
 		protected void generate(Resource resource, BuildRequest request, Source2GeneratedMapping newMappings) {
 			IResourceServiceProvider serviceProvider = getResourceServiceProvider(resource);
-			Set<URI> previous = newMappings.deleteSource(resource.getURI());
+			Set<URI> previous;
+			synchronized (lock) {
+				previous = newMappings.deleteSource(resource.getURI());
+			}
 			URIBasedFileSystemAccess fileSystemAccess = createFileSystemAccess(serviceProvider, resource);
 			fileSystemAccess.setBeforeWrite((uri, outputCfgName, contents) -> {
-				newMappings.addSource2Generated(resource.getURI(), uri, outputCfgName);
-				previous.remove(uri);
-				request.getAfterGenerateFile().apply(resource.getURI(), uri);
+				synchronized (lock) {
+					newMappings.addSource2Generated(resource.getURI(), uri, outputCfgName);
+					previous.remove(uri);
+					request.getAfterGenerateFile().apply(resource.getURI(), uri);
+				}
 				return contents;
 			});
 			fileSystemAccess.setBeforeDelete((uri) -> {
-				newMappings.deleteGenerated(uri);
-				request.getAfterDeleteFile().apply(uri);
+				synchronized (lock) {
+					newMappings.deleteGenerated(uri);
+					request.getAfterDeleteFile().apply(uri);
+				}
 				return true;
 			});
 			fileSystemAccess.setContext(resource);
@@ -385,7 +431,9 @@ public class IncrementalBuilder {
 			for (URI noLongerCreated : previous) {
 				try {
 					resourceSet.getURIConverter().delete(noLongerCreated, Collections.emptyMap());
-					request.getAfterDeleteFile().apply(noLongerCreated);
+					synchronized (lock) {
+						request.getAfterDeleteFile().apply(noLongerCreated);
+					}
 				} catch (IOException e) {
 					throw new RuntimeIOException(e);
 				}
@@ -442,7 +490,9 @@ public class IncrementalBuilder {
 						.getResourceStorageFacade();
 				if (resourceStorageFacade != null) {
 					resourceStorageFacade.saveResource((StorageAwareResource) resource, fileSystemAccess);
-					request.getSourceLevelUris().remove(resource.getURI());
+					synchronized (lock) {
+						request.getSourceLevelUris().remove(resource.getURI());
+					}
 				}
 			}
 		}
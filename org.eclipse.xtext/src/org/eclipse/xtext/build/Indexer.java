@@ -13,22 +13,31 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.CompilerPhases;
+import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescription.Delta;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionManager;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.FluentIterable;
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 
 /**
  * @author Jan Koehnlein - Initial contribution and API
@@ -115,32 +124,147 @@ public class Indexer {
 		ResourceDescriptionsData newIndex = request.getState().getResourceDescriptions();
 		List<IResourceDescription.Delta> deltas = new ArrayList<>();
 		deltas.addAll(getDeltasForDeletedResources(request, previousIndex, context));
-		deltas.addAll(getDeltasForChangedResources(request.getDirtyFiles(), previousIndex, context));
+		deltas.addAll(getDeltasForChangedResources(request, request.getDirtyFiles(), previousIndex, context));
 		for (IResourceDescription.Delta delta : deltas) {
 			newIndex.register(delta);
 		}
 		Set<IResourceDescription.Delta> allDeltas = new HashSet<>(deltas);
 		allDeltas.addAll(request.getExternalDeltas());
 		Set<URI> deltaSet = FluentIterable.from(deltas).transform(Delta::getUri).toSet();
-		List<URI> allAffected = FluentIterable.from(previousIndex.getAllResourceDescriptions())
-				.transform(IResourceDescription::getURI).filter(it -> !deltaSet.contains(it)).filter(it -> {
-					IResourceServiceProvider resourceServiceProvider = context.getResourceServiceProvider(it);
-					if (resourceServiceProvider != null) {
-						IResourceDescription.Manager manager = resourceServiceProvider.getResourceDescriptionManager();
-						IResourceDescription resourceDescription = previousIndex.getResourceDescription(it);
-						return isAffected(resourceDescription, manager, allDeltas, allDeltas, newIndex);
-					} else {
-						IResourceDescription.Delta delta = getDeltaForDeletedResource(it, previousIndex);
-						if (delta != null) {
-							deltas.add(delta);
-						}
-						return false;
+		ChangedNames changedNames = new ChangedNames(allDeltas);
+		List<IResourceDescription> candidates = new ArrayList<>();
+		List<IResourceDescription.Manager> managers = new ArrayList<>();
+		for (IResourceDescription resourceDescription : previousIndex.getAllResourceDescriptions()) {
+			URI uri = resourceDescription.getURI();
+			if (!deltaSet.contains(uri)) {
+				IResourceServiceProvider resourceServiceProvider = context.getResourceServiceProvider(uri);
+				if (resourceServiceProvider != null) {
+					IResourceDescription.Manager manager = resourceServiceProvider.getResourceDescriptionManager();
+					if (!changedNames.isUnaffected(resourceDescription, manager)) {
+						candidates.add(resourceDescription);
+						managers.add(manager);
+					}
+				} else {
+					IResourceDescription.Delta delta = getDeltaForDeletedResource(uri, previousIndex);
+					if (delta != null) {
+						deltas.add(delta);
 					}
-				}).toList();
-		deltas.addAll(getDeltasForChangedResources(allAffected, previousIndex, context));
+				}
+			}
+		}
+		List<URI> allAffected = getAffected(request, candidates, managers, allDeltas, newIndex, context);
+		deltas.addAll(getDeltasForChangedResources(request, allAffected, previousIndex, context));
 		return new Indexer.IndexResult(deltas, newIndex);
 	}
 
+	/**
+	 * The lower case exported names and the URIs of all deltas. A candidate that neither imports one of the names nor
+	 * references one of the URIs cannot be affected by the deltas if its manager
+	 * {@link DefaultResourceDescriptionManager#isAffectedByNamesAndReferencesOnly() decides by names and references
+	 * only}. Such candidates are skipped without asking their manager, which would compare the imported names with
+	 * the exported names of each delta.
+	 */
+	private class ChangedNames {
+		private final Set<QualifiedName> names = new HashSet<>();
+
+		private final Set<URI> uris = new HashSet<>();
+
+		private final boolean enabled;
+
+		ChangedNames(Collection<IResourceDescription.Delta> deltas) {
+			enabled = !overridesIsAffected();
+			if (enabled) {
+				for (IResourceDescription.Delta delta : deltas) {
+					uris.add(delta.getUri());
+					addExportedNames(delta.getOld());
+					addExportedNames(delta.getNew());
+				}
+			}
+		}
+
+		private void addExportedNames(IResourceDescription description) {
+			if (description != null) {
+				for (IEObjectDescription exported : description.getExportedObjects()) {
+					names.add(exported.getName().toLowerCase());
+				}
+			}
+		}
+
+		boolean isUnaffected(IResourceDescription candidate, IResourceDescription.Manager manager) {
+			if (!enabled || manager instanceof IResourceDescription.Manager.AllChangeAware
+					|| !(manager instanceof DefaultResourceDescriptionManager)) {
+				return false;
+			}
+			DefaultResourceDescriptionManager defaultManager = (DefaultResourceDescriptionManager) manager;
+			return defaultManager.isAffectedByNamesAndReferencesOnly()
+					&& !defaultManager.isAffectedByNamesOrReferences(candidate, names, uris);
+		}
+	}
+
+	private boolean overridesIsAffected() {
+		for (Class<?> c = getClass(); c != Indexer.class; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod("isAffected", IResourceDescription.class, IResourceDescription.Manager.class,
+						Collection.class, Collection.class, IResourceDescriptions.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// check the super class
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Ask the managers of the candidates whether they are affected. The candidates are checked concurrently if the
+	 * request asks for a {@link BuildRequest#isParallelBuild() parallel build}.
+	 */
+	private List<URI> getAffected(BuildRequest request, List<IResourceDescription> candidates,
+			List<IResourceDescription.Manager> managers, Set<IResourceDescription.Delta> allDeltas,
+			ResourceDescriptionsData newIndex, BuildContext context) {
+		boolean[] affected = new boolean[candidates.size()];
+		if (request.isParallelBuild() && candidates.size() > 1) {
+			int shards = Math.min(request.getParallelBuildShards(), candidates.size());
+			int partitionSize = (candidates.size() + shards - 1) / shards;
+			List<Future<?>> futures = new ArrayList<>();
+			for (int start = 0; start < candidates.size(); start += partitionSize) {
+				int from = start;
+				int to = Math.min(start + partitionSize, candidates.size());
+				futures.add(request.getParallelBuildExecutor().submit(() -> {
+					for (int i = from; i < to; i++) {
+						operationCanceledManager.checkCanceled(context.getCancelIndicator());
+						affected[i] = isAffected(candidates.get(i), managers.get(i), allDeltas, allDeltas, newIndex);
+					}
+				}));
+			}
+			try {
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			} catch (ExecutionException e) {
+				Throwables.throwIfUnchecked(e.getCause());
+				throw new RuntimeException(e.getCause());
+			} finally {
+				for (Future<?> future : futures) {
+					future.cancel(true);
+				}
+			}
+		} else {
+			for (int i = 0; i < candidates.size(); i++) {
+				affected[i] = isAffected(candidates.get(i), managers.get(i), allDeltas, allDeltas, newIndex);
+			}
+		}
+		List<URI> result = new ArrayList<>();
+		for (int i = 0; i < candidates.size(); i++) {
+			if (affected[i]) {
+				result.add(candidates.get(i).getURI());
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Process the deleted resources.
 	 */
@@ -192,6 +316,30 @@ public class Indexer {
 		}
 	}
 
+	/**
+	 * Process the changed resources. If the request asks for a {@link BuildRequest#isParallelBuild() parallel build},
+	 * the resources are indexed concurrently, each worker loads its resources into a resource set of its own that is in
+	 * the indexing phase. Otherwise this delegates to
+	 * {@link #getDeltasForChangedResources(Iterable, ResourceDescriptionsData, BuildContext)}.
+	 * 
+	 * @since 2.35
+	 */
+	protected List<IResourceDescription.Delta> getDeltasForChangedResources(BuildRequest request,
+			Iterable<URI> affectedUris, ResourceDescriptionsData oldIndex, BuildContext context) {
+		if (!request.isParallelBuild()) {
+			return getDeltasForChangedResources(affectedUris, oldIndex, context);
+		}
+		Provider<XtextResourceSet> shardProvider = () -> {
+			XtextResourceSet shard = request.getResourceSetShardProvider().get();
+			SourceLevelURIsAdapter.setSourceLevelUris(shard, request.getSourceLevelUris());
+			compilerPhases.setIndexing(shard, true);
+			return shard;
+		};
+		return IterableExtensions.toList(context.executeParallel(affectedUris, shardProvider,
+				request.getParallelBuildExecutor(), request.getParallelBuildShards(),
+				it -> addToIndex(it, true, oldIndex, context)));
+	}
+
 	/**
 	 * Return a new resolved resource description from a {@link IResourceDescription}.
 	 *
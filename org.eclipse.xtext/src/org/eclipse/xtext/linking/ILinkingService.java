@@ -9,6 +9,7 @@
 package org.eclipse.xtext.linking;
 
 import java.util.List;
+import java.util.function.Function;
 
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EReference;
@@ -27,4 +28,16 @@ public interface ILinkingService {
 	 * information somehow. The returned list might contain proxy instances.
 	 */
 	List<EObject> getLinkedObjects(EObject context, EReference reference, INode node) throws IllegalNodeException;
+
+	/**
+	 * Returns a function that computes the {@link #getLinkedObjects(EObject, EReference, INode) linked objects} for a
+	 * number of nodes that are cross references of the given reference in the given context. Implementations may
+	 * compute the scope only once and look up each distinct name only once. The function may only be used as long as
+	 * the resource is not modified.
+	 * 
+	 * @since 2.35
+	 */
+	default Function<INode, List<EObject>> getLinker(EObject context, EReference reference) {
+		return node -> getLinkedObjects(context, reference, node);
+	}
 }
@@ -9,7 +9,10 @@
 package org.eclipse.xtext.linking.impl;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EClass;
@@ -51,6 +54,8 @@ public class DefaultLinkingService extends AbstractLinkingService {
 	@Inject
 	private IQualifiedNameConverter qualifiedNameConverter;
 
+	private volatile Boolean linkerSupported;
+
 	protected IScope getScope(EObject context, EReference reference) {
 		if (getScopeProvider() == null)
 			throw new IllegalStateException("scopeProvider must not be null.");
@@ -105,12 +110,21 @@ public class DefaultLinkingService extends AbstractLinkingService {
 		if (logger.isDebugEnabled()) {
 			logger.debug("before getLinkedObjects: node: '" + crossRefString + "'");
 		}
-		final IScope scope = getScope(context, ref);
+		final IScope scope = getNonNullScope(context, ref);
+		return getLinkedObjects(scope, crossRefString);
+	}
+
+	private IScope getNonNullScope(EObject context, EReference ref) {
+		IScope scope = getScope(context, ref);
 		if (scope == null) {
 			throw new AssertionError(
 					"Scope provider " + scopeProvider.getClass().getName() + " must not return null for context "
 							+ context + ", reference " + ref + "! Consider to return IScope.NULLSCOPE instead.");
 		}
+		return scope;
+	}
+
+	private List<EObject> getLinkedObjects(IScope scope, String crossRefString) {
 		final QualifiedName qualifiedLinkName = qualifiedNameConverter.toQualifiedName(crossRefString);
 		final IEObjectDescription eObjectDescription = scope.getSingleElement(qualifiedLinkName);
 		if (logger.isDebugEnabled()) {
@@ -122,6 +136,54 @@ public class DefaultLinkingService extends AbstractLinkingService {
 		final EObject result = eObjectDescription.getEObjectOrProxy();
 		return Collections.singletonList(result);
 	}
+
+	/**
+	 * Computes the scope for the given context and reference at most once and looks up each distinct link text only
+	 * once. Falls back to {@link #getLinkedObjects(EObject, EReference, INode)} per node if that method is overridden.
+	 * 
+	 * @since 2.35
+	 */
+	@Override
+	public Function<INode, List<EObject>> getLinker(EObject context, EReference ref) {
+		if (!isLinkerSupported() || ref.getEReferenceType() == null) {
+			return super.getLinker(context, ref);
+		}
+		return new Function<INode, List<EObject>>() {
+			private IScope scope;
+			private final Map<String, List<EObject>> linkedObjects = new HashMap<>();
+
+			@Override
+			public List<EObject> apply(INode node) {
+				String crossRefString = getCrossRefNodeAsString(node);
+				if (crossRefString == null || crossRefString.equals("")) {
+					return Collections.<EObject>emptyList();
+				}
+				List<EObject> result = linkedObjects.get(crossRefString);
+				if (result == null) {
+					if (scope == null) {
+						scope = getNonNullScope(context, ref);
+					}
+					result = getLinkedObjects(scope, crossRefString);
+					linkedObjects.put(crossRefString, result);
+				}
+				return result;
+			}
+		};
+	}
+
+	private boolean isLinkerSupported() {
+		Boolean result = linkerSupported;
+		if (result == null) {
+			try {
+				result = getClass().getMethod("getLinkedObjects", EObject.class, EReference.class, INode.class)
+						.getDeclaringClass() == DefaultLinkingService.class;
+			} catch (NoSuchMethodException e) {
+				result = false;
+			}
+			linkerSupported = result;
+		}
+		return result;
+	}
 	
 	public String getCrossRefNodeAsString(INode node) throws IllegalNodeException {
 		return linkingHelper.getCrossRefNodeAsString(node, true);
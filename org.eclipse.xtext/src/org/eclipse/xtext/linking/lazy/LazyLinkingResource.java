@@ -15,10 +15,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.TreeIterator;
@@ -44,6 +46,7 @@ import org.eclipse.xtext.nodemodel.INode;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.Triple;
+import org.eclipse.xtext.util.Tuples;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
@@ -84,6 +87,12 @@ public class LazyLinkingResource extends XtextResource {
 	 */
 	public static final String CYCLIC_LINKING_DECTECTION_COUNTER_LIMIT = "CYCLIC_LINKING_DECTECTION_COUNTER_LIMIT";
 
+	/**
+	 * Enables the {@link #setBulkLinking(boolean) bulk linking} mode.
+	 * @since 2.35
+	 */
+	public static final String BULK_LINKING = "BULK_LINKING";
+
 	@Inject
 	private ILinkingService linkingService;
 
@@ -107,6 +116,17 @@ public class LazyLinkingResource extends XtextResource {
 
 	private int cyclicLinkingDetectionCounter = 0;
 
+	@Named(BULK_LINKING)
+	@Inject(optional=true)
+	private boolean bulkLinking = false;
+
+	/**
+	 * The linkers that are shared by the cross references of a {@link #getBulkLinkingKey(EObject, EReference) group}
+	 * while the lazy cross references are resolved in bulk. The map itself is only accessed while the resource is
+	 * locked.
+	 */
+	private volatile Map<Object, Function<INode, List<EObject>>> bulkLinkers;
+
 	@Override
 	protected void doLoad(InputStream inputStream, Map<?, ?> options) throws IOException {
 		super.doLoad(inputStream, options);
@@ -131,9 +151,23 @@ public class LazyLinkingResource extends XtextResource {
 	 * This resource might still contain resolvable proxies after this method has been called.
 	 * 
 	 * @param mon a {@link CancelIndicator} can be used to stop the resolution.
+	 * @see #setBulkLinking(boolean)
 	 */
 	public void resolveLazyCrossReferences(final CancelIndicator mon) {
 		final CancelIndicator monitor = mon == null ? CancelIndicator.NullImpl : mon;
+		if (isBulkLinking() && bulkLinkers == null) {
+			bulkLinkers = new HashMap<>();
+			try {
+				doResolveLazyCrossReferences(monitor);
+			} finally {
+				bulkLinkers = null;
+			}
+		} else {
+			doResolveLazyCrossReferences(monitor);
+		}
+	}
+
+	private void doResolveLazyCrossReferences(CancelIndicator monitor) {
 		TreeIterator<Object> iterator = EcoreUtil.getAllContents(this, true);
 		while (iterator.hasNext()) {
 			operationCanceledManager.checkCanceled(monitor);
@@ -260,10 +294,7 @@ public class LazyLinkingResource extends XtextResource {
 				return null;
 			EReference reference = triple.getSecond();
 			try {
-				List<EObject> linkedObjects = getLinkingService().getLinkedObjects(
-						triple.getFirst(), 
-						reference,
-						triple.getThird());
+				List<EObject> linkedObjects = getLinkedObjects(triple);
 	
 				if (linkedObjects.isEmpty()) {
 					if (isUnresolveableProxyCacheable(triple))
@@ -310,6 +341,33 @@ public class LazyLinkingResource extends XtextResource {
 		}
 	}
 
+	private List<EObject> getLinkedObjects(Triple<EObject, EReference, INode> triple) {
+		Map<Object, Function<INode, List<EObject>>> linkers = bulkLinkers;
+		if (linkers == null) {
+			return getLinkingService().getLinkedObjects(triple.getFirst(), triple.getSecond(), triple.getThird());
+		}
+		Object key = getBulkLinkingKey(triple.getFirst(), triple.getSecond());
+		Function<INode, List<EObject>> linker = linkers.get(key);
+		if (linker == null) {
+			linker = getLinkingService().getLinker(triple.getFirst(), triple.getSecond());
+			linkers.put(key, linker);
+		}
+		return linker.apply(triple.getThird());
+	}
+
+	/**
+	 * Returns the key of the group of cross references that share their {@link ILinkingService#getLinker(EObject, EReference) linker}
+	 * while the lazy cross references are resolved in bulk, i.e. the cross references that are resolved against the
+	 * same scope. By default, these are the cross references of the same reference in the same context object.
+	 * Languages whose scopes do not depend on the individual context object may return a coarser key, e.g. the
+	 * container of the context and the reference.
+	 * 
+	 * @since 2.35
+	 */
+	protected Object getBulkLinkingKey(EObject context, EReference reference) {
+		return Tuples.create(context, reference);
+	}
+
 	/**
 	 * @since 2.1
 	 */
@@ -460,6 +518,25 @@ public class LazyLinkingResource extends XtextResource {
 		return eagerLinking;
 	}
 
+	/**
+	 * In bulk linking mode, {@link #resolveLazyCrossReferences(CancelIndicator)} groups the cross references by their
+	 * {@link #getBulkLinkingKey(EObject, EReference) key} and resolves each group with a shared
+	 * {@link ILinkingService#getLinker(EObject, EReference) linker}, such that the scope is computed only once per group
+	 * and each distinct name is looked up only once.
+	 * 
+	 * @since 2.35
+	 */
+	public void setBulkLinking(boolean bulkLinking) {
+		this.bulkLinking = bulkLinking;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public boolean isBulkLinking() {
+		return bulkLinking;
+	}
+
 	public ILinkingDiagnosticMessageProvider getDiagnosticMessageProvider() {
 		return diagnosticMessageProvider;
 	}
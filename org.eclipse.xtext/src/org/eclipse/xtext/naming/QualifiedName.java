@@ -20,6 +20,8 @@ import org.eclipse.xtext.util.Strings;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
 /**
  * A datatype for dealing with qualified names.
@@ -38,6 +40,11 @@ public class QualifiedName implements Comparable<QualifiedName> {
 
 	static boolean USE_INTERNING = Boolean.getBoolean("xtext.qn.interning");
 
+	/**
+	 * The weak table of canonical instances, see {@link QualifiedNameInterning#intern(QualifiedName)}.
+	 */
+	private static final Interner<QualifiedName> INTERNER = Interners.newWeakInterner();
+
 	/**
 	 * The single existing empty QualifiedName.
 	 */
@@ -139,6 +146,28 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		return USE_INTERNING ? CommonUtil.intern(string) : string;
 	}
 
+	/**
+	 * Returns the canonical instance that is equal to the given name. If the given name becomes the canonical
+	 * instance, its segments are replaced by their canonical strings and its lower case twin is interned, too.
+	 */
+	static QualifiedName intern(QualifiedName name) {
+		if (name.isEmpty()) {
+			return EMPTY;
+		}
+		QualifiedName result = INTERNER.intern(name);
+		if (result == name) {
+			String[] segments = name.segments;
+			for (int i = 0; i < segments.length; i++) {
+				segments[i] = CommonUtil.intern(segments[i]);
+			}
+			QualifiedName lowerCase = name.toLowerCase();
+			if (lowerCase != name) {
+				name.lowerCase = intern(lowerCase);
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * Internal low level factory method.
 	 * @noreference This method is not intended to be referenced by clients.
@@ -52,4 +52,18 @@ public final class QualifiedNameInterning {
 		QualifiedName.USE_INTERNING = false;
 	}
 
+	/**
+	 * Returns the canonical instance of the given {@link QualifiedName}, such that equal names share one instance. The
+	 * canonical instances are held in a weak global table, their segments are shared and their lower case
+	 * representation is computed once and shared, too. This is independent of the String pool that is controlled by
+	 * {@link #enable()} and {@link #disable()}.
+	 * 
+	 * @param name the name. May not be <code>null</code>.
+	 * @return the canonical instance. Never <code>null</code>.
+	 * @since 2.35
+	 */
+	public static QualifiedName intern(QualifiedName name) {
+		return QualifiedName.intern(name);
+	}
+
 }
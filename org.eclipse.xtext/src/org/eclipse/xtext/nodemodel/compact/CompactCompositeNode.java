@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.BidiIterable;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.SyntaxErrorMessage;
+import org.eclipse.xtext.nodemodel.util.EmptyBidiIterable;
+import org.eclipse.xtext.nodemodel.util.NodeIterable;
+import org.eclipse.xtext.nodemodel.util.SingletonBidiIterable;
+
+/**
+ * A flyweight for a composite node of a {@link CompactNodeModel}.
+ *
+ * If the grammar elements of the node are folded, the flyweight with the folding index {@code 0} represents the
+ * outermost grammar element. The nested grammar elements are represented by synthetic flyweights with a positive
+ * folding index, analog to the {@link org.eclipse.xtext.nodemodel.impl.SyntheticCompositeNode}.
+ *
+ * @since 2.35
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class CompactCompositeNode extends CompactNode implements ICompositeNode {
+
+	protected final int foldingIndex;
+
+	protected CompactCompositeNode(CompactNodeModel model, int id, int foldingIndex) {
+		super(model, id);
+		this.foldingIndex = foldingIndex;
+	}
+
+	protected EObject[] getFoldedGrammarElements() {
+		Object grammarElement = model.basicGetGrammarElement(id);
+		if (grammarElement instanceof EObject[]) {
+			return (EObject[]) grammarElement;
+		}
+		return null;
+	}
+
+	/**
+	 * Whether this node represents a nested folded grammar element rather than the outermost one.
+	 */
+	protected boolean isSynthetic() {
+		return foldingIndex > 0;
+	}
+
+	/**
+	 * Whether the children of this node are nodes of the model rather than synthetic nodes for nested grammar
+	 * elements.
+	 */
+	protected boolean isInnermost() {
+		EObject[] folded = getFoldedGrammarElements();
+		return folded == null || folded.length == foldingIndex + 1;
+	}
+
+	@Override
+	public ICompositeNode getParent() {
+		if (isSynthetic()) {
+			return new CompactCompositeNode(model, id, foldingIndex - 1);
+		}
+		return super.getParent();
+	}
+
+	@Override
+	public boolean hasPreviousSibling() {
+		return !isSynthetic() && super.hasPreviousSibling();
+	}
+
+	@Override
+	public boolean hasNextSibling() {
+		return !isSynthetic() && super.hasNextSibling();
+	}
+
+	@Override
+	public EObject getGrammarElement() {
+		EObject[] folded = getFoldedGrammarElements();
+		if (folded == null) {
+			return super.getGrammarElement();
+		}
+		return folded[foldingIndex];
+	}
+
+	@Override
+	public boolean hasDirectSemanticElement() {
+		return !isSynthetic() && super.hasDirectSemanticElement();
+	}
+
+	@Override
+	public SyntaxErrorMessage getSyntaxErrorMessage() {
+		if (isSynthetic()) {
+			return null;
+		}
+		return super.getSyntaxErrorMessage();
+	}
+
+	@Override
+	public BidiIterable<INode> getChildren() {
+		if (hasChildren()) {
+			INode firstChild = getFirstChild();
+			if (firstChild.hasSiblings()) {
+				return new NodeIterable(firstChild);
+			} else {
+				return SingletonBidiIterable.<INode>create(firstChild);
+			}
+		}
+		return EmptyBidiIterable.instance();
+	}
+
+	@Override
+	public boolean hasChildren() {
+		return !isInnermost() || model.firstChild(id) != -1;
+	}
+
+	@Override
+	public INode getFirstChild() {
+		if (!isInnermost()) {
+			return new CompactCompositeNode(model, id, foldingIndex + 1);
+		}
+		int firstChild = model.firstChild(id);
+		if (firstChild == -1) {
+			return null;
+		}
+		return model.getNode(firstChild);
+	}
+
+	@Override
+	public INode getLastChild() {
+		if (!isInnermost()) {
+			return new CompactCompositeNode(model, id, foldingIndex + 1);
+		}
+		int lastChild = model.lastChild(id);
+		if (lastChild == -1) {
+			return null;
+		}
+		return model.getNode(lastChild);
+	}
+
+	@Override
+	public int getLookAhead() {
+		return model.lookAhead(id);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode() ^ foldingIndex;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return super.equals(obj) && foldingIndex == ((CompactCompositeNode) obj).foldingIndex;
+	}
+
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.xtext.nodemodel.ILeafNode;
+
+/**
+ * A flyweight for a leaf node of a {@link CompactNodeModel}.
+ *
+ * @since 2.35
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class CompactLeafNode extends CompactNode implements ILeafNode {
+
+	protected CompactLeafNode(CompactNodeModel model, int id) {
+		super(model, id);
+	}
+
+	@Override
+	public boolean isHidden() {
+		return model.isHidden(id);
+	}
+
+}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.BidiTreeIterable;
+import org.eclipse.xtext.nodemodel.BidiTreeIterator;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.SyntaxErrorMessage;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.nodemodel.util.NodeTreeIterator;
+import org.eclipse.xtext.nodemodel.util.ReversedBidiTreeIterable;
+import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.ITextRegionWithLineInformation;
+import org.eclipse.xtext.util.TextRegion;
+import org.eclipse.xtext.util.TextRegionWithLineInformation;
+
+import com.google.common.collect.AbstractIterator;
+
+/**
+ * A flyweight for a node of a {@link CompactNodeModel}. Flyweights for the same node are equal but not necessarily
+ * identical.
+ *
+ * @since 2.35
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public abstract class CompactNode implements INode, BidiTreeIterable<INode> {
+
+	protected final CompactNodeModel model;
+
+	protected final int id;
+
+	protected CompactNode(CompactNodeModel model, int id) {
+		this.model = model;
+		this.id = id;
+	}
+
+	@Override
+	public ICompositeNode getParent() {
+		int parent = model.parent(id);
+		if (parent < 0) {
+			return null;
+		}
+		return model.getParentNode(parent);
+	}
+
+	@Override
+	public boolean hasSiblings() {
+		return hasPreviousSibling() || hasNextSibling();
+	}
+
+	@Override
+	public boolean hasPreviousSibling() {
+		return model.hasPreviousSibling(id);
+	}
+
+	@Override
+	public boolean hasNextSibling() {
+		return model.hasNextSibling(id);
+	}
+
+	@Override
+	public INode getPreviousSibling() {
+		if (!hasPreviousSibling()) {
+			return null;
+		}
+		return model.getNode(model.previousSibling(id));
+	}
+
+	@Override
+	public INode getNextSibling() {
+		if (!hasNextSibling()) {
+			return null;
+		}
+		return model.getNode(model.subtreeEnd(id));
+	}
+
+	@Override
+	public ICompositeNode getRootNode() {
+		return model.getRootNode();
+	}
+
+	@Override
+	public Iterable<ILeafNode> getLeafNodes() {
+		return () -> new AbstractIterator<ILeafNode>() {
+
+			private int next = id;
+
+			@Override
+			protected ILeafNode computeNext() {
+				int end = model.subtreeEnd(id);
+				while (next < end) {
+					int current = next++;
+					if (model.isLeaf(current)) {
+						return (ILeafNode) model.getNode(current);
+					}
+				}
+				return endOfData();
+			}
+		};
+	}
+
+	@Override
+	public int getTotalOffset() {
+		return model.totalOffset(id);
+	}
+
+	@Override
+	public int getTotalLength() {
+		return model.totalLength(id);
+	}
+
+	@Override
+	public int getTotalEndOffset() {
+		return getTotalOffset() + getTotalLength();
+	}
+
+	@Override
+	public int getOffset() {
+		int end = model.subtreeEnd(id);
+		int firstLeaf = -1;
+		for (int i = id; i < end; i++) {
+			if (model.isLeaf(i)) {
+				if (!model.isHidden(i)) {
+					return model.totalOffset(i);
+				}
+				if (firstLeaf == -1) {
+					firstLeaf = i;
+				}
+			}
+		}
+		if (firstLeaf != -1) {
+			return model.totalOffset(firstLeaf);
+		}
+		return getTotalOffset();
+	}
+
+	@Override
+	public int getLength() {
+		int lastVisibleLeaf = getLastVisibleLeaf();
+		if (lastVisibleLeaf != -1) {
+			return model.totalOffset(lastVisibleLeaf) + model.totalLength(lastVisibleLeaf) - getOffset();
+		}
+		return getTotalLength();
+	}
+
+	@Override
+	public int getEndOffset() {
+		int lastVisibleLeaf = getLastVisibleLeaf();
+		if (lastVisibleLeaf != -1) {
+			return model.totalOffset(lastVisibleLeaf) + model.totalLength(lastVisibleLeaf);
+		}
+		return getTotalEndOffset();
+	}
+
+	private int getLastVisibleLeaf() {
+		for (int i = model.subtreeEnd(id) - 1; i >= id; i--) {
+			if (model.isLeaf(i) && !model.isHidden(i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int getTotalStartLine() {
+		return getLine(getTotalOffset());
+	}
+
+	@Override
+	public int getStartLine() {
+		return getLine(getOffset());
+	}
+
+	@Override
+	public int getTotalEndLine() {
+		return getLine(getTotalEndOffset());
+	}
+
+	@Override
+	public int getEndLine() {
+		return getLine(getEndOffset());
+	}
+
+	protected int getLine(int offset) {
+		return model.getLineAndColumn(offset).getLine();
+	}
+
+	@Override
+	public String getText() {
+		int offset = getTotalOffset();
+		return model.getCompleteContent().substring(offset, offset + getTotalLength());
+	}
+
+	@Override
+	public EObject getGrammarElement() {
+		return (EObject) model.basicGetGrammarElement(id);
+	}
+
+	@Override
+	public EObject getSemanticElement() {
+		return model.getSemanticElement(id);
+	}
+
+	@Override
+	public boolean hasDirectSemanticElement() {
+		return model.hasDirectSemanticElement(id);
+	}
+
+	@Override
+	public SyntaxErrorMessage getSyntaxErrorMessage() {
+		return model.getSyntaxErrorMessage(id);
+	}
+
+	@Override
+	public BidiTreeIterable<INode> getAsTreeIterable() {
+		return this;
+	}
+
+	@Override
+	public BidiTreeIterator<INode> iterator() {
+		return new NodeTreeIterator(this);
+	}
+
+	@Override
+	public BidiTreeIterable<INode> reverse() {
+		return new ReversedBidiTreeIterable<INode>(this);
+	}
+
+	@Override
+	public ITextRegion getTextRegion() {
+		int offset = getOffset();
+		return new TextRegion(offset, getEndOffset() - offset);
+	}
+
+	@Override
+	public ITextRegion getTotalTextRegion() {
+		return new TextRegion(getTotalOffset(), getTotalLength());
+	}
+
+	@Override
+	public ITextRegionWithLineInformation getTextRegionWithLineInformation() {
+		int offset = getOffset();
+		return getTextRegionWithLineInformation(offset, getEndOffset() - offset);
+	}
+
+	@Override
+	public ITextRegionWithLineInformation getTotalTextRegionWithLineInformation() {
+		return getTextRegionWithLineInformation(getTotalOffset(), getTotalLength());
+	}
+
+	protected ITextRegionWithLineInformation getTextRegionWithLineInformation(int offset, int length) {
+		return new TextRegionWithLineInformation(offset, length, getLine(offset), getLine(offset + length));
+	}
+
+	@Override
+	public NodeModelUtils.Implementation utils() {
+		return CompactNodeModel.Utils.INSTANCE;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(model) * 31 + id;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		CompactNode other = (CompactNode) obj;
+		return model == other.model && id == other.id;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [id=" + id + ", text='" + getText() + "']";
+	}
+}
@@ -0,0 +1,449 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.Action;
+import org.eclipse.xtext.ParserRule;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.SyntaxErrorMessage;
+import org.eclipse.xtext.nodemodel.impl.AbstractNode;
+import org.eclipse.xtext.nodemodel.impl.CompositeNode;
+import org.eclipse.xtext.nodemodel.impl.CompositeNodeWithSemanticElement;
+import org.eclipse.xtext.nodemodel.impl.InternalNodeModelUtils;
+import org.eclipse.xtext.nodemodel.impl.RootNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.util.LineAndColumn;
+
+import com.google.common.collect.Iterators;
+
+/**
+ * An immutable node model that stores the nodes of a parsed document in parallel int arrays rather than in a tree of
+ * node objects. The nodes are numbered in pre-order, such that the subtree of a node is the range of ids from the
+ * node itself to its {@link #subtreeEnd(int) subtree end}. Nodes are only materialized as flyweights on demand.
+ *
+ * The grammar elements are stored in a table that contains each grammar element and each folded array of grammar
+ * elements once. The folded arrays are taken over from the parsed node model, which already
+ * {@link org.eclipse.xtext.nodemodel.impl.GrammarElementsInterner interned} them.
+ *
+ * @see CompactNodeModelBuilder
+ * @since 2.35
+ */
+public class CompactNodeModel {
+
+	static final int LEAF = 1;
+
+	static final int HIDDEN = 2;
+
+	static final int SYNTAX_ERROR = 4;
+
+	static final int SEMANTIC_ELEMENT = 8;
+
+	static final int LOOK_AHEAD_SHIFT = 8;
+
+	private final String completeContent;
+
+	private final int[] lineBreaks;
+
+	private final int[] parents;
+
+	private final int[] subtreeEnds;
+
+	private final int[] totalOffsets;
+
+	private final int[] totalLengths;
+
+	private final int[] grammarElementIds;
+
+	private final int[] flags;
+
+	private final Object[] grammarElements;
+
+	private final int[] semanticNodes;
+
+	private final EObject[] semanticElements;
+
+	private final int[] syntaxErrorNodes;
+
+	private final SyntaxErrorMessage[] syntaxErrorMessages;
+
+	private final CompactCompositeNode rootNode;
+
+	/**
+	 * Creates a compact copy of the node model with the given root.
+	 */
+	public static CompactNodeModel create(RootNode rootNode) {
+		return new CompactNodeModel(rootNode);
+	}
+
+	protected CompactNodeModel(RootNode root) {
+		completeContent = root.getCompleteContent();
+		lineBreaks = Access.computeLineBreaks(completeContent);
+		int size = Iterators.size(root.basicIterator());
+		parents = new int[size];
+		subtreeEnds = new int[size];
+		totalOffsets = new int[size];
+		totalLengths = new int[size];
+		grammarElementIds = new int[size];
+		flags = new int[size];
+		Map<Object, Integer> grammarElementTable = new IdentityHashMap<>();
+		List<Object> grammarElementList = new ArrayList<>();
+		List<EObject> semanticElementList = new ArrayList<>();
+		int[] semanticNodeIds = new int[16];
+		List<SyntaxErrorMessage> syntaxErrorList = new ArrayList<>();
+		int[] syntaxErrorNodeIds = new int[4];
+		// the path from the root to the current node and the ids of the nodes on that path
+		List<AbstractNode> path = new ArrayList<>();
+		int[] pathIds = new int[16];
+		int id = 0;
+		Iterator<AbstractNode> iterator = root.basicIterator();
+		while (iterator.hasNext()) {
+			AbstractNode node = iterator.next();
+			CompositeNode parent = Access.basicGetParent(node);
+			while (!path.isEmpty() && path.get(path.size() - 1) != parent) {
+				int last = path.size() - 1;
+				subtreeEnds[pathIds[last]] = id;
+				path.remove(last);
+			}
+			parents[id] = path.isEmpty() ? -1 : pathIds[path.size() - 1];
+			totalOffsets[id] = node.getTotalOffset();
+			totalLengths[id] = node.getTotalLength();
+			Object grammarElement = Access.basicGetGrammarElement(node);
+			Integer grammarElementId = grammarElementTable.get(grammarElement);
+			if (grammarElementId == null) {
+				grammarElementId = grammarElementList.size();
+				grammarElementTable.put(grammarElement, grammarElementId);
+				grammarElementList.add(grammarElement);
+			}
+			grammarElementIds[id] = grammarElementId;
+			int nodeFlags = 0;
+			if (node instanceof ILeafNode) {
+				nodeFlags |= LEAF;
+				if (((ILeafNode) node).isHidden()) {
+					nodeFlags |= HIDDEN;
+				}
+			} else {
+				nodeFlags |= ((ICompositeNode) node).getLookAhead() << LOOK_AHEAD_SHIFT;
+				if (node instanceof CompositeNodeWithSemanticElement) {
+					EObject semanticElement = ((CompositeNodeWithSemanticElement) node).basicGetSemanticElement();
+					if (semanticElement != null) {
+						nodeFlags |= SEMANTIC_ELEMENT;
+						if (semanticElementList.size() == semanticNodeIds.length) {
+							semanticNodeIds = Arrays.copyOf(semanticNodeIds, semanticNodeIds.length * 2);
+						}
+						semanticNodeIds[semanticElementList.size()] = id;
+						semanticElementList.add(semanticElement);
+					}
+				}
+			}
+			SyntaxErrorMessage syntaxErrorMessage = node.getSyntaxErrorMessage();
+			if (syntaxErrorMessage != null) {
+				nodeFlags |= SYNTAX_ERROR;
+				if (syntaxErrorList.size() == syntaxErrorNodeIds.length) {
+					syntaxErrorNodeIds = Arrays.copyOf(syntaxErrorNodeIds, syntaxErrorNodeIds.length * 2);
+				}
+				syntaxErrorNodeIds[syntaxErrorList.size()] = id;
+				syntaxErrorList.add(syntaxErrorMessage);
+			}
+			flags[id] = nodeFlags;
+			if (node instanceof ICompositeNode) {
+				if (path.size() == pathIds.length) {
+					pathIds = Arrays.copyOf(pathIds, pathIds.length * 2);
+				}
+				pathIds[path.size()] = id;
+				path.add(node);
+			} else {
+				subtreeEnds[id] = id + 1;
+			}
+			id++;
+		}
+		for (int i = 0; i < path.size(); i++) {
+			subtreeEnds[pathIds[i]] = size;
+		}
+		grammarElements = grammarElementList.toArray();
+		semanticNodes = Arrays.copyOf(semanticNodeIds, semanticElementList.size());
+		semanticElements = semanticElementList.toArray(new EObject[semanticElementList.size()]);
+		syntaxErrorNodes = Arrays.copyOf(syntaxErrorNodeIds, syntaxErrorList.size());
+		syntaxErrorMessages = syntaxErrorList.toArray(new SyntaxErrorMessage[syntaxErrorList.size()]);
+		rootNode = new CompactCompositeNode(this, 0, 0);
+	}
+
+	/**
+	 * The root node of this node model. Always returns the same instance.
+	 */
+	public ICompositeNode getRootNode() {
+		return rootNode;
+	}
+
+	/**
+	 * The number of nodes in this node model, not counting the nodes that represent folded grammar elements.
+	 */
+	public int size() {
+		return parents.length;
+	}
+
+	/**
+	 * A flyweight for the node with the given id.
+	 */
+	public INode getNode(int id) {
+		if (id == 0) {
+			return rootNode;
+		}
+		if (isLeaf(id)) {
+			return new CompactLeafNode(this, id);
+		}
+		return new CompactCompositeNode(this, id, 0);
+	}
+
+	/**
+	 * A flyweight for the node with the given id that is suitable as a parent node, e.g. if the grammar elements of
+	 * the node are folded, the innermost synthetic node is returned.
+	 */
+	protected ICompositeNode getParentNode(int id) {
+		Object grammarElement = basicGetGrammarElement(id);
+		if (grammarElement instanceof EObject[]) {
+			return new CompactCompositeNode(this, id, ((EObject[]) grammarElement).length - 1);
+		}
+		return (ICompositeNode) getNode(id);
+	}
+
+	/**
+	 * The nodes that carry a syntax error, in document order.
+	 */
+	public List<INode> getSyntaxErrors() {
+		List<INode> result = new ArrayList<>(syntaxErrorNodes.length);
+		for (int id : syntaxErrorNodes) {
+			result.add(getNode(id));
+		}
+		return result;
+	}
+
+	/**
+	 * The ids of the nodes with a directly associated semantic element, in document order.
+	 */
+	protected int[] getSemanticNodes() {
+		return semanticNodes;
+	}
+
+	/**
+	 * The semantic elements that are directly associated with the {@link #getSemanticNodes() semantic nodes}.
+	 */
+	protected EObject[] getSemanticElements() {
+		return semanticElements;
+	}
+
+	protected String getCompleteContent() {
+		return completeContent;
+	}
+
+	protected LineAndColumn getLineAndColumn(int offset) {
+		return Access.getLineAndColumn(completeContent, lineBreaks, offset);
+	}
+
+	protected int parent(int id) {
+		return parents[id];
+	}
+
+	protected int subtreeEnd(int id) {
+		return subtreeEnds[id];
+	}
+
+	protected int totalOffset(int id) {
+		return totalOffsets[id];
+	}
+
+	protected int totalLength(int id) {
+		return totalLengths[id];
+	}
+
+	protected boolean isLeaf(int id) {
+		return (flags[id] & LEAF) != 0;
+	}
+
+	protected boolean isHidden(int id) {
+		return (flags[id] & HIDDEN) != 0;
+	}
+
+	protected int lookAhead(int id) {
+		return flags[id] >>> LOOK_AHEAD_SHIFT;
+	}
+
+	protected boolean hasDirectSemanticElement(int id) {
+		return (flags[id] & SEMANTIC_ELEMENT) != 0;
+	}
+
+	protected Object basicGetGrammarElement(int id) {
+		return grammarElements[grammarElementIds[id]];
+	}
+
+	protected EObject getSemanticElement(int id) {
+		int current = id;
+		while (current >= 0 && !hasDirectSemanticElement(current)) {
+			current = parents[current];
+		}
+		if (current < 0) {
+			return null;
+		}
+		return semanticElements[Arrays.binarySearch(semanticNodes, current)];
+	}
+
+	protected SyntaxErrorMessage getSyntaxErrorMessage(int id) {
+		if ((flags[id] & SYNTAX_ERROR) == 0) {
+			return null;
+		}
+		return syntaxErrorMessages[Arrays.binarySearch(syntaxErrorNodes, id)];
+	}
+
+	protected boolean hasNextSibling(int id) {
+		int parent = parents[id];
+		return parent >= 0 && subtreeEnds[id] < subtreeEnds[parent];
+	}
+
+	protected boolean hasPreviousSibling(int id) {
+		int parent = parents[id];
+		return parent >= 0 && parent + 1 != id;
+	}
+
+	protected int previousSibling(int id) {
+		int parent = parents[id];
+		int result = id - 1;
+		while (parents[result] != parent) {
+			result = parents[result];
+		}
+		return result;
+	}
+
+	protected int firstChild(int id) {
+		if (subtreeEnds[id] > id + 1) {
+			return id + 1;
+		}
+		return -1;
+	}
+
+	protected int lastChild(int id) {
+		if (subtreeEnds[id] == id + 1) {
+			return -1;
+		}
+		int result = subtreeEnds[id] - 1;
+		while (parents[result] != id) {
+			result = parents[result];
+		}
+		return result;
+	}
+
+	/**
+	 * The id of the leaf node in the subtree of the given node that contains the given offset or {@code -1}. Leaf
+	 * nodes without text are never returned.
+	 */
+	protected int findLeafAtOffset(int id, int offset) {
+		if (offset < totalOffsets[id] || offset >= totalOffsets[id] + totalLengths[id]) {
+			return -1;
+		}
+		// the total offsets are ordered in pre-order, find the first node behind the given offset
+		int low = id;
+		int high = subtreeEnds[id];
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (totalOffsets[mid] <= offset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		for (int candidate = low - 1; candidate >= id; candidate--) {
+			if (isLeaf(candidate) && totalLengths[candidate] > 0) {
+				if (totalOffsets[candidate] + totalLengths[candidate] > offset) {
+					return candidate;
+				}
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public String toString() {
+		return "CompactNodeModel [content=" + completeContent.length() + ", nodes=" + parents.length
+				+ ", grammarElements=" + grammarElements.length + ", semanticElements=" + semanticElements.length
+				+ ", syntaxErrors=" + syntaxErrorMessages.length + "]";
+	}
+
+	/**
+	 * Grants access to the internals of the pointer based node model that is copied.
+	 */
+	private static class Access extends InternalNodeModelUtils {
+
+		protected static CompositeNode basicGetParent(AbstractNode node) {
+			return InternalNodeModelUtils.basicGetParent(node);
+		}
+
+		protected static Object basicGetGrammarElement(AbstractNode node) {
+			return InternalNodeModelUtils.basicGetGrammarElement(node);
+		}
+
+		protected static int[] computeLineBreaks(String text) {
+			return InternalNodeModelUtils.computeLineBreaks(text);
+		}
+
+		protected static LineAndColumn getLineAndColumn(String text, int[] lineBreaks, int offset) {
+			return InternalNodeModelUtils.getLineAndColumn(text, lineBreaks, offset);
+		}
+	}
+
+	/**
+	 * Implementation of the {@link NodeModelUtils} that takes advantage of the array based storage.
+	 */
+	protected static class Utils implements NodeModelUtils.Implementation {
+
+		protected static final Utils INSTANCE = new Utils();
+
+		@Override
+		public ILeafNode findLeafNodeAtOffset(INode node, int leafNodeOffset) {
+			CompactNode casted = (CompactNode) node;
+			int result = casted.model.findLeafAtOffset(casted.id, leafNodeOffset);
+			if (result < 0) {
+				return null;
+			}
+			return (ILeafNode) casted.model.getNode(result);
+		}
+
+		@Override
+		public LineAndColumn getLineAndColumn(INode anyNode, int documentOffset) {
+			return ((CompactNode) anyNode).model.getLineAndColumn(documentOffset);
+		}
+
+		@Override
+		public ParserRule getEntryParserRule(INode node) {
+			ICompositeNode root = node.getRootNode();
+			EObject grammarElement = root.getGrammarElement();
+			if (grammarElement instanceof ParserRule) {
+				return (ParserRule) grammarElement;
+			} else if (grammarElement instanceof Action) {
+				INode firstChild = root.getFirstChild();
+				while (firstChild.getGrammarElement() instanceof Action
+						&& firstChild instanceof ICompositeNode) {
+					firstChild = ((ICompositeNode) firstChild).getFirstChild();
+				}
+				if (firstChild.getGrammarElement() instanceof ParserRule) {
+					return (ParserRule) firstChild.getGrammarElement();
+				}
+			}
+			throw new IllegalStateException("No Root Parser Rule found; The Node Model is broken.");
+		}
+	}
+}
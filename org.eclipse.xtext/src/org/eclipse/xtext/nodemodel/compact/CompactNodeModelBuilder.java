@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.Iterator;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
+import org.eclipse.xtext.nodemodel.impl.RootNode;
+import org.eclipse.xtext.parser.IParseResult;
+
+/**
+ * Builds the regular node model while parsing and converts it into a {@link CompactNodeModel} once the parser is
+ * done. The semantic elements are associated with the compact node model, the intermediate nodes become garbage.
+ *
+ * Partial parsing is not supported by the compact node model.
+ *
+ * @since 2.35
+ */
+public class CompactNodeModelBuilder extends NodeModelBuilder {
+
+	@Override
+	public IParseResult createParseResult(EObject model, ICompositeNode root, boolean hasErrors) {
+		CompactNodeModel nodeModel = CompactNodeModel.create((RootNode) root);
+		int[] semanticNodes = nodeModel.getSemanticNodes();
+		EObject[] semanticElements = nodeModel.getSemanticElements();
+		for (int i = 0; i < semanticNodes.length; i++) {
+			EObject semanticElement = semanticElements[i];
+			Iterator<Adapter> adapters = semanticElement.eAdapters().iterator();
+			while (adapters.hasNext()) {
+				if (adapters.next() instanceof INode) {
+					adapters.remove();
+				}
+			}
+			semanticElement.eAdapters().add(new CompactNodeReference(nodeModel, semanticNodes[i]));
+		}
+		return new CompactParseResult(model, nodeModel, hasErrors);
+	}
+
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.Collections;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.parser.AbstractParseResult;
+
+/**
+ * A parse result whose node model is a {@link CompactNodeModel}.
+ *
+ * @since 2.35
+ */
+public class CompactParseResult extends AbstractParseResult {
+
+	private final CompactNodeModel nodeModel;
+
+	public CompactParseResult(EObject rootAstElement, CompactNodeModel nodeModel, boolean hasErrors) {
+		super(rootAstElement, hasErrors);
+		this.nodeModel = nodeModel;
+	}
+
+	public CompactNodeModel getNodeModel() {
+		return nodeModel;
+	}
+
+	@Override
+	public ICompositeNode getRootNode() {
+		return nodeModel.getRootNode();
+	}
+
+	@Override
+	public void setRootNode(ICompositeNode rootNode) {
+		throw new UnsupportedOperationException("Partial parsing is not supported");
+	}
+
+	@Override
+	public Iterable<INode> getSyntaxErrors() {
+		if (!hasSyntaxErrors()) {
+			return Collections.emptyList();
+		}
+		return nodeModel.getSyntaxErrors();
+	}
+
+}
@@ -109,6 +109,15 @@ public class InternalNodeModelUtils {
 		node.basicSetGrammarElement(grammarElementArray);
 	}
 	
+	/**
+	 * Obtain the grammar element or the folded array of grammar elements of the given node.
+	 * 
+	 * @since 2.35
+	 */
+	protected static Object basicGetGrammarElement(AbstractNode node) {
+		return node.basicGetGrammarElement();
+	}
+	
 	/**
 	 * @since 2.35
 	 */
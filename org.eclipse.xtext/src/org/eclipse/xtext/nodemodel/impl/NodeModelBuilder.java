@@ -313,21 +313,45 @@ public class NodeModelBuilder {
 	
 	public void replaceAndTransferLookAhead(INode oldNode, INode newRootNode) {
 		AbstractNode newNode = ((CompositeNode) newRootNode).basicGetFirstChild();
+		// the leaf nodes in front of the replaced node are not affected by the replacement
+		int offset = oldNode.getTotalOffset();
 		replaceWithoutChildren((AbstractNode) oldNode, newNode);
 		if (oldNode instanceof ICompositeNode && newNode instanceof CompositeNode) {
 			CompositeNode newCompositeNode = (CompositeNode) newNode;
 			newCompositeNode.basicSetLookAhead(((ICompositeNode) oldNode).getLookAhead());
 		}
-		ICompositeNode root = newNode.getRootNode();
-		BidiTreeIterator<AbstractNode> iterator = ((AbstractNode) root).basicIterator();
-		int offset = 0;
+		AbstractNode current = newNode;
+		offset = updateTotalOffsets(current, offset);
+		while(current != null) {
+			while(current.basicHasNextSibling()) {
+				current = current.basicGetNextSibling();
+				offset = updateTotalOffsets(current, offset);
+			}
+			current = current.basicGetParent();
+		}
+	}
+
+	/**
+	 * Assigns consecutive offsets to the leaf nodes of the given subtree, starting at the given offset.
+	 * 
+	 * @return the offset after the last leaf node of the subtree.
+	 * @since 2.35
+	 */
+	protected int updateTotalOffsets(AbstractNode node, int offset) {
+		if (node instanceof LeafNode) {
+			((LeafNode) node).basicSetTotalOffset(offset);
+			return offset + node.getTotalLength();
+		}
+		int result = offset;
+		BidiTreeIterator<AbstractNode> iterator = node.basicIterator();
 		while(iterator.hasNext()) {
-			AbstractNode node = iterator.next();
-			if (node instanceof LeafNode) {
-				((LeafNode) node).basicSetTotalOffset(offset);
-				offset += node.getTotalLength();
+			AbstractNode child = iterator.next();
+			if (child instanceof LeafNode) {
+				((LeafNode) child).basicSetTotalOffset(result);
+				result += child.getTotalLength();
 			}
 		}
+		return result;
 	}
 
 	protected void replaceWithoutChildren(AbstractNode oldNode, AbstractNode newNode) {
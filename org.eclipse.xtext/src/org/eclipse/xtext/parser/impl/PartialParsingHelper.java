@@ -78,6 +78,10 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 			throw new NullPointerException("previousParseResult and previousParseResult.rootNode may not be null");
 		}
 		ICompositeNode oldRootNode = previousParseResult.getRootNode();
+		if (!(oldRootNode instanceof CompositeNode)) {
+			// e.g. a compact node model that cannot be modified in place
+			return fullyReparse(parser, previousParseResult, changedRegion);
+		}
 		if (changedRegion.getEndOffset() > oldRootNode.getTotalLength()) {
 			log.error("Invalid " + changedRegion + " originalLength=" + oldRootNode.getTotalLength());
 			return fullyReparse(parser, previousParseResult, changedRegion);
@@ -87,7 +91,7 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 		}
 		ReplaceRegion replaceRegion;
 		if (tokenRegionProvider != null) {
-			replaceRegion = tokenRegionProvider.getTokenReplaceRegion(insertChangeIntoReplaceRegion(oldRootNode, changedRegion), changedRegion);
+			replaceRegion = tokenRegionProvider.getTokenReplaceRegion(oldRootNode, changedRegion);
 		} else {
 			replaceRegion = changedRegion;
 		}
@@ -178,11 +182,10 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 			unloadSemanticObject(oldSemanticElement);
 		}
 		if (oldCompositeNode != oldRootNode) {
+			String newCompleteContent = insertChangeIntoReplaceRegion(oldRootNode, replaceRegion);
 			nodeModelBuilder.replaceAndTransferLookAhead(oldCompositeNode, newParseResult.getRootNode());
 			((ParseResult) newParseResult).setRootNode(oldRootNode);
-			StringBuilder builder = new StringBuilder(oldRootNode.getText());
-			replaceRegion.applyTo(builder);
-			nodeModelBuilder.setCompleteContent(oldRootNode, builder.toString());
+			nodeModelBuilder.setCompleteContent(oldRootNode, newCompleteContent);
 		} 
 		return newParseResult;
 	}
@@ -211,10 +214,7 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 	
 	private boolean isNullEdit(INode oldRootNode, ReplaceRegion replaceRegion) {
 		if (replaceRegion.getLength() == replaceRegion.getText().length()) {
-			String replacedText = oldRootNode.getText().substring(replaceRegion.getOffset(), replaceRegion.getEndOffset());
-			if (replaceRegion.getText().equals(replacedText)) {
-				return true;
-			}
+			return oldRootNode.getText().regionMatches(replaceRegion.getOffset(), replaceRegion.getText(), 0, replaceRegion.getLength());
 		}
 		return false;
 	}
@@ -240,8 +240,20 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 	}
 
 	public String insertChangeIntoReplaceRegion(ICompositeNode rootNode, ReplaceRegion region) {
-		final StringBuilder builder = new StringBuilder(rootNode.getText());
-		region.shiftBy(0-rootNode.getTotalOffset()).applyTo(builder);
+		int offset = rootNode.getTotalOffset();
+		int endOffset = rootNode.getTotalEndOffset();
+		if (region.getOffset() < offset || region.getOffset() > endOffset) {
+			final StringBuilder builder = new StringBuilder(rootNode.getText());
+			region.shiftBy(0-offset).applyTo(builder);
+			return builder.toString();
+		}
+		// copy the text directly from the complete content instead of materializing the node's text first
+		String completeContent = rootNode.getRootNode().getText();
+		int replacedEndOffset = Math.min(region.getEndOffset(), endOffset);
+		StringBuilder builder = new StringBuilder(endOffset - offset - (replacedEndOffset - region.getOffset()) + region.getText().length());
+		builder.append(completeContent, offset, region.getOffset());
+		builder.append(region.getText());
+		builder.append(completeContent, replacedEndOffset, endOffset);
 		return builder.toString();
 	}
 
@@ -11,6 +11,9 @@ package org.eclipse.xtext.parser.impl;
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonToken;
 import org.antlr.runtime.Token;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 import org.eclipse.xtext.parser.antlr.Lexer;
 import org.eclipse.xtext.parser.antlr.LexerBindings;
 import org.eclipse.xtext.util.ITextRegion;
@@ -69,4 +72,94 @@ public class TokenRegionProvider {
 					changedText.substring(tokenRegion.getOffset(), tokenRegion.getOffset() + tokenRegion.getLength()));
 	}
 
+	/**
+	 * Expands the given replace region of the document that is represented by the given root node such that it
+	 * contains only complete lexer tokens. In contrast to {@link #getTokenReplaceRegion(String, ReplaceRegion)}, the
+	 * document is not lexed from its beginning. The lexer is restarted at the token boundaries of the unchanged leaf
+	 * nodes around the change instead, such that the effort does not depend on the size of the document.
+	 * 
+	 * @since 2.35
+	 */
+	public ReplaceRegion getTokenReplaceRegion(ICompositeNode rootNode, ReplaceRegion replaceRegion) {
+		String completeContent = rootNode.getText();
+		int restartOffset = getLexerRestartOffset(rootNode, replaceRegion.getOffset());
+		int stopOffset = getLexerStopOffset(rootNode, replaceRegion.getEndOffset());
+		while (true) {
+			StringBuilder changedText = new StringBuilder(stopOffset - restartOffset - replaceRegion.getLength()
+					+ replaceRegion.getText().length());
+			changedText.append(completeContent, restartOffset, replaceRegion.getOffset());
+			changedText.append(replaceRegion.getText());
+			changedText.append(completeContent, replaceRegion.getEndOffset(), stopOffset);
+			ReplaceRegion shifted = replaceRegion.shiftBy(-restartOffset);
+			ReplaceRegion result = getTokenReplaceRegion(changedText.toString(), shifted);
+			// a token that touches the boundaries of the lexed text may continue beyond them, e.g. a comment
+			boolean incompleteStart = restartOffset > 0 && result.getOffset() == 0;
+			boolean incompleteEnd = stopOffset < completeContent.length()
+					&& result.getOffset() + result.getText().length() >= changedText.length();
+			if (!incompleteStart && !incompleteEnd) {
+				if (result == shifted) {
+					return replaceRegion;
+				}
+				return result.shiftBy(restartOffset);
+			}
+			if (incompleteStart) {
+				restartOffset = 0;
+			}
+			if (incompleteEnd) {
+				stopOffset = completeContent.length();
+			}
+		}
+	}
+
+	/**
+	 * The offset where the lexer can be restarted for a change at the given offset. This is the start of the leaf
+	 * node that precedes the leaf node in front of the change, since the change may merge the leading tokens.
+	 * 
+	 * @since 2.35
+	 */
+	protected int getLexerRestartOffset(ICompositeNode rootNode, int changeOffset) {
+		if (changeOffset == 0) {
+			return 0;
+		}
+		ILeafNode leaf = NodeModelUtils.findLeafNodeAtOffset(rootNode, changeOffset - 1);
+		if (leaf == null) {
+			return 0;
+		}
+		int result = leaf.getTotalOffset();
+		if (result > 0) {
+			ILeafNode previous = NodeModelUtils.findLeafNodeAtOffset(rootNode, result - 1);
+			if (previous == null) {
+				return 0;
+			}
+			result = previous.getTotalOffset();
+		}
+		return result;
+	}
+
+	/**
+	 * The offset in the original document up to which the lexer has to consume the input for a change that ends at
+	 * the given offset. This is the end of the leaf node that follows the leaf node behind the change.
+	 * 
+	 * @since 2.35
+	 */
+	protected int getLexerStopOffset(ICompositeNode rootNode, int changeEndOffset) {
+		int length = rootNode.getTotalLength();
+		if (changeEndOffset >= length) {
+			return length;
+		}
+		ILeafNode leaf = NodeModelUtils.findLeafNodeAtOffset(rootNode, changeEndOffset);
+		if (leaf == null) {
+			return length;
+		}
+		int result = leaf.getTotalEndOffset();
+		if (result < length) {
+			ILeafNode next = NodeModelUtils.findLeafNodeAtOffset(rootNode, result);
+			if (next == null) {
+				return length;
+			}
+			result = next.getTotalEndOffset();
+		}
+		return result;
+	}
+
 }
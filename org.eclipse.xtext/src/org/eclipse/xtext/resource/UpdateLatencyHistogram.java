@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.xtext.resource.XtextResource.UpdatePhase;
+
+import com.google.inject.Singleton;
+
+/**
+ * Collects the latencies of the {@link UpdatePhase phases} of resource updates in a histogram with exponentially
+ * growing buckets, i.e. bucket <code>i</code> counts the latencies between <code>2^i</code> and
+ * <code>2^(i+1)</code> microseconds. It is used if it is bound as the {@link XtextResource.UpdateStatistics}, e.g.
+ *
+ * <pre>
+ * binder.bind(XtextResource.UpdateStatistics.class).to(UpdateLatencyHistogram.class);
+ * </pre>
+ *
+ * @since 2.35
+ */
+@Singleton
+public class UpdateLatencyHistogram implements XtextResource.UpdateStatistics {
+
+	private static final int BUCKETS = 32;
+
+	private final Map<UpdatePhase, LongAdder[]> buckets = new EnumMap<>(UpdatePhase.class);
+
+	private final Map<UpdatePhase, LongAdder> totalNanos = new EnumMap<>(UpdatePhase.class);
+
+	public UpdateLatencyHistogram() {
+		for (UpdatePhase phase : UpdatePhase.values()) {
+			LongAdder[] phaseBuckets = new LongAdder[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) {
+				phaseBuckets[i] = new LongAdder();
+			}
+			buckets.put(phase, phaseBuckets);
+			totalNanos.put(phase, new LongAdder());
+		}
+	}
+
+	@Override
+	public void record(UpdatePhase phase, long nanos) {
+		long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(nanos, 0));
+		int bucket = Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(Math.max(micros, 1)));
+		buckets.get(phase)[bucket].increment();
+		totalNanos.get(phase).add(nanos);
+	}
+
+	/**
+	 * The number of recorded latencies of the given phase.
+	 */
+	public long getCount(UpdatePhase phase) {
+		long result = 0;
+		for (LongAdder bucket : buckets.get(phase)) {
+			result += bucket.sum();
+		}
+		return result;
+	}
+
+	/**
+	 * The number of recorded latencies of the given phase in the given bucket.
+	 */
+	public long getCount(UpdatePhase phase, int bucket) {
+		return buckets.get(phase)[bucket].sum();
+	}
+
+	public long getTotalNanos(UpdatePhase phase) {
+		return totalNanos.get(phase).sum();
+	}
+
+	/**
+	 * Returns an upper bound of the latency in microseconds that the given fraction of the recorded latencies of the
+	 * given phase did not exceed, e.g. <code>getPercentile(UpdatePhase.PARSE, 0.99)</code>. Returns zero if no
+	 * latencies were recorded.
+	 */
+	public long getPercentile(UpdatePhase phase, double fraction) {
+		long count = getCount(phase);
+		if (count == 0) {
+			return 0;
+		}
+		long threshold = (long) Math.ceil(count * fraction);
+		long seen = 0;
+		LongAdder[] phaseBuckets = buckets.get(phase);
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += phaseBuckets[i].sum();
+			if (seen >= threshold) {
+				return 1L << (i + 1);
+			}
+		}
+		return 1L << BUCKETS;
+	}
+
+	public void reset() {
+		for (UpdatePhase phase : UpdatePhase.values()) {
+			for (LongAdder bucket : buckets.get(phase)) {
+				bucket.reset();
+			}
+			totalNanos.get(phase).reset();
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder();
+		for (UpdatePhase phase : UpdatePhase.values()) {
+			long count = getCount(phase);
+			result.append(String.format("%s: %d updates, mean %dus, p50 <%dus, p90 <%dus, p99 <%dus\n", phase, count,
+					count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(getTotalNanos(phase) / count),
+					getPercentile(phase, 0.5), getPercentile(phase, 0.9), getPercentile(phase, 0.99)));
+		}
+		return result.toString();
+	}
+
+}
@@ -83,6 +83,38 @@ public class XtextResource extends ResourceImpl {
 
 	public static final String OPTION_ENCODING = XtextResource.class.getName() + ".DEFAULT_ENCODING";
 
+	/**
+	 * The phases of a load or an {@link XtextResource#update(int, int, String) update} that are reported to the
+	 * {@link UpdateStatistics}. Loads report {@link #CLEAR_CACHE} and {@link #LINK} only.
+	 * 
+	 * @since 2.35
+	 */
+	public static enum UpdatePhase {
+		/**
+		 * The partial or full reparse of the text, including lexing.
+		 */
+		PARSE,
+		/**
+		 * The eviction of the resource scope cache.
+		 */
+		CLEAR_CACHE,
+		/**
+		 * The linking of the new model.
+		 */
+		LINK
+	}
+
+	/**
+	 * Receives the duration of each phase of an update. Implementations have to be thread-safe since they are usually
+	 * shared by all resources of a language.
+	 * 
+	 * @see UpdateLatencyHistogram
+	 * @since 2.35
+	 */
+	public static interface UpdateStatistics {
+		void record(UpdatePhase phase, long nanos);
+	}
+
 	private boolean validationDisabled;
 	
 	/**
@@ -146,8 +178,24 @@ public class XtextResource extends ResourceImpl {
 	@Inject
 	private ParseResultWrapper parseResultWrapper;
 
+	@Inject(optional = true)
+	private UpdateStatistics updateStatistics;
+
 	private String encoding;
 
+	private boolean deferringUpdates;
+
+	/**
+	 * The text with all deferred updates applied, or <code>null</code> if there are no deferred updates.
+	 */
+	private StringBuilder deferredText;
+
+	/**
+	 * The region that covers all deferred updates: its offset, its end in the parsed text and its end in the
+	 * {@link #deferredText}.
+	 */
+	private int deferredOffset, deferredOldEnd, deferredNewEnd;
+
 	public IResourceServiceProvider getResourceServiceProvider() {
 		return resourceServiceProvider;
 	}
@@ -237,6 +285,7 @@ public class XtextResource extends ResourceImpl {
 	}
 
 	public void reparse(String newContent) throws IOException {
+		deferredText = null;
 		try {
 			isUpdating = true;
 			clearInternalState();
@@ -262,6 +311,7 @@ public class XtextResource extends ResourceImpl {
 
 	@Override
 	protected void doUnload() {
+		deferredText = null;
 		super.doUnload();
 		parseResult = parseResultWrapper.release(parseResult);
 	}
@@ -281,15 +331,28 @@ public class XtextResource extends ResourceImpl {
 		}
 	}
 
+	/**
+	 * Applies the given text change to this resource. If updates are {@link #deferUpdates() deferred}, the change is
+	 * only recorded and applied together with the other deferred changes.
+	 */
 	public void update(int offset, int replacedTextLength, String newText) {
 		if (!isLoaded()) {
 			throw new IllegalStateException("You can't update an unloaded resource.");
 		}
+		if (deferringUpdates) {
+			deferUpdate(offset, replacedTextLength, newText);
+			return;
+		}
+		doUpdate(offset, replacedTextLength, newText);
+	}
+
+	private void doUpdate(int offset, int replacedTextLength, String newText) {
 		try {
 			isUpdating = true;
 			IParseResult oldParseResult = parseResult;
 			ReplaceRegion replaceRegion = new ReplaceRegion(new TextRegion(offset, replacedTextLength), newText);
 			IParseResult newParseResult;
+			long start = startPhase();
 			ParserRule oldEntryPoint = NodeModelUtils.getEntryParserRule(oldParseResult.getRootNode());
 			if (entryPoint == null || entryPoint == oldEntryPoint) {
 				newParseResult = getParser().reparse(oldParseResult, replaceRegion);
@@ -298,12 +361,92 @@ public class XtextResource extends ResourceImpl {
 				replaceRegion.applyTo(builder);
 				newParseResult = getParser().parse(entryPoint, new StringReader(builder.toString()));
 			}
+			endPhase(UpdatePhase.PARSE, start);
 			updateInternalState(oldParseResult, newParseResult);
 		} finally {
 			isUpdating = false;
 		}
 	}
 
+	/**
+	 * Subsequent {@link #update(int, int, String) updates} are only recorded until
+	 * {@link #flushDeferredUpdates()} is called, which applies them with a single reparse. This avoids to process each
+	 * intermediate state if changes arrive faster than they can be parsed. While updates are deferred, the contents
+	 * and the parse result of this resource do not reflect the deferred changes.
+	 * 
+	 * @since 2.35
+	 */
+	public void deferUpdates() {
+		deferringUpdates = true;
+	}
+
+	/**
+	 * Applies all {@link #deferUpdates() deferred} updates as one update and stops deferring subsequent updates.
+	 * 
+	 * @since 2.35
+	 */
+	public void flushDeferredUpdates() {
+		deferringUpdates = false;
+		StringBuilder text = deferredText;
+		if (text != null) {
+			deferredText = null;
+			doUpdate(deferredOffset, deferredOldEnd - deferredOffset, text.substring(deferredOffset, deferredNewEnd));
+		}
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public boolean hasDeferredUpdates() {
+		return deferredText != null;
+	}
+
+	/**
+	 * Applies the change to the {@link #deferredText} and extends the region that covers all deferred changes.
+	 * The offsets of the change are relative to the text with all previously deferred changes applied.
+	 */
+	private void deferUpdate(int offset, int replacedTextLength, String newText) {
+		int end = offset + replacedTextLength;
+		if (deferredText == null) {
+			deferredText = new StringBuilder(parseResult.getRootNode().getText());
+			deferredOffset = offset;
+			deferredOldEnd = end;
+			deferredNewEnd = end;
+		} else {
+			int newEnd = Math.max(deferredNewEnd, end);
+			deferredOldEnd = newEnd - (deferredNewEnd - deferredOldEnd);
+			deferredOffset = Math.min(deferredOffset, offset);
+			deferredNewEnd = newEnd;
+		}
+		deferredText.replace(offset, end, newText);
+		deferredNewEnd += newText.length() - replacedTextLength;
+	}
+
+	private long startPhase() {
+		return updateStatistics != null ? System.nanoTime() : 0;
+	}
+
+	private void endPhase(UpdatePhase phase, long start) {
+		UpdateStatistics statistics = updateStatistics;
+		if (statistics != null) {
+			statistics.record(phase, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public void setUpdateStatistics(UpdateStatistics updateStatistics) {
+		this.updateStatistics = updateStatistics;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public UpdateStatistics getUpdateStatistics() {
+		return updateStatistics;
+	}
+
 	/**
 	 * @param oldParseResult the previous parse result that should be detached if necessary.
 	 * @param newParseResult the current parse result that should be attached to the content of this resource
@@ -326,10 +469,14 @@ public class XtextResource extends ResourceImpl {
 		if (newRootASTElement != null && !containsRootElement(newRootASTElement))
 			getContents().add(0, newRootASTElement);
 		reattachModificationTracker(newRootASTElement);
+		long start = startPhase();
 		clearCache();
+		endPhase(UpdatePhase.CLEAR_CACHE, start);
 		clearErrorsAndWarnings();
 		addSyntaxErrors();
+		start = startPhase();
 		doLinking();
+		endPhase(UpdatePhase.LINK, start);
 	}
 
 	/*
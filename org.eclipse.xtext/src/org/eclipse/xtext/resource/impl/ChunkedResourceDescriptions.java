@@ -11,10 +11,14 @@ package org.eclipse.xtext.resource.impl;
 import static com.google.common.collect.Iterables.*;
 
 import java.io.Externalizable;
+import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -35,6 +39,7 @@ import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 
 import com.google.common.annotations.Beta;
+import com.google.common.collect.Lists;
 
 /**
  * A IResourceDescriptions implementation that holds its resource description in chunks, each identified by a string.
@@ -51,6 +56,13 @@ import com.google.common.annotations.Beta;
 public class ChunkedResourceDescriptions extends AbstractCompoundSelectable
 		implements IResourceDescriptions, Externalizable {
 
+	/**
+	 * The file extension of the chunks that are written by {@link #writeMapped(File)}.
+	 * 
+	 * @since 2.35
+	 */
+	public static final String MAPPED_CHUNK_EXTENSION = ".xtextindex";
+
 	protected ConcurrentHashMap<String, ResourceDescriptionsData> chunk2resourceDescriptions = new ConcurrentHashMap<>();
 	protected ResourceSet resourceSet;
 
@@ -156,6 +168,54 @@ public class ChunkedResourceDescriptions extends AbstractCompoundSelectable
 		}
 	}
 
+	/**
+	 * Write each chunk to its own file in the given directory. Files of previously written chunks are deleted. The
+	 * files can be {@link #readMapped(File) mapped} into memory afterwards.
+	 * 
+	 * @since 2.35
+	 */
+	public void writeMapped(File directory) throws IOException {
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			throw new IOException("Cannot create directory " + directory);
+		}
+		for (File file : listMappedChunks(directory)) {
+			if (!file.delete()) {
+				throw new IOException("Cannot delete stale chunk " + file);
+			}
+		}
+		Map<String, ResourceDescriptionsData> copy = new HashMap<>(chunk2resourceDescriptions);
+		for (Entry<String, ResourceDescriptionsData> entry : copy.entrySet()) {
+			String fileName = URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + MAPPED_CHUNK_EXTENSION;
+			MappedResourceDescriptionsData.write(entry.getValue().getAllResourceDescriptions(),
+					new File(directory, fileName));
+		}
+	}
+
+	/**
+	 * Add the chunks that were written by {@link #writeMapped(File)} to the given directory. The chunks are memory
+	 * mapped, i.e. their resource descriptions are only read when they are accessed.
+	 * 
+	 * @see MappedResourceDescriptionsData
+	 * @since 2.35
+	 */
+	public void readMapped(File directory) throws IOException {
+		for (File file : listMappedChunks(directory)) {
+			String fileName = file.getName();
+			String chunkName = URLDecoder.decode(
+					fileName.substring(0, fileName.length() - MAPPED_CHUNK_EXTENSION.length()),
+					StandardCharsets.UTF_8);
+			chunk2resourceDescriptions.put(chunkName, MappedResourceDescriptionsData.load(file));
+		}
+	}
+
+	private List<File> listMappedChunks(File directory) {
+		File[] files = directory.listFiles((dir, name) -> name.endsWith(MAPPED_CHUNK_EXTENSION));
+		if (files == null) {
+			return new ArrayList<>();
+		}
+		return Lists.newArrayList(files);
+	}
+
 	public static ChunkedResourceDescriptions findInEmfObject(Notifier emfObject) {
 		for (Adapter adapter : emfObject.eAdapters()) {
 			if (adapter instanceof ChunkedResourceDescriptionsAdapter)
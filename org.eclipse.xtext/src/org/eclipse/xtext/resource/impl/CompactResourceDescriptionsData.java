@@ -0,0 +1,506 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.naming.QualifiedNameInterning;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Iterables;
+
+/**
+ * A {@link ResourceDescriptionsData} that needs considerably less memory for large indexes.
+ * <p>
+ * Each resource description gets an int id. The ids are used as values of two open addressing hash tables that map
+ * the URIs and the lower case names of the exported objects to the resource descriptions. Unlike the
+ * {@link java.util.LinkedHashMap LinkedHashMaps} and {@link java.util.LinkedHashSet LinkedHashSets} of the default
+ * implementation, this does not need an entry object per exported name. The lower case names are the ones that are
+ * cached by the {@link QualifiedName qualified names} of the exported objects. Their segments can be shared by enabling
+ * {@link QualifiedNameInterning}.
+ * <p>
+ * The iteration order of {@link #getAllResourceDescriptions()} and {@link #getAllURIs()} is the order in which the
+ * descriptions were added, just like in the default implementation.
+ *
+ * @since 2.35
+ */
+@Beta
+public class CompactResourceDescriptionsData extends ResourceDescriptionsData {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The descriptions by id. Entries of removed descriptions are {@code null}.
+	 */
+	private IResourceDescription[] descriptions;
+
+	/**
+	 * The URIs by id. Entries of removed descriptions are {@code null}.
+	 */
+	private URI[] uris;
+
+	/**
+	 * The number of ids that were handed out since the last compaction.
+	 */
+	private int nextId;
+
+	/**
+	 * The number of descriptions.
+	 */
+	private int size;
+
+	/**
+	 * Linear probing hash table from URI to id. The slots hold {@code id + 1} or {@code 0} for an empty slot.
+	 */
+	private int[] uriTable;
+
+	/**
+	 * Linear probing hash table from lower case name to the ids of the descriptions that export it. The keys are held
+	 * in {@link #nameKeys}. If a name is exported by a single description, its id is held in {@link #nameIds},
+	 * otherwise the ids are held in {@link #nameMultiIds} with the number of ids at index 0.
+	 */
+	private QualifiedName[] nameKeys;
+
+	private int[] nameIds;
+
+	private int[][] nameMultiIds;
+
+	private int nameCount;
+
+	public CompactResourceDescriptionsData(Iterable<IResourceDescription> descriptions) {
+		super(Collections.emptyMap(), Collections.emptyMap());
+		int expectedSize = DEFAULT_CAPACITY;
+		if (descriptions instanceof Collection) {
+			expectedSize = Math.max(expectedSize, ((Collection<?>) descriptions).size());
+		}
+		// it is assumed that we export at least 2 entries per resource description
+		init(expectedSize, expectedSize * 2);
+		for (IResourceDescription description : descriptions) {
+			addDescription(description.getURI(), description);
+		}
+	}
+
+	protected CompactResourceDescriptionsData(CompactResourceDescriptionsData original) {
+		super(Collections.emptyMap(), Collections.emptyMap());
+		descriptions = original.descriptions.clone();
+		uris = original.uris.clone();
+		nextId = original.nextId;
+		size = original.size;
+		uriTable = original.uriTable.clone();
+		nameKeys = original.nameKeys.clone();
+		nameIds = original.nameIds.clone();
+		nameMultiIds = original.nameMultiIds.clone();
+		for (int i = 0; i < nameMultiIds.length; i++) {
+			if (nameMultiIds[i] != null) {
+				nameMultiIds[i] = nameMultiIds[i].clone();
+			}
+		}
+		nameCount = original.nameCount;
+	}
+
+	private void init(int expectedDescriptions, int expectedNames) {
+		descriptions = new IResourceDescription[expectedDescriptions];
+		uris = new URI[expectedDescriptions];
+		nextId = 0;
+		size = 0;
+		uriTable = new int[tableSizeFor(expectedDescriptions)];
+		int nameTableSize = tableSizeFor(expectedNames);
+		nameKeys = new QualifiedName[nameTableSize];
+		nameIds = new int[nameTableSize];
+		nameMultiIds = new int[nameTableSize][];
+		nameCount = 0;
+	}
+
+	/**
+	 * The smallest power of two that keeps the load factor of a table with the given number of entries below 2/3.
+	 */
+	private static int tableSizeFor(int entries) {
+		int minimum = Math.max(DEFAULT_CAPACITY, entries + entries / 2 + 1);
+		return Integer.highestOneBit(minimum - 1) << 1;
+	}
+
+	private static int slotFor(int hashCode, int mask) {
+		int h = hashCode * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	@Override
+	public ResourceDescriptionsData copy() {
+		return new CompactResourceDescriptionsData(this);
+	}
+
+	@Override
+	public Iterable<IResourceDescription> getAllResourceDescriptions() {
+		return new DescriptionsView();
+	}
+
+	@Override
+	protected Iterable<IResourceDescription> getSelectables() {
+		return new DescriptionsView();
+	}
+
+	@Override
+	public Set<URI> getAllURIs() {
+		return new URIsView();
+	}
+
+	@Override
+	public IResourceDescription getResourceDescription(URI uri) {
+		int slot = findURISlot(uri);
+		if (slot < 0) {
+			return null;
+		}
+		return descriptions[uriTable[slot] - 1];
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName qualifiedName,
+			boolean ignoreCase) {
+		int slot = findNameSlot(qualifiedName.toLowerCase());
+		if (slot < 0) {
+			return Collections.emptyList();
+		}
+		int[] multi = nameMultiIds[slot];
+		if (multi == null) {
+			return descriptions[nameIds[slot]].getExportedObjects(type, qualifiedName, ignoreCase);
+		}
+		List<IResourceDescription> exporting = new ArrayList<>(multi[0]);
+		for (int i = 1; i <= multi[0]; i++) {
+			exporting.add(descriptions[multi[i]]);
+		}
+		return Iterables.concat(
+				Iterables.transform(exporting, from -> from.getExportedObjects(type, qualifiedName, ignoreCase)));
+	}
+
+	@Override
+	public void addDescription(URI uri, IResourceDescription newDescription) {
+		removeDescription(uri);
+		if (newDescription != null) {
+			int id = newId();
+			descriptions[id] = newDescription;
+			uris[id] = uri;
+			size++;
+			insertURI(uri, id);
+			for (IEObjectDescription object : newDescription.getExportedObjects()) {
+				insertName(object.getName().toLowerCase(), id);
+			}
+		}
+	}
+
+	@Override
+	public void removeDescription(URI uri) {
+		int slot = findURISlot(uri);
+		if (slot < 0) {
+			return;
+		}
+		int id = uriTable[slot] - 1;
+		IResourceDescription oldDescription = descriptions[id];
+		deleteURISlot(slot);
+		descriptions[id] = null;
+		uris[id] = null;
+		size--;
+		for (IEObjectDescription object : oldDescription.getExportedObjects()) {
+			removeName(object.getName().toLowerCase(), id);
+		}
+	}
+
+	/**
+	 * Allocate the id for a new description. The ids of removed descriptions are not reused, instead the ids are
+	 * compacted if too many of them are unused.
+	 */
+	private int newId() {
+		if (nextId == descriptions.length) {
+			if (size < nextId / 2) {
+				compact();
+			} else {
+				int newLength = descriptions.length + (descriptions.length >> 1) + 1;
+				descriptions = Arrays.copyOf(descriptions, newLength);
+				uris = Arrays.copyOf(uris, newLength);
+			}
+		}
+		return nextId++;
+	}
+
+	/**
+	 * Rebuild the tables from the remaining descriptions such that their ids are consecutive again.
+	 */
+	private void compact() {
+		IResourceDescription[] oldDescriptions = descriptions;
+		URI[] oldURIs = uris;
+		int oldNextId = nextId;
+		init(Math.max(DEFAULT_CAPACITY, size * 2), Math.max(DEFAULT_CAPACITY, nameCount));
+		for (int i = 0; i < oldNextId; i++) {
+			if (oldDescriptions[i] != null) {
+				addDescription(oldURIs[i], oldDescriptions[i]);
+			}
+		}
+	}
+
+	private int findURISlot(URI uri) {
+		int mask = uriTable.length - 1;
+		for (int slot = slotFor(uri.hashCode(), mask);; slot = (slot + 1) & mask) {
+			int entry = uriTable[slot];
+			if (entry == 0) {
+				return -1;
+			}
+			if (uri.equals(uris[entry - 1])) {
+				return slot;
+			}
+		}
+	}
+
+	private void insertURI(URI uri, int id) {
+		if ((size + 1) * 3 > uriTable.length * 2) {
+			int[] oldTable = uriTable;
+			uriTable = new int[oldTable.length * 2];
+			for (int entry : oldTable) {
+				if (entry != 0) {
+					uriTable[freeURISlot(uris[entry - 1])] = entry;
+				}
+			}
+		}
+		uriTable[freeURISlot(uri)] = id + 1;
+	}
+
+	private int freeURISlot(URI uri) {
+		int mask = uriTable.length - 1;
+		int slot = slotFor(uri.hashCode(), mask);
+		while (uriTable[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Remove the entry in the given slot and move the following entries of the probe sequence into the gap.
+	 */
+	private void deleteURISlot(int slot) {
+		int mask = uriTable.length - 1;
+		int gap = slot;
+		for (int i = (gap + 1) & mask; uriTable[i] != 0; i = (i + 1) & mask) {
+			int home = slotFor(uris[uriTable[i] - 1].hashCode(), mask);
+			if (isOutsideOfProbeRange(home, gap, i)) {
+				uriTable[gap] = uriTable[i];
+				gap = i;
+			}
+		}
+		uriTable[gap] = 0;
+	}
+
+	/**
+	 * Whether an entry at {@code current} whose home slot is {@code home} may be moved into the slot {@code gap}, i.e.
+	 * if {@code home} is not cyclically in the range {@code (gap, current]}.
+	 */
+	private static boolean isOutsideOfProbeRange(int home, int gap, int current) {
+		if (gap <= current) {
+			return home <= gap || home > current;
+		}
+		return home <= gap && home > current;
+	}
+
+	private int findNameSlot(QualifiedName lowerCaseName) {
+		int mask = nameKeys.length - 1;
+		for (int slot = slotFor(lowerCaseName.hashCode(), mask);; slot = (slot + 1) & mask) {
+			QualifiedName key = nameKeys[slot];
+			if (key == null) {
+				return -1;
+			}
+			if (key.equals(lowerCaseName)) {
+				return slot;
+			}
+		}
+	}
+
+	private void insertName(QualifiedName lowerCaseName, int id) {
+		int slot = findNameSlot(lowerCaseName);
+		if (slot < 0) {
+			if ((nameCount + 1) * 3 > nameKeys.length * 2) {
+				growNameTable();
+			}
+			slot = freeNameSlot(lowerCaseName);
+			nameKeys[slot] = lowerCaseName;
+			nameIds[slot] = id;
+			nameCount++;
+			return;
+		}
+		int[] multi = nameMultiIds[slot];
+		if (multi == null) {
+			// a description may export the same name more than once
+			if (nameIds[slot] != id) {
+				nameMultiIds[slot] = new int[] { 2, nameIds[slot], id, 0 };
+			}
+			return;
+		}
+		int count = multi[0];
+		if (multi[count] != id) {
+			if (count + 1 == multi.length) {
+				multi = Arrays.copyOf(multi, multi.length * 2);
+				nameMultiIds[slot] = multi;
+			}
+			multi[count + 1] = id;
+			multi[0] = count + 1;
+		}
+	}
+
+	private void growNameTable() {
+		QualifiedName[] oldKeys = nameKeys;
+		int[] oldIds = nameIds;
+		int[][] oldMultiIds = nameMultiIds;
+		nameKeys = new QualifiedName[oldKeys.length * 2];
+		nameIds = new int[oldKeys.length * 2];
+		nameMultiIds = new int[oldKeys.length * 2][];
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int slot = freeNameSlot(oldKeys[i]);
+				nameKeys[slot] = oldKeys[i];
+				nameIds[slot] = oldIds[i];
+				nameMultiIds[slot] = oldMultiIds[i];
+			}
+		}
+	}
+
+	private int freeNameSlot(QualifiedName lowerCaseName) {
+		int mask = nameKeys.length - 1;
+		int slot = slotFor(lowerCaseName.hashCode(), mask);
+		while (nameKeys[slot] != null) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private void removeName(QualifiedName lowerCaseName, int id) {
+		int slot = findNameSlot(lowerCaseName);
+		if (slot < 0) {
+			return;
+		}
+		int[] multi = nameMultiIds[slot];
+		if (multi == null) {
+			if (nameIds[slot] == id) {
+				deleteNameSlot(slot);
+				nameCount--;
+			}
+			return;
+		}
+		int count = multi[0];
+		for (int i = 1; i <= count; i++) {
+			if (multi[i] == id) {
+				System.arraycopy(multi, i + 1, multi, i, count - i);
+				count--;
+				multi[0] = count;
+				break;
+			}
+		}
+		if (count == 1) {
+			nameIds[slot] = multi[1];
+			nameMultiIds[slot] = null;
+		}
+	}
+
+	private void deleteNameSlot(int slot) {
+		int mask = nameKeys.length - 1;
+		int gap = slot;
+		for (int i = (gap + 1) & mask; nameKeys[i] != null; i = (i + 1) & mask) {
+			int home = slotFor(nameKeys[i].hashCode(), mask);
+			if (isOutsideOfProbeRange(home, gap, i)) {
+				nameKeys[gap] = nameKeys[i];
+				nameIds[gap] = nameIds[i];
+				nameMultiIds[gap] = nameMultiIds[i];
+				gap = i;
+			}
+		}
+		nameKeys[gap] = null;
+		nameIds[gap] = 0;
+		nameMultiIds[gap] = null;
+	}
+
+	/**
+	 * Iterates the non-{@code null} entries of the given array up to the given limit.
+	 */
+	private static class ArrayIterator<T> implements Iterator<T> {
+
+		private final T[] array;
+
+		private final int limit;
+
+		private int next;
+
+		ArrayIterator(T[] array, int limit) {
+			this.array = array;
+			this.limit = limit;
+			this.next = advance(0);
+		}
+
+		private int advance(int index) {
+			while (index < limit && array[index] == null) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < limit;
+		}
+
+		@Override
+		public T next() {
+			if (next >= limit) {
+				throw new NoSuchElementException();
+			}
+			T result = array[next];
+			next = advance(next + 1);
+			return result;
+		}
+	}
+
+	private class DescriptionsView extends AbstractCollection<IResourceDescription> {
+
+		@Override
+		public Iterator<IResourceDescription> iterator() {
+			return new ArrayIterator<>(descriptions, nextId);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	private class URIsView extends AbstractSet<URI> {
+
+		@Override
+		public Iterator<URI> iterator() {
+			return new ArrayIterator<>(uris, nextId);
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return o instanceof URI && findURISlot((URI) o) >= 0;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
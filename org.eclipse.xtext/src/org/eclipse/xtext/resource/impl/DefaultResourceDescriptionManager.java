@@ -60,6 +60,8 @@ public class DefaultResourceDescriptionManager implements IResourceDescription.M
 	
 	private static final String CACHE_KEY = DefaultResourceDescriptionManager.class.getName() + "#getResourceDescription";
 	
+	private volatile Boolean affectedByNamesAndReferencesOnly;
+	
 	@Override
 	public IResourceDescription getResourceDescription(final Resource resource) {
 		return cache.get(CACHE_KEY, resource, new Provider<IResourceDescription>() {
@@ -165,6 +167,65 @@ public class DefaultResourceDescriptionManager implements IResourceDescription.M
 		return isAffectedByExtensions(deltas, candidate, context);
 	}
 
+	/**
+	 * Whether {@link #isAffected(Collection, IResourceDescription, IResourceDescriptions)} can only be true for
+	 * candidates that import one of the exported names of the deltas or that reference one of the resources of the
+	 * deltas. That is the case unless the affectedness is customized by a subclass or by {@link IsAffectedExtension
+	 * extensions}. Clients may use this to skip candidates without asking this manager, if
+	 * {@link #isAffectedByNamesOrReferences(IResourceDescription, Set, Set)} is false.
+	 * 
+	 * @since 2.35
+	 */
+	public boolean isAffectedByNamesAndReferencesOnly() {
+		Boolean result = affectedByNamesAndReferencesOnly;
+		if (result == null) {
+			result = isAffectedExtensions.isEmpty()
+					&& !overrides("isAffected", Collection.class, IResourceDescription.class, IResourceDescriptions.class)
+					&& !overrides("isAffected", Collection.class, IResourceDescription.class)
+					&& !overrides("isAffectedByExtensions", Collection.class, IResourceDescription.class,
+							IResourceDescriptions.class)
+					&& !overrides("getImportedNames", IResourceDescription.class)
+					&& !overrides("addExportedNames", Set.class, IResourceDescription.class)
+					&& !overrides("getDescriptionUtils");
+			affectedByNamesAndReferencesOnly = result;
+		}
+		return result;
+	}
+
+	/**
+	 * Whether the given candidate imports one of the given lower case exported names of the deltas or references one
+	 * of the URIs of the deltas. If this manager {@link #isAffectedByNamesAndReferencesOnly() decides by names and
+	 * references only}, a candidate for which this is false is not affected by the deltas.
+	 * 
+	 * @since 2.35
+	 */
+	public boolean isAffectedByNamesOrReferences(IResourceDescription candidate, Set<QualifiedName> exportedNames,
+			Set<URI> uris) {
+		for (QualifiedName importedName : getImportedNames(candidate)) {
+			if (exportedNames.contains(importedName)) {
+				return true;
+			}
+		}
+		for (URI reference : getDescriptionUtils().collectOutgoingReferences(candidate)) {
+			if (uris.contains(reference)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean overrides(String name, Class<?>... parameterTypes) {
+		for (Class<?> c = getClass(); c != DefaultResourceDescriptionManager.class; c = c.getSuperclass()) {
+			try {
+				c.getDeclaredMethod(name, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// check the super class
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Query all registered extensions.
 	 * 
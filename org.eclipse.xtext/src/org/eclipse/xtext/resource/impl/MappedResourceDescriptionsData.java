@@ -0,0 +1,487 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
+/**
+ * A {@link ResourceDescriptionsData} that reads the resource descriptions from a memory mapped file that was written
+ * by {@link #write(Iterable, File)}.
+ * <p>
+ * The file contains hash tables for the URIs and the lower case names of the exported objects, so
+ * {@link #getResourceDescription(URI)} and {@link #getExportedObjects(EClass, QualifiedName, boolean)} are answered
+ * from the mapping. A resource description is only deserialized if it is accessed, and it is softly cached afterwards.
+ * Loading a file is therefore almost free and the index is mostly kept off the heap.
+ * <p>
+ * The file itself is never modified. Descriptions that are added or removed afterwards are tracked on the heap and
+ * shadow the ones in the file.
+ *
+ * @since 2.35
+ */
+@Beta
+public class MappedResourceDescriptionsData extends ResourceDescriptionsData {
+
+	private static final int MAGIC = 0x58494458;
+
+	private static final int VERSION = 1;
+
+	/**
+	 * magic, version, count, index offset, URI table offset, URI table size, name table offset, name table size
+	 */
+	private static final int HEADER_SIZE = 8 * 4;
+
+	/**
+	 * Write the given descriptions to the given file in the format that is expected by {@link #load(File)}.
+	 *
+	 * @throws IOException
+	 *             if the file cannot be written or if it would exceed 2GB.
+	 */
+	public static void write(Iterable<IResourceDescription> descriptions, File file) throws IOException {
+		List<IResourceDescription> list = Lists.newArrayList(descriptions);
+		int count = list.size();
+		Map<QualifiedName, List<Integer>> names = new LinkedHashMap<>();
+		for (int i = 0; i < count; i++) {
+			for (IEObjectDescription object : list.get(i).getExportedObjects()) {
+				List<Integer> ids = names.computeIfAbsent(object.getName().toLowerCase(), k -> new ArrayList<>(1));
+				if (ids.isEmpty() || ids.get(ids.size() - 1) != i) {
+					ids.add(i);
+				}
+			}
+		}
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+			randomAccessFile.setLength(0);
+			DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Channels.newOutputStream(randomAccessFile.getChannel())));
+			out.write(new byte[HEADER_SIZE]);
+			int[] uriOffsets = new int[count];
+			int[] uriHashes = new int[count];
+			int[] blobOffsets = new int[count];
+			for (int i = 0; i < count; i++) {
+				String uri = list.get(i).getURI().toString();
+				uriOffsets[i] = out.size();
+				uriHashes[i] = uri.hashCode();
+				writeBytes(out, uri.getBytes(StandardCharsets.UTF_8));
+			}
+			for (int i = 0; i < count; i++) {
+				blobOffsets[i] = out.size();
+				writeBytes(out, serialize(list.get(i)));
+			}
+			int nameTableSize = tableSizeFor(names.size());
+			int[] nameTable = new int[nameTableSize * 2];
+			for (Map.Entry<QualifiedName, List<Integer>> entry : names.entrySet()) {
+				int nameOffset = out.size();
+				writeBytes(out, encode(entry.getKey()));
+				int listOffset = out.size();
+				out.writeInt(entry.getValue().size());
+				for (Integer id : entry.getValue()) {
+					out.writeInt(id);
+				}
+				int slot = slotFor(entry.getKey().hashCode(), nameTableSize - 1);
+				while (nameTable[slot * 2] != 0) {
+					slot = (slot + 1) & (nameTableSize - 1);
+				}
+				nameTable[slot * 2] = nameOffset;
+				nameTable[slot * 2 + 1] = listOffset;
+			}
+			int indexOffset = out.size();
+			for (int i = 0; i < count; i++) {
+				out.writeInt(uriOffsets[i]);
+				out.writeInt(blobOffsets[i]);
+			}
+			int uriTableOffset = out.size();
+			int uriTableSize = tableSizeFor(count);
+			int[] uriTable = new int[uriTableSize];
+			for (int i = 0; i < count; i++) {
+				int slot = slotFor(uriHashes[i], uriTableSize - 1);
+				while (uriTable[slot] != 0) {
+					slot = (slot + 1) & (uriTableSize - 1);
+				}
+				uriTable[slot] = i + 1;
+			}
+			for (int entry : uriTable) {
+				out.writeInt(entry);
+			}
+			int nameTableOffset = out.size();
+			for (int entry : nameTable) {
+				out.writeInt(entry);
+			}
+			out.flush();
+			// the counter of the stream saturates at Integer.MAX_VALUE
+			if (out.size() == Integer.MAX_VALUE) {
+				throw new IOException("The index is too large to be mapped: " + file);
+			}
+			randomAccessFile.seek(0);
+			randomAccessFile.writeInt(MAGIC);
+			randomAccessFile.writeInt(VERSION);
+			randomAccessFile.writeInt(count);
+			randomAccessFile.writeInt(indexOffset);
+			randomAccessFile.writeInt(uriTableOffset);
+			randomAccessFile.writeInt(uriTableSize);
+			randomAccessFile.writeInt(nameTableOffset);
+			randomAccessFile.writeInt(nameTableSize);
+		}
+	}
+
+	/**
+	 * Map the given file that was written by {@link #write(Iterable, File)} into memory.
+	 *
+	 * @throws IOException
+	 *             if the file cannot be read or has an unexpected format.
+	 */
+	public static MappedResourceDescriptionsData load(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("The index is too large to be mapped: " + file);
+			}
+			ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			return new MappedResourceDescriptionsData(new Mapping(buffer, file), new HashSet<>(),
+					new ResourceDescriptionsData(Collections.emptyList()));
+		}
+	}
+
+	private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static byte[] serialize(IResourceDescription description) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			if (description instanceof Serializable) {
+				out.writeObject(description);
+			} else {
+				out.writeObject(SerializableResourceDescription.createCopy(description));
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] encode(QualifiedName name) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(name.getSegmentCount());
+			for (int i = 0; i < name.getSegmentCount(); i++) {
+				writeBytes(out, name.getSegment(i).getBytes(StandardCharsets.UTF_8));
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static int tableSizeFor(int entries) {
+		int minimum = Math.max(16, entries + entries / 2 + 1);
+		return Integer.highestOneBit(minimum - 1) << 1;
+	}
+
+	private static int slotFor(int hashCode, int mask) {
+		int h = hashCode * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+
+	/**
+	 * The read-only view of a mapped file. It is shared by all {@link #copy() copies}.
+	 */
+	protected static class Mapping {
+
+		private final ByteBuffer buffer;
+
+		private final File file;
+
+		private final int count;
+
+		private final int indexOffset;
+
+		private final int uriTableOffset;
+
+		private final int uriTableSize;
+
+		private final int nameTableOffset;
+
+		private final int nameTableSize;
+
+		private final AtomicReferenceArray<SoftReference<IResourceDescription>> cache;
+
+		protected Mapping(ByteBuffer buffer, File file) throws IOException {
+			this.buffer = buffer;
+			this.file = file;
+			if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+				throw new IOException("Not an index file: " + file);
+			}
+			if (buffer.getInt(4) != VERSION) {
+				throw new IOException("Unsupported version " + buffer.getInt(4) + " of the index file: " + file);
+			}
+			count = buffer.getInt(8);
+			indexOffset = buffer.getInt(12);
+			uriTableOffset = buffer.getInt(16);
+			uriTableSize = buffer.getInt(20);
+			nameTableOffset = buffer.getInt(24);
+			nameTableSize = buffer.getInt(28);
+			cache = new AtomicReferenceArray<>(count);
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		private byte[] readBytes(int offset) {
+			byte[] result = new byte[buffer.getInt(offset)];
+			ByteBuffer duplicate = buffer.duplicate();
+			duplicate.position(offset + 4);
+			duplicate.get(result);
+			return result;
+		}
+
+		private boolean bytesEqual(int offset, byte[] expected) {
+			if (buffer.getInt(offset) != expected.length) {
+				return false;
+			}
+			for (int i = 0; i < expected.length; i++) {
+				if (buffer.get(offset + 4 + i) != expected[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		public URI getURI(int id) {
+			return URI.createURI(new String(readBytes(buffer.getInt(indexOffset + id * 8)), StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * @return the id of the description with the given URI or {@code -1}.
+		 */
+		public int findURI(URI uri) {
+			String string = uri.toString();
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			int mask = uriTableSize - 1;
+			for (int slot = slotFor(string.hashCode(), mask);; slot = (slot + 1) & mask) {
+				int entry = buffer.getInt(uriTableOffset + slot * 4);
+				if (entry == 0) {
+					return -1;
+				}
+				if (bytesEqual(buffer.getInt(indexOffset + (entry - 1) * 8), bytes)) {
+					return entry - 1;
+				}
+			}
+		}
+
+		/**
+		 * @return the ids of the descriptions that export the given name.
+		 */
+		public int[] findName(QualifiedName lowerCaseName) {
+			byte[] bytes = encode(lowerCaseName);
+			int mask = nameTableSize - 1;
+			for (int slot = slotFor(lowerCaseName.hashCode(), mask);; slot = (slot + 1) & mask) {
+				int nameOffset = buffer.getInt(nameTableOffset + slot * 8);
+				if (nameOffset == 0) {
+					return new int[0];
+				}
+				if (bytesEqual(nameOffset, bytes)) {
+					int listOffset = buffer.getInt(nameTableOffset + slot * 8 + 4);
+					int[] result = new int[buffer.getInt(listOffset)];
+					for (int i = 0; i < result.length; i++) {
+						result[i] = buffer.getInt(listOffset + 4 + i * 4);
+					}
+					return result;
+				}
+			}
+		}
+
+		public IResourceDescription getDescription(int id) {
+			SoftReference<IResourceDescription> reference = cache.get(id);
+			IResourceDescription result = reference != null ? reference.get() : null;
+			if (result == null) {
+				byte[] bytes = readBytes(buffer.getInt(indexOffset + id * 8 + 4));
+				try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+					result = (IResourceDescription) in.readObject();
+				} catch (IOException | ClassNotFoundException e) {
+					throw new IllegalStateException("Cannot read resource description #" + id + " from " + file, e);
+				}
+				cache.set(id, new SoftReference<>(result));
+			}
+			return result;
+		}
+	}
+
+	private final Mapping mapping;
+
+	/**
+	 * The URIs of the descriptions in the mapping that were removed or replaced.
+	 */
+	private final Set<URI> shadowed;
+
+	/**
+	 * The descriptions that were added after the file was loaded.
+	 */
+	private final ResourceDescriptionsData overlay;
+
+	protected MappedResourceDescriptionsData(Mapping mapping, Set<URI> shadowed, ResourceDescriptionsData overlay) {
+		super(Collections.emptyMap(), Collections.emptyMap());
+		this.mapping = mapping;
+		this.shadowed = shadowed;
+		this.overlay = overlay;
+	}
+
+	@Override
+	public ResourceDescriptionsData copy() {
+		return new MappedResourceDescriptionsData(mapping, new HashSet<>(shadowed), overlay.copy());
+	}
+
+	private boolean isVisible(int id) {
+		return shadowed.isEmpty() || !shadowed.contains(mapping.getURI(id));
+	}
+
+	private Iterable<Integer> getVisibleIds() {
+		return () -> IntStream.range(0, mapping.getCount()).filter(this::isVisible).iterator();
+	}
+
+	@Override
+	public IResourceDescription getResourceDescription(URI uri) {
+		IResourceDescription result = overlay.getResourceDescription(uri);
+		if (result != null || shadowed.contains(uri)) {
+			return result;
+		}
+		int id = mapping.findURI(uri);
+		if (id < 0) {
+			return null;
+		}
+		return mapping.getDescription(id);
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName qualifiedName,
+			boolean ignoreCase) {
+		List<Integer> ids = new ArrayList<>();
+		for (int id : mapping.findName(qualifiedName.toLowerCase())) {
+			if (isVisible(id)) {
+				ids.add(id);
+			}
+		}
+		Iterable<IEObjectDescription> overlayResult = overlay.getExportedObjects(type, qualifiedName, ignoreCase);
+		if (ids.isEmpty()) {
+			return overlayResult;
+		}
+		Iterable<IEObjectDescription> mappedResult = Iterables.concat(Iterables.transform(ids,
+				id -> mapping.getDescription(id).getExportedObjects(type, qualifiedName, ignoreCase)));
+		return Iterables.concat(mappedResult, overlayResult);
+	}
+
+	@Override
+	public Iterable<IResourceDescription> getAllResourceDescriptions() {
+		return new DescriptionsView();
+	}
+
+	@Override
+	protected Iterable<IResourceDescription> getSelectables() {
+		return new DescriptionsView();
+	}
+
+	@Override
+	public Set<URI> getAllURIs() {
+		return new URIsView();
+	}
+
+	@Override
+	public void addDescription(URI uri, IResourceDescription newDescription) {
+		if (mapping.findURI(uri) >= 0) {
+			shadowed.add(uri);
+		}
+		overlay.addDescription(uri, newDescription);
+	}
+
+	@Override
+	public void removeDescription(URI uri) {
+		if (mapping.findURI(uri) >= 0) {
+			shadowed.add(uri);
+		}
+		overlay.removeDescription(uri);
+	}
+
+	private int size() {
+		return mapping.getCount() - shadowed.size() + overlay.getAllURIs().size();
+	}
+
+	private class DescriptionsView extends AbstractCollection<IResourceDescription> {
+
+		@Override
+		public Iterator<IResourceDescription> iterator() {
+			return Iterators.concat(Iterators.transform(getVisibleIds().iterator(), mapping::getDescription),
+					overlay.getAllResourceDescriptions().iterator());
+		}
+
+		@Override
+		public int size() {
+			return MappedResourceDescriptionsData.this.size();
+		}
+	}
+
+	private class URIsView extends AbstractSet<URI> {
+
+		@Override
+		public Iterator<URI> iterator() {
+			return Iterators.concat(Iterators.transform(getVisibleIds().iterator(), mapping::getURI),
+					overlay.getAllURIs().iterator());
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof URI)) {
+				return false;
+			}
+			URI uri = (URI) o;
+			return overlay.getAllURIs().contains(uri) || !shadowed.contains(uri) && mapping.findURI(uri) >= 0;
+		}
+
+		@Override
+		public int size() {
+			return MappedResourceDescriptionsData.this.size();
+		}
+	}
+}
@@ -45,6 +45,8 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 
 	private boolean storeNodeModel = false;
 
+	private boolean sectionedStorage = false;
+
 	@Override
 	public boolean shouldLoadFromStorage(StorageAwareResource resource) {
 		SourceLevelURIsAdapter adapter = SourceLevelURIsAdapter.findInstalledAdapter(resource.getResourceSet());
@@ -111,7 +113,7 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 
 	@Override
 	public ResourceStorageWritable createResourceStorageWritable(OutputStream out) {
-		return new ResourceStorageWritable(out, isStoreNodeModel());
+		return new ResourceStorageWritable(out, isStoreNodeModel(), isSectionedStorage());
 	}
 
 	protected ResourceStorageProviderAdapter getResourceStorageProviderAdapter(ResourceSet resourceSet) {
@@ -153,6 +155,23 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 		this.storeNodeModel = storeNodeModel;
 	}
 
+	/**
+	 * Whether new storages are written in the {@link ResourceStorageSections sectioned format} instead of the zip
+	 * format. Both formats can be read regardless of this setting.
+	 * 
+	 * @since 2.35
+	 */
+	public boolean isSectionedStorage() {
+		return sectionedStorage;
+	}
+
+	/**
+	 * @since 2.35
+	 */
+	public void setSectionedStorage(boolean sectionedStorage) {
+		this.sectionedStorage = sectionedStorage;
+	}
+
 	private static class MyByteArrayOutputStream extends ByteArrayOutputStream {
 		@Override
 		public synchronized byte[] toByteArray() {
@@ -38,6 +38,8 @@ public class ResourceStorageLoadable {
 
 	private final boolean storeNodeModel;
 
+	private ResourceStorageSections.Reader deferredSections;
+
 	public ResourceStorageLoadable(InputStream in, boolean storeNodeModel) {
 		this.in = in;
 		this.storeNodeModel = storeNodeModel;
@@ -46,11 +48,60 @@ public class ResourceStorageLoadable {
 	protected void loadIntoResource(StorageAwareResource resource) throws IOException {
 		if (!resource.isLoadedFromStorage())
 			throw new IllegalStateException("Please use StorageAwareResource#load(ResourceStorageLoadable).");
-		try (ZipInputStream zin = new ZipInputStream(in)) {
+		InputStream bufferedIn = in.markSupported() ? in : new BufferedInputStream(in);
+		if (ResourceStorageSections.isSectioned(bufferedIn)) {
+			ResourceStorageSections.Reader sections;
+			try (InputStream closeable = bufferedIn) {
+				sections = ResourceStorageSections.Reader.read(closeable);
+			}
+			loadSections(resource, sections);
+			return;
+		}
+		try (ZipInputStream zin = new ZipInputStream(bufferedIn)) {
 			loadEntries(resource, zin);
 		}
 	}
 
+	/**
+	 * Load the sections of a storage in the {@link ResourceStorageSections sectioned format}. The resource
+	 * description is not read before it is {@link StorageAwareResource#getResourceDescription() requested}. Overriding
+	 * methods should first delegate to super before reading their own sections.
+	 * 
+	 * @since 2.35
+	 */
+	protected void loadSections(StorageAwareResource resource, ResourceStorageSections.Reader sections)
+			throws IOException {
+		try (InputStream section = new BufferedInputStream(sections.openSection(ResourceStorageSections.CONTENTS))) {
+			readContents(resource, section);
+		}
+		if (storeNodeModel && sections.hasSection(ResourceStorageSections.NODE_MODEL)) {
+			try (InputStream section = new BufferedInputStream(
+					sections.openSection(ResourceStorageSections.NODE_MODEL))) {
+				readNodeModel(resource, section);
+			}
+		}
+		// only the resource description is read later, the data of the other sections can be collected
+		deferredSections = sections.retain(ResourceStorageSections.RESOURCE_DESCRIPTION);
+		resource.setDeferredStorage(this);
+	}
+
+	/**
+	 * Reads the parts of a sectioned storage that were not read by {@link #loadSections(StorageAwareResource,
+	 * ResourceStorageSections.Reader)}.
+	 * 
+	 * @since 2.35
+	 */
+	protected void loadDeferredSections(StorageAwareResource resource) throws IOException {
+		ResourceStorageSections.Reader sections = deferredSections;
+		deferredSections = null;
+		if (sections != null) {
+			try (InputStream section = new BufferedInputStream(
+					sections.openSection(ResourceStorageSections.RESOURCE_DESCRIPTION))) {
+				readResourceDescription(resource, section);
+			}
+		}
+	}
+
 	/**
 	 * Load entries from the storage. Overriding methods should first delegate to super before adding their own entries.
 	 */
@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import com.google.common.io.ByteStreams;
+
+/**
+ * The sectioned storage format. In contrast to the zip based format, the sections of a storage can be read
+ * independently of each other and in any order.
+ *
+ * The storage starts with a header that consists of the {@link #MAGIC magic bytes}, the {@link #VERSION format
+ * version} and an offset table with the name, offset and length of each section. The header is followed by the
+ * deflated data of the sections.
+ *
+ * @since 2.35
+ */
+public class ResourceStorageSections {
+
+	public static final String CONTENTS = "emf-contents";
+
+	public static final String RESOURCE_DESCRIPTION = "resource-description";
+
+	public static final String NODE_MODEL = "node-model";
+
+	/**
+	 * The first bytes of a sectioned storage. Storages in the zip format start with {@code PK}.
+	 */
+	public static final byte[] MAGIC = { 'X', 'T', 'S', 'S' };
+
+	public static final int VERSION = 1;
+
+	/**
+	 * Returns whether the given stream contains a sectioned storage. The stream must {@link InputStream#markSupported()
+	 * support marks}, it is reset to its current position afterwards.
+	 */
+	public static boolean isSectioned(InputStream in) throws IOException {
+		in.mark(MAGIC.length);
+		try {
+			byte[] magic = new byte[MAGIC.length];
+			return ByteStreams.read(in, magic, 0, magic.length) == MAGIC.length && Arrays.equals(MAGIC, magic);
+		} finally {
+			in.reset();
+		}
+	}
+
+	/**
+	 * Collects the sections of a storage and writes them with the header.
+	 */
+	public static class Writer {
+
+		private final Map<String, ByteArrayOutputStream> sections = new LinkedHashMap<>();
+
+		/**
+		 * Creates a new section. The data of the section is complete when the returned stream is closed.
+		 */
+		public OutputStream newSection(String name) {
+			if (sections.containsKey(name)) {
+				throw new IllegalArgumentException("Duplicate section " + name);
+			}
+			ByteArrayOutputStream data = new ByteArrayOutputStream();
+			sections.put(name, data);
+			Deflater deflater = new Deflater();
+			return new DeflaterOutputStream(data, deflater) {
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						deflater.end();
+					}
+				}
+			};
+		}
+
+		public void writeTo(OutputStream out) throws IOException {
+			DataOutputStream dataOut = new DataOutputStream(out);
+			dataOut.write(MAGIC);
+			dataOut.writeInt(VERSION);
+			dataOut.writeInt(sections.size());
+			int offset = 0;
+			for (Map.Entry<String, ByteArrayOutputStream> section : sections.entrySet()) {
+				int length = section.getValue().size();
+				dataOut.writeUTF(section.getKey());
+				dataOut.writeInt(offset);
+				dataOut.writeInt(length);
+				offset += length;
+			}
+			for (ByteArrayOutputStream data : sections.values()) {
+				data.writeTo(dataOut);
+			}
+			dataOut.flush();
+		}
+	}
+
+	/**
+	 * Provides access to the sections of a storage. Only the header is decoded eagerly, a section is inflated when
+	 * it is {@link #openSection(String) opened}.
+	 */
+	public static class Reader {
+
+		private final byte[] data;
+
+		private final int dataOffset;
+
+		private final Map<String, int[]> sections;
+
+		protected Reader(byte[] data, int dataOffset, Map<String, int[]> sections) {
+			this.data = data;
+			this.dataOffset = dataOffset;
+			this.sections = sections;
+		}
+
+		/**
+		 * Reads the complete storage from the given stream, which must be positioned at the {@link #MAGIC magic
+		 * bytes}.
+		 */
+		public static Reader read(InputStream in) throws IOException {
+			byte[] data = ByteStreams.toByteArray(in);
+			DataInputStream header = new DataInputStream(new ByteArrayInputStream(data));
+			byte[] magic = new byte[MAGIC.length];
+			header.readFully(magic);
+			if (!Arrays.equals(MAGIC, magic)) {
+				throw new IOException("Not a sectioned resource storage");
+			}
+			int version = header.readInt();
+			if (version != VERSION) {
+				throw new IOException("Unsupported resource storage version " + version);
+			}
+			int count = header.readInt();
+			Map<String, int[]> sections = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				String name = header.readUTF();
+				int offset = header.readInt();
+				int length = header.readInt();
+				sections.put(name, new int[] { offset, length });
+			}
+			int dataOffset = data.length - header.available();
+			for (int[] section : sections.values()) {
+				if (section[0] < 0 || section[1] < 0 || dataOffset + section[0] + section[1] > data.length) {
+					throw new IOException("Corrupt resource storage");
+				}
+			}
+			return new Reader(data, dataOffset, sections);
+		}
+
+		public Set<String> getSectionNames() {
+			return Collections.unmodifiableSet(sections.keySet());
+		}
+
+		public boolean hasSection(String name) {
+			return sections.containsKey(name);
+		}
+
+		/**
+		 * Returns a reader that holds a copy of the data of the given sections only, such that the data of the other
+		 * sections is not kept alive by it. Names of sections that do not exist are ignored.
+		 */
+		public Reader retain(String... names) {
+			ByteArrayOutputStream retained = new ByteArrayOutputStream();
+			Map<String, int[]> retainedSections = new LinkedHashMap<>();
+			for (String name : names) {
+				int[] section = sections.get(name);
+				if (section != null && !retainedSections.containsKey(name)) {
+					retainedSections.put(name, new int[] { retained.size(), section[1] });
+					retained.write(data, dataOffset + section[0], section[1]);
+				}
+			}
+			return new Reader(retained.toByteArray(), 0, retainedSections);
+		}
+
+		/**
+		 * Opens a stream on the inflated data of the given section.
+		 *
+		 * @throws IOException
+		 *             if there is no such section.
+		 */
+		public InputStream openSection(String name) throws IOException {
+			int[] section = sections.get(name);
+			if (section == null) {
+				throw new IOException("Missing section " + name);
+			}
+			Inflater inflater = new Inflater();
+			return new InflaterInputStream(new ByteArrayInputStream(data, dataOffset + section[0], section[1]),
+					inflater) {
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					} finally {
+						inflater.end();
+					}
+				}
+			};
+		}
+	}
+
+}
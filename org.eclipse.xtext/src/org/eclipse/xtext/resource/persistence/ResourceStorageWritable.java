@@ -33,19 +33,63 @@ public class ResourceStorageWritable {
 
 	private final boolean storeNodeModel;
 
+	private final boolean sectioned;
+
 	public ResourceStorageWritable(OutputStream out, boolean storeNodeModel) {
+		this(out, storeNodeModel, false);
+	}
+
+	/**
+	 * @param sectioned
+	 *            whether the {@link ResourceStorageSections sectioned format} should be written instead of the zip
+	 *            format.
+	 * @since 2.35
+	 */
+	public ResourceStorageWritable(OutputStream out, boolean storeNodeModel, boolean sectioned) {
 		this.out = out;
 		this.storeNodeModel = storeNodeModel;
+		this.sectioned = sectioned;
 	}
 
 	public void writeResource(StorageAwareResource resource) throws IOException {
 		if (resource.isLoadedFromStorage())
 			throw new IllegalStateException("cannot write resources loaded from storage. URI was " + resource.getURI());
+		if (sectioned) {
+			ResourceStorageSections.Writer sections = new ResourceStorageSections.Writer();
+			writeSections(resource, sections);
+			try (OutputStream closeable = out) {
+				sections.writeTo(closeable);
+			}
+			return;
+		}
 		try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
 			writeEntries(resource, zipOut);
 		}
 	}
 
+	/**
+	 * Write the sections of the storage. Overriding methods should first delegate to super before adding their own
+	 * sections.
+	 * 
+	 * @since 2.35
+	 */
+	protected void writeSections(StorageAwareResource resource, ResourceStorageSections.Writer sections)
+			throws IOException {
+		try (OutputStream section = new BufferedOutputStream(sections.newSection(ResourceStorageSections.CONTENTS))) {
+			writeContents(resource, section);
+		}
+		try (OutputStream section = new BufferedOutputStream(
+				sections.newSection(ResourceStorageSections.RESOURCE_DESCRIPTION))) {
+			writeResourceDescription(resource, section);
+		}
+		if (storeNodeModel) {
+			try (OutputStream section = new BufferedOutputStream(
+					sections.newSection(ResourceStorageSections.NODE_MODEL))) {
+				writeNodeModel(resource, section);
+			}
+		}
+	}
+
 	/**
 	 * Write entries into the storage. Overriding methods should first delegate to super before adding their own
 	 * entries.
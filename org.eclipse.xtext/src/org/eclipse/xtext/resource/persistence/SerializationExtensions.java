@@ -20,6 +20,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.naming.QualifiedNameInterning;
 
 /**
  * @since 2.8
@@ -68,7 +69,7 @@ public class SerializationExtensions {
 	@SuppressWarnings("unchecked")
 	public static QualifiedName readQualifiedName(ObjectInput in) throws IOException {
 		try {
-			return QualifiedName.create((List<String>) in.readObject());
+			return QualifiedNameInterning.intern(QualifiedName.create((List<String>) in.readObject()));
 		} catch (IOException | ClassNotFoundException e) {
 			throw new RuntimeException(e);
 		}
@@ -40,7 +40,9 @@ public class StorageAwareResource extends LazyLinkingResource {
 
 	private boolean isLoadedFromStorage = false;
 
-	private IResourceDescription resourceDescription = null;
+	private volatile IResourceDescription resourceDescription = null;
+
+	private volatile ResourceStorageLoadable deferredStorage = null;
 
 	private static final int STACK_TRACE_LIMIT = 10;
 
@@ -115,11 +117,13 @@ public class StorageAwareResource extends LazyLinkingResource {
 	protected void doUnload() {
 		super.doUnload();
 		isLoadedFromStorage = false;
+		deferredStorage = null;
 	}
 
 	@Override
 	protected void clearInternalState() {
 		isLoadedFromStorage = false;
+		deferredStorage = null;
 		super.clearInternalState();
 	}
 
@@ -156,10 +160,40 @@ public class StorageAwareResource extends LazyLinkingResource {
 	}
 
 	public IResourceDescription getResourceDescription() {
+		if (deferredStorage != null) {
+			loadDeferredStorage();
+		}
 		return resourceDescription;
 	}
 
 	public void setResourceDescription(IResourceDescription resourceDescription) {
+		// publish the description before the deferred storage is cleared, readers that see no deferred storage
+		// must see the description
 		this.resourceDescription = resourceDescription;
+		this.deferredStorage = null;
+	}
+
+	/**
+	 * Sets the storage that this resource was loaded from if it was not read completely. The remaining parts are read
+	 * on demand.
+	 * 
+	 * @since 2.35
+	 */
+	protected void setDeferredStorage(ResourceStorageLoadable deferredStorage) {
+		this.deferredStorage = deferredStorage;
+	}
+
+	private synchronized void loadDeferredStorage() {
+		ResourceStorageLoadable storage = deferredStorage;
+		if (storage != null) {
+			try {
+				storage.loadDeferredSections(this);
+			} catch (IOException e) {
+				LOG.warn("Failed to load the resource description of " + uri + " from storage", e); //$NON-NLS-1$
+			} finally {
+				// cleared only now, concurrent readers wait for the lock until the description is loaded
+				deferredStorage = null;
+			}
+		}
 	}
 }
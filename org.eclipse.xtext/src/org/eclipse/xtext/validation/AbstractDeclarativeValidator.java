@@ -8,6 +8,9 @@
  *******************************************************************************/
 package org.eclipse.xtext.validation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -94,6 +97,7 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 		private final String s;
 		private final AbstractDeclarativeValidator instance;
 		private final CheckType checkType;
+		private final MethodHandle handle;
 
 		protected MethodWrapper(AbstractDeclarativeValidator instance, Method m) {
 			this.instance = instance;
@@ -101,6 +105,24 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 			this.s = m.getName() + ":" + m.getParameterTypes()[0].getName();
 			Check annotation = m.getAnnotation(Check.class);
 			checkType = annotation.value();
+			handle = createMethodHandle(instance, m);
+		}
+
+		/**
+		 * Binds the check method to the validator instance. Returns a handle of type {@code (Object)void} or
+		 * <code>null</code> if the method has to be invoked reflectively.
+		 */
+		private static MethodHandle createMethodHandle(AbstractDeclarativeValidator instance, Method method) {
+			if (instance == null || method.getParameterTypes()[0].isPrimitive()) {
+				return null;
+			}
+			try {
+				method.setAccessible(true);
+				return MethodHandles.lookup().unreflect(method).bindTo(instance)
+						.asType(MethodType.methodType(void.class, Object.class));
+			} catch (IllegalAccessException | RuntimeException e) {
+				return null;
+			}
 		}
 
 		@Override
@@ -122,9 +144,17 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 			try {
 				if (!state.checkMode.shouldCheck(checkType))
 					return;
+				state.currentMethod = method;
+				state.currentCheckType = checkType;
+				if (handle != null) {
+					try {
+						handle.invokeExact((Object) state.currentObject);
+					} catch (Throwable e) {
+						handleInvocationTargetException(e, state);
+					}
+					return;
+				}
 				try {
-					state.currentMethod = method;
-					state.currentCheckType = checkType;
 					method.setAccessible(true);
 					method.invoke(instance, state.currentObject);
 				} catch (IllegalArgumentException e) {
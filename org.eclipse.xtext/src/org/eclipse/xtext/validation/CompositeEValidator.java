@@ -37,7 +37,12 @@ public class CompositeEValidator implements EValidator, Cloneable {
 
 	public static final String USE_EOBJECT_VALIDATOR = "org.eclipse.xtext.validation.CompositeEValidator.USE_EOBJECT_VALIDATOR";
 	
-	private List<EValidatorEqualitySupport> contents;
+	private volatile List<EValidatorEqualitySupport> contents;
+
+	/**
+	 * The contents while the defaults are initialized. Guarded by <code>this</code>.
+	 */
+	private List<EValidatorEqualitySupport> initializingContents;
 	
 	private static final Logger logger = Logger.getLogger(CompositeEValidator.class);
 	
@@ -193,11 +198,27 @@ public class CompositeEValidator implements EValidator, Cloneable {
 	}
 
 	public List<EValidatorEqualitySupport> getContents() {
-		if (contents == null) {
-			contents = new ArrayList<EValidatorEqualitySupport>(4);
-			initDefaults();
+		List<EValidatorEqualitySupport> result = contents;
+		if (result == null) {
+			synchronized (this) {
+				result = contents;
+				if (result == null) {
+					if (initializingContents != null) {
+						// the defaults are added by this thread
+						return initializingContents;
+					}
+					initializingContents = new ArrayList<EValidatorEqualitySupport>(4);
+					try {
+						initDefaults();
+						result = initializingContents;
+						contents = result;
+					} finally {
+						initializingContents = null;
+					}
+				}
+			}
 		}
-		return contents;
+		return result;
 	}
 
 	public void setEqualitySupportProvider(Provider<EValidatorEqualitySupport> equalitySupportProvider) {
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.ISynchronizable;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.service.OperationCanceledError;
+import org.eclipse.xtext.service.OperationCanceledManager;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.Exceptions;
+
+import com.google.inject.Inject;
+
+/**
+ * Validates a number of resources concurrently. The resources are validated by their {@link IResourceValidator} on
+ * the threads of the given executor, the issues are reported in the order of the resources.
+ *
+ * Validation of a resource must not modify other resources. Therefore all resources are
+ * {@link #prepare(Resource, CancelIndicator) prepared} on the calling thread before the validation starts, which
+ * resolves their lazy cross references by default. Validators that still load resources, e.g. types from the
+ * classpath, require a resource set that can be accessed concurrently. Resources that are contained in a resource set
+ * that is not {@link ISynchronizable synchronizable} are validated on the calling thread.
+ *
+ * The per-validation state of the {@link CancelableDiagnostician} is kept in the context map of each validation and
+ * the state of the {@link AbstractDeclarativeValidator} is thread local, so both are isolated per thread.
+ *
+ * @since 2.35
+ */
+public class ParallelResourceValidator {
+
+	@Inject
+	private IResourceServiceProvider.Registry registry;
+
+	@Inject
+	private OperationCanceledManager operationCanceledManager;
+
+	/**
+	 * Validates the given resources with the resource validator of their language.
+	 */
+	public Map<Resource, List<Issue>> validate(List<? extends Resource> resources, CheckMode mode,
+			CancelIndicator cancelIndicator, Executor executor) throws OperationCanceledError {
+		return validate(resources, this::getResourceValidator, mode, cancelIndicator, executor);
+	}
+
+	/**
+	 * Validates the given resources with the given resource validators.
+	 *
+	 * @return the issues per resource, in the order of the given resources.
+	 */
+	public Map<Resource, List<Issue>> validate(List<? extends Resource> resources,
+			Function<? super Resource, ? extends IResourceValidator> validators, CheckMode mode,
+			CancelIndicator cancelIndicator, Executor executor) throws OperationCanceledError {
+		CancelIndicator monitor = cancelIndicator == null ? CancelIndicator.NullImpl : cancelIndicator;
+		List<IResourceValidator> resourceValidators = new ArrayList<>(resources.size());
+		List<Integer> concurrent = new ArrayList<>(resources.size());
+		List<Integer> sequential = new ArrayList<>();
+		for (int i = 0; i < resources.size(); i++) {
+			Resource resource = resources.get(i);
+			operationCanceledManager.checkCanceled(monitor);
+			prepare(resource, monitor);
+			resourceValidators.add(validators.apply(resource));
+			if (executor != null && canValidateConcurrently(resource)) {
+				concurrent.add(i);
+			} else {
+				sequential.add(i);
+			}
+		}
+		AtomicReferenceArray<List<Issue>> issues = new AtomicReferenceArray<>(resources.size());
+		if (concurrent.size() == 1) {
+			sequential.addAll(concurrent);
+			concurrent.clear();
+		}
+		AtomicBoolean failed = new AtomicBoolean();
+		CompletableFuture<Void> concurrentValidation = validateConcurrently(resources, resourceValidators, concurrent,
+				issues, mode, monitor, executor, failed);
+		try {
+			for (int i : sequential) {
+				issues.set(i, validate(resources.get(i), resourceValidators.get(i), mode, monitor));
+			}
+		} catch (RuntimeException | Error e) {
+			failed.set(true);
+			try {
+				concurrentValidation.join();
+			} catch (CompletionException ignored) {
+				// report the first failure
+			}
+			throw e;
+		}
+		try {
+			concurrentValidation.join();
+		} catch (CompletionException e) {
+			Exceptions.throwUncheckedException(e.getCause());
+		}
+		Map<Resource, List<Issue>> result = new LinkedHashMap<>();
+		for (int i = 0; i < resources.size(); i++) {
+			result.put(resources.get(i), issues.get(i));
+		}
+		return result;
+	}
+
+	/**
+	 * Starts up to {@link #getParallelism()} workers. Each worker takes the next resource that is not yet validated
+	 * until all resources are done, the validation failed, or the validation was canceled.
+	 */
+	private CompletableFuture<Void> validateConcurrently(List<? extends Resource> resources,
+			List<IResourceValidator> resourceValidators, List<Integer> indices,
+			AtomicReferenceArray<List<Issue>> issues, CheckMode mode, CancelIndicator monitor, Executor executor,
+			AtomicBoolean failed) {
+		if (indices.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		AtomicInteger next = new AtomicInteger();
+		int workers = Math.min(indices.size(), getParallelism());
+		List<CompletableFuture<?>> futures = new ArrayList<>(workers);
+		for (int w = 0; w < workers; w++) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				int current;
+				while (!failed.get() && (current = next.getAndIncrement()) < indices.size()) {
+					int i = indices.get(current);
+					try {
+						issues.set(i, validate(resources.get(i), resourceValidators.get(i), mode, monitor));
+					} catch (RuntimeException | Error e) {
+						failed.set(true);
+						throw e;
+					}
+				}
+			}, executor));
+		}
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+	}
+
+	protected List<Issue> validate(Resource resource, IResourceValidator resourceValidator, CheckMode mode,
+			CancelIndicator monitor) {
+		operationCanceledManager.checkCanceled(monitor);
+		if (resourceValidator == null) {
+			return Collections.emptyList();
+		}
+		return resourceValidator.validate(resource, mode, monitor);
+	}
+
+	/**
+	 * Prepares a resource for validation on the calling thread. Resolves the lazy cross references of the resource by
+	 * default, such that the validation does not have to load other resources.
+	 */
+	protected void prepare(Resource resource, CancelIndicator monitor) {
+		EcoreUtil2.resolveLazyCrossReferences(resource, monitor);
+	}
+
+	/**
+	 * Whether the given resource may be validated concurrently to the other resources.
+	 */
+	protected boolean canValidateConcurrently(Resource resource) {
+		ResourceSet resourceSet = resource.getResourceSet();
+		return resourceSet == null || resourceSet instanceof ISynchronizable<?>;
+	}
+
+	/**
+	 * The maximum number of resources that are validated at the same time.
+	 */
+	protected int getParallelism() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	protected IResourceValidator getResourceValidator(Resource resource) {
+		IResourceServiceProvider resourceServiceProvider = null;
+		if (resource instanceof XtextResource) {
+			resourceServiceProvider = ((XtextResource) resource).getResourceServiceProvider();
+		}
+		if (resourceServiceProvider == null) {
+			resourceServiceProvider = registry.getResourceServiceProvider(resource.getURI());
+		}
+		if (resourceServiceProvider == null) {
+			return null;
+		}
+		return resourceServiceProvider.getResourceValidator();
+	}
+
+}